@@ -1,6 +1,7 @@
 package edu.hitsz.aircraft;
 
 import edu.hitsz.bullet.BaseBullet;
+import edu.hitsz.bullet.BulletSink;
 import edu.hitsz.basic.AbstractFlyingObject;
 import edu.hitsz.shoot.ShootStrategy;
 
@@ -50,6 +51,17 @@ public abstract class AbstractAircraft extends AbstractFlyingObject {
         this.shootStrategy = shootStrategy;
     }
 
+    public ShootStrategy getShootStrategy() {
+        return shootStrategy;
+    }
+
+    /**
+     * 被炸弹炸毁时获得的分数，不被炸弹炸毁的飞机为 0
+     */
+    public int getBombScore() {
+        return 0;
+    }
+
     /**
      * 飞机射击方法，使用策略模式
      * @return 子弹列表
@@ -61,4 +73,15 @@ public abstract class AbstractAircraft extends AbstractFlyingObject {
         return shootStrategy.shoot(this);
     }
 
+    /**
+     * 飞机射击方法，子弹直接写入接收方
+     * @param sink 子弹接收方
+     */
+    public void shootInto(BulletSink sink) {
+        if (shootStrategy == null) {
+            throw new IllegalStateException("射击策略未设置");
+        }
+        shootStrategy.shootInto(this, sink);
+    }
+
 }
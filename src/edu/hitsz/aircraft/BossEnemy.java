@@ -1,11 +1,12 @@
 package edu.hitsz.aircraft;
 
-import edu.hitsz.shoot.CircleShootStrategy;
+import edu.hitsz.shoot.BulletPattern;
+import edu.hitsz.shoot.PatternShootStrategy;
 import edu.hitsz.observer.Observer;
 
 /**
  * Boss敌机
- * 实现环射弹道：同时发射20颗子弹，呈环形
+ * 实现环射弹道：同时发射20颗子弹，呈环形，相邻两轮错开半个间隔
  * 悬浮于界面上方左右移动
  *
  * @author hitsz
@@ -17,18 +18,26 @@ public class BossEnemy extends AbstractAircraft implements Observer {
      */
     private static int bossCount = 0;
 
+    /**
+     * 环射弹幕：20颗子弹，速度6，每轮旋转9度（半个间隔），两轮一循环
+     */
+    private static final BulletPattern VOLLEY = BulletPattern.builder()
+            .ring(20, 6)
+            .rotateEachVolley(9, 2)
+            .build();
+
     private int score = 100;
 
     public BossEnemy(int locationX, int locationY, int speedX, int speedY, int hp) {
         super(locationX, locationY, speedX, speedY, hp);
-        // 初始化为环射策略：20颗子弹，威力20（降低伤害避免英雄机瞬间死亡）
-        this.shootStrategy = new CircleShootStrategy(20, 20);
+        // 初始化为环射弹幕：20颗子弹，威力20（降低伤害避免英雄机瞬间死亡）
+        this.shootStrategy = new PatternShootStrategy(VOLLEY, 20);
         bossCount++;
     }
 
     @Override
-    public void forward() {
-        super.forward();
+    public void forward(int elapsedMillis) {
+        super.forward(elapsedMillis);
 
         // Boss机悬浮于界面上方，只做左右移动
         // 当触碰边界时会自动反向（在AbstractFlyingObject中已实现）
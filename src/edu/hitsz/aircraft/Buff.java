@@ -0,0 +1,42 @@
+package edu.hitsz.aircraft;
+
+import edu.hitsz.shoot.ShootStrategy;
+
+/**
+ * 限时增益
+ * 在持续时间内以指定射击策略替换英雄机的射击策略；多个增益同时生效时优先级高者决定射击策略
+ *
+ * @author hitsz
+ */
+public final class Buff {
+
+    private final ShootStrategy shootStrategy;
+
+    /**
+     * 优先级，数值大者优先；优先级相同时后获得者优先
+     */
+    private final int priority;
+
+    /**
+     * 持续时间(ms)
+     */
+    private final int durationMillis;
+
+    public Buff(ShootStrategy shootStrategy, int priority, int durationMillis) {
+        this.shootStrategy = shootStrategy;
+        this.priority = priority;
+        this.durationMillis = durationMillis;
+    }
+
+    public ShootStrategy getShootStrategy() {
+        return shootStrategy;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+}
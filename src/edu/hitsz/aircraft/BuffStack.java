@@ -0,0 +1,219 @@
+package edu.hitsz.aircraft;
+
+import edu.hitsz.shoot.ShootStrategy;
+
+import java.util.Arrays;
+
+/**
+ * 增益栈
+ * 生效中的增益同时存放在两个二叉堆中：按到期时间排列的最小堆与按优先级排列的最大堆。
+ * 到期时间由英雄机在游戏时间轮上调度，到期任务执行时从最小堆堆顶移除到期的增益；
+ * 优先级堆采用延迟删除，到期的增益只在浮到堆顶时移除。
+ * 生效的射击策略只在增益增加或到期时重新计算，射击时直接使用，
+ * 因此增加或移除一个增益为 O(log n)，没有增益到期的时刻不访问增益栈
+ *
+ * @author hitsz
+ */
+public class BuffStack {
+
+    /**
+     * 生效中的增益
+     */
+    private static final class Entry {
+        private final Buff buff;
+        private final long expiryMillis;
+        private final long sequence;
+        private boolean expired = false;
+
+        private Entry(Buff buff, long expiryMillis, long sequence) {
+            this.buff = buff;
+            this.expiryMillis = expiryMillis;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * 到期时间最小堆，只含未到期的增益
+     */
+    private Entry[] byExpiry = new Entry[8];
+    private int expirySize = 0;
+
+    /**
+     * 优先级最大堆，可能含有尚未浮到堆顶的已到期增益
+     */
+    private Entry[] byPriority = new Entry[8];
+    private int prioritySize = 0;
+
+    private long sequence = 0;
+
+    /**
+     * 没有增益时的射击策略
+     */
+    private ShootStrategy baseStrategy;
+
+    /**
+     * 当前生效的射击策略
+     */
+    private ShootStrategy effectiveStrategy;
+
+    public BuffStack(ShootStrategy baseStrategy) {
+        this.baseStrategy = baseStrategy;
+        this.effectiveStrategy = baseStrategy;
+    }
+
+    /**
+     * 增加增益
+     * @param buff      增益
+     * @param nowMillis 当前游戏时间(ms)
+     */
+    public void add(Buff buff, long nowMillis) {
+        Entry entry = new Entry(buff, nowMillis + buff.getDurationMillis(), sequence++);
+        if (expirySize == byExpiry.length) {
+            byExpiry = Arrays.copyOf(byExpiry, expirySize * 2);
+        }
+        byExpiry[expirySize] = entry;
+        siftUpByExpiry(expirySize++);
+        if (prioritySize == byPriority.length) {
+            byPriority = Arrays.copyOf(byPriority, prioritySize * 2);
+        }
+        byPriority[prioritySize] = entry;
+        siftUpByPriority(prioritySize++);
+        updateEffective();
+    }
+
+    /**
+     * 移除到期（到期时间不晚于当前时间）的增益，在增益的到期任务中调用
+     * @param nowMillis 当前游戏时间(ms)
+     * @return 生效的射击策略是否改变
+     */
+    public boolean expire(long nowMillis) {
+        if (expirySize == 0 || byExpiry[0].expiryMillis > nowMillis) {
+            return false;
+        }
+        while (expirySize > 0 && byExpiry[0].expiryMillis <= nowMillis) {
+            byExpiry[0].expired = true;
+            byExpiry[0] = byExpiry[--expirySize];
+            byExpiry[expirySize] = null;
+            siftDownByExpiry(0);
+        }
+        // 延迟删除的增益过多时重建优先级堆，使其大小与生效增益数同阶
+        if (prioritySize > expirySize * 2 + 8) {
+            rebuildByPriority();
+        }
+        ShootStrategy before = effectiveStrategy;
+        updateEffective();
+        return before != effectiveStrategy;
+    }
+
+    /**
+     * 设置没有增益时的射击策略
+     */
+    public void setBaseStrategy(ShootStrategy baseStrategy) {
+        this.baseStrategy = baseStrategy;
+        updateEffective();
+    }
+
+    public ShootStrategy getEffectiveStrategy() {
+        return effectiveStrategy;
+    }
+
+    /**
+     * 生效中的增益数
+     */
+    public int size() {
+        return expirySize;
+    }
+
+    private void updateEffective() {
+        while (prioritySize > 0 && byPriority[0].expired) {
+            byPriority[0] = byPriority[--prioritySize];
+            byPriority[prioritySize] = null;
+            siftDownByPriority(0);
+        }
+        effectiveStrategy = prioritySize > 0 ? byPriority[0].buff.getShootStrategy() : baseStrategy;
+    }
+
+    private void rebuildByPriority() {
+        byPriority = Arrays.copyOf(byExpiry, Math.max(8, byExpiry.length));
+        prioritySize = expirySize;
+        for (int i = prioritySize / 2 - 1; i >= 0; i--) {
+            siftDownByPriority(i);
+        }
+    }
+
+    private static boolean expiresBefore(Entry a, Entry b) {
+        return a.expiryMillis < b.expiryMillis || (a.expiryMillis == b.expiryMillis && a.sequence < b.sequence);
+    }
+
+    private static boolean outranks(Entry a, Entry b) {
+        int pa = a.buff.getPriority();
+        int pb = b.buff.getPriority();
+        return pa > pb || (pa == pb && a.sequence > b.sequence);
+    }
+
+    private void siftUpByExpiry(int i) {
+        Entry entry = byExpiry[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!expiresBefore(entry, byExpiry[parent])) {
+                break;
+            }
+            byExpiry[i] = byExpiry[parent];
+            i = parent;
+        }
+        byExpiry[i] = entry;
+    }
+
+    private void siftDownByExpiry(int i) {
+        if (i >= expirySize) {
+            return;
+        }
+        Entry entry = byExpiry[i];
+        int half = expirySize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < expirySize && expiresBefore(byExpiry[child + 1], byExpiry[child])) {
+                child++;
+            }
+            if (!expiresBefore(byExpiry[child], entry)) {
+                break;
+            }
+            byExpiry[i] = byExpiry[child];
+            i = child;
+        }
+        byExpiry[i] = entry;
+    }
+
+    private void siftUpByPriority(int i) {
+        Entry entry = byPriority[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!outranks(entry, byPriority[parent])) {
+                break;
+            }
+            byPriority[i] = byPriority[parent];
+            i = parent;
+        }
+        byPriority[i] = entry;
+    }
+
+    private void siftDownByPriority(int i) {
+        if (i >= prioritySize) {
+            return;
+        }
+        Entry entry = byPriority[i];
+        int half = prioritySize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < prioritySize && outranks(byPriority[child + 1], byPriority[child])) {
+                child++;
+            }
+            if (!outranks(byPriority[child], entry)) {
+                break;
+            }
+            byPriority[i] = byPriority[child];
+            i = child;
+        }
+        byPriority[i] = entry;
+    }
+}
@@ -21,11 +21,11 @@ public class EliteEnemy extends AbstractAircraft implements Observer {
     }
 
     @Override
-    public void forward() {
-        super.forward();
+    public void forward(int elapsedMillis) {
+        super.forward(elapsedMillis);
 
         // 判定 y 轴向下飞行出界
-        if (locationY >= Main.WINDOW_HEIGHT) {
+        if (getLocationY() >= Main.WINDOW_HEIGHT) {
             vanish();
         }
     }
@@ -36,6 +36,11 @@ public class EliteEnemy extends AbstractAircraft implements Observer {
         vanish();
     }
 
+    @Override
+    public int getBombScore() {
+        return 50;
+    }
+
     public int getScore() {
         return score;
     }
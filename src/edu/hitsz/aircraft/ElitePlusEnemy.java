@@ -25,4 +25,10 @@ public class ElitePlusEnemy extends EliteEnemy {
         // 炸弹爆炸时，超级精英敌机血量减少
         decreaseHp(damage);
     }
+
+    @Override
+    public int getBombScore() {
+        // 炸弹只使超级精英敌机减血，不一定将其炸毁，不计分
+        return 0;
+    }
 }
@@ -1,10 +1,12 @@
 package edu.hitsz.aircraft;
 
+import edu.hitsz.basic.TimingWheel;
+import edu.hitsz.shoot.ShootStrategy;
 import edu.hitsz.shoot.StraightShootStrategy;
 
 /**
  * 英雄飞机，游戏玩家操控
- * 采用单例模式，确保游戏中只有一个英雄机实例
+ * 采用单例模式，确保游戏中只有一个英雄机实例；游戏世界通过 {@link #create} 持有各自的英雄机
  * @author hitsz
  */
 public class HeroAircraft extends AbstractAircraft {
@@ -14,6 +16,11 @@ public class HeroAircraft extends AbstractAircraft {
      */
     private static HeroAircraft instance = null;
 
+    /**
+     * 生效中的限时增益，射击策略由增益栈决定
+     */
+    private final BuffStack buffs;
+
     /**
      * 私有构造函数，防止外部实例化
      * @param locationX 英雄机位置x坐标
@@ -24,8 +31,15 @@ public class HeroAircraft extends AbstractAircraft {
      */
     private HeroAircraft(int locationX, int locationY, int speedX, int speedY, int hp) {
         super(locationX, locationY, speedX, speedY, hp);
-        // 初始化为直线射击策略：1颗子弹，威力30，向上发射（direction=-1）
-        this.shootStrategy = new StraightShootStrategy(1, 30, -1);
+        this.buffs = new BuffStack(defaultShootStrategy());
+        this.shootStrategy = buffs.getEffectiveStrategy();
+    }
+
+    /**
+     * 默认射击策略：直射，1颗子弹，威力30，向上发射（direction=-1）
+     */
+    private static ShootStrategy defaultShootStrategy() {
+        return new StraightShootStrategy(1, 30, -1);
     }
 
     /**
@@ -57,7 +71,20 @@ public class HeroAircraft extends AbstractAircraft {
     }
 
     /**
-     * 重置单例实例（仅用于测试）
+     * 创建独立于单例的英雄机，供每个游戏世界持有自己的英雄机，多个游戏世界可以并发创建
+     * @param locationX 英雄机位置x坐标
+     * @param locationY 英雄机位置y坐标
+     * @param speedX 英雄机射出的子弹的基准速度
+     * @param speedY 英雄机射出的子弹的基准速度
+     * @param hp 初始生命值
+     * @return 新的HeroAircraft实例
+     */
+    public static HeroAircraft create(int locationX, int locationY, int speedX, int speedY, int hp) {
+        return new HeroAircraft(locationX, locationY, speedX, speedY, hp);
+    }
+
+    /**
+     * 重置单例实例（用于测试）
      * 将单例实例设置为null，允许重新创建实例
      */
     public static synchronized void resetInstance() {
@@ -65,11 +92,46 @@ public class HeroAircraft extends AbstractAircraft {
     }
 
     @Override
-    public void forward() {
+    public void forward(int elapsedMillis) {
         // 英雄机由鼠标控制，不通过forward函数移动
         // 不执行父类的forward逻辑，避免边界反向导致的异常移动
     }
 
+    /**
+     * 设置没有增益时的射击策略，增益生效期间仍使用增益的射击策略
+     */
+    @Override
+    public void setShootStrategy(ShootStrategy shootStrategy) {
+        buffs.setBaseStrategy(shootStrategy);
+        this.shootStrategy = buffs.getEffectiveStrategy();
+    }
+
+    /**
+     * 获得限时增益，多个增益同时生效时按优先级决定射击策略。
+     * 增益的到期由时间轮负责：在时间轮上调度一个到期任务，任务执行时从增益栈中移除到期的增益
+     * @param buff        增益
+     * @param timingWheel 游戏时间轮，提供当前游戏时间并调度到期
+     */
+    public void addBuff(Buff buff, TimingWheel timingWheel) {
+        buffs.add(buff, timingWheel.getTime());
+        this.shootStrategy = buffs.getEffectiveStrategy();
+        timingWheel.schedule(() -> expireBuffs(timingWheel.getTime()), buff.getDurationMillis());
+    }
+
+    /**
+     * 移除到期的增益，由增益的到期任务调用
+     * @param nowMillis 当前游戏时间(ms)
+     */
+    private void expireBuffs(long nowMillis) {
+        if (buffs.expire(nowMillis)) {
+            this.shootStrategy = buffs.getEffectiveStrategy();
+        }
+    }
+
+    public BuffStack getBuffs() {
+        return buffs;
+    }
+
     /**
      * 获取最大血量
      * @return 最大血量
@@ -21,10 +21,10 @@ public class MobEnemy extends AbstractAircraft implements Observer {
     }
 
     @Override
-    public void forward() {
-        super.forward();
+    public void forward(int elapsedMillis) {
+        super.forward(elapsedMillis);
         // 判定 y 轴向下飞行出界
-        if (locationY >= Main.WINDOW_HEIGHT) {
+        if (getLocationY() >= Main.WINDOW_HEIGHT) {
             vanish();
         }
     }
@@ -35,6 +35,11 @@ public class MobEnemy extends AbstractAircraft implements Observer {
         vanish();
     }
 
+    @Override
+    public int getBombScore() {
+        return 10;
+    }
+
     public int getScore() {
         return score;
     }
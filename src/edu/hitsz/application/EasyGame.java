@@ -1,6 +1,8 @@
 package edu.hitsz.application;
 
 import edu.hitsz.aircraft.*;
+import edu.hitsz.collision.CollisionEngineType;
+import edu.hitsz.render.SpriteType;
 
 /**
  * 简单模式游戏
@@ -13,10 +15,14 @@ import edu.hitsz.aircraft.*;
  * - 精英敌机概率低（20%）
  * - 难度不随时间增加
  */
-public class EasyGame extends AbstractGame {
+public class EasyGame extends GameWorld {
 
-    public EasyGame(String difficulty, boolean soundEnabled) {
-        super(difficulty, soundEnabled);
+    public EasyGame(String difficulty, long seed) {
+        super(difficulty, seed);
+    }
+
+    public EasyGame(String difficulty, long seed, boolean verbose) {
+        super(difficulty, seed, verbose);
     }
 
     @Override
@@ -32,30 +38,31 @@ public class EasyGame extends AbstractGame {
         this.eliteEnemySpeed = 6;              // 精英敌机速度：6
         this.bossScoreThreshold = 0;           // 无Boss（阈值设为0表示不产生Boss）
         this.initialBossHp = 0;                // 无Boss
+        this.collisionEngineType = CollisionEngineType.BRUTE_FORCE;  // 碰撞检测：敌机最多3个，逐对检测最快
     }
 
     @Override
     protected void generateEnemy() {
         // 随机产生普通敌机或精英敌机
-        if (Math.random() < (1 - eliteProbability)) {
+        if (random.nextDouble() < (1 - eliteProbability)) {
             // 80%概率产生普通敌机
-            int mobEnemyWidth = ImageManager.MOB_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
+            int mobEnemyWidth = SpriteType.MOB_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
             enemyAircrafts.add(mobEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
                     0,
                     mobEnemySpeed,
                     mobEnemyHp
             ));
         } else {
             // 20%概率产生精英敌机
-            int eliteEnemyWidth = ImageManager.ELITE_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
+            int eliteEnemyWidth = SpriteType.ELITE_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
             enemyAircrafts.add(eliteEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
-                    (int) (Math.random() * 4 - 2),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * 4 - 2),
                     eliteEnemySpeed,
                     eliteEnemyHp
             ));
@@ -65,7 +72,7 @@ public class EasyGame extends AbstractGame {
     @Override
     protected void generateBoss() {
         // 简单模式无Boss敌机
-        System.out.println("简单模式无Boss敌机");
+        log("简单模式无Boss敌机");
     }
 
     @Override
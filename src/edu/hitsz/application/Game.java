@@ -1,8 +1,12 @@
 package edu.hitsz.application;
 
 import edu.hitsz.aircraft.*;
+import edu.hitsz.audio.AudioMixer;
+import edu.hitsz.audio.Music;
+import edu.hitsz.audio.Sound;
 import edu.hitsz.bullet.BaseBullet;
 import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.basic.TimingWheel;
 import edu.hitsz.prop.*;
 import edu.hitsz.observer.Observer;
 import edu.hitsz.dao.ScoreDao;
@@ -42,6 +46,11 @@ public class Game extends JPanel {
     private final List<BaseBullet> enemyBullets;
     private final List<AbstractProp> props;
 
+    /**
+     * 游戏时间轮，作为限时增益的游戏时钟
+     */
+    private final TimingWheel timingWheel = new TimingWheel(timeInterval, 128);
+
     /**
      * 敌机工厂
      */
@@ -122,14 +131,6 @@ public class Game extends JPanel {
      * 音效是否开启
      */
     private boolean soundEnabled = true;
-    /**
-     * 背景音乐线程
-     */
-    private MusicThread bgmThread;
-    /**
-     * Boss背景音乐线程
-     */
-    private MusicThread bossBgmThread;
 
     public Game(String difficulty, boolean soundEnabled) {
         this.difficulty = difficulty;
@@ -174,8 +175,7 @@ public class Game extends JPanel {
         new HeroController(this, heroAircraft);
         // 如果音效开启，播放背景音乐
         if (soundEnabled) {
-            bgmThread = new MusicThread("src/videos/bgm.wav", true);
-            bgmThread.start();
+            AudioMixer.getInstance().playMusic(Music.NORMAL);
         }
 
     }
@@ -189,6 +189,7 @@ public class Game extends JPanel {
         Runnable task = () -> {
 
             time += timeInterval;
+            timingWheel.advance(timeInterval);
 
             // 周期性执行（控制频率）
             if (timeCountAndNewCycleJudge()) {
@@ -280,16 +281,10 @@ public class Game extends JPanel {
      * 游戏结束处理
      */
     private void gameOver() {
-        // 停止背景音乐和Boss音乐
-        if (bgmThread != null) {
-            bgmThread.stopMusic();
-        }
-        if (bossBgmThread != null) {
-            bossBgmThread.stopMusic();
-        }
-        // 如果音效开启，播放游戏结束音效
+        // 停止背景音乐，如果音效开启，播放游戏结束音效
         if (soundEnabled) {
-            new MusicThread("src/videos/game_over.wav").start();
+            AudioMixer.getInstance().stopMusic();
+            AudioMixer.getInstance().play(Sound.GAME_OVER);
         }
         // 显示排行榜界面
         SwingUtilities.invokeLater(() -> {
@@ -343,11 +338,7 @@ public class Game extends JPanel {
         System.out.println("Boss出现！当前分数：" + score);
         // Boss 出场，停止普通背景音乐，播放 Boss 背景音乐
         if (soundEnabled) {
-            if (bgmThread != null) {
-                bgmThread.stopMusic();
-            }
-            bossBgmThread = new MusicThread("src/videos/bgm_boss.wav", true);
-            bossBgmThread.start();
+            AudioMixer.getInstance().playMusic(Music.BOSS);
         }
         // Boss机悬浮于界面上方左右移动
         int locationX = Main.WINDOW_WIDTH / 2;
@@ -455,7 +446,7 @@ public class Game extends JPanel {
                     if (enemyAircraft.notValid()) {
                         // 播放子弹击中音效
                         if (soundEnabled) {
-                            new MusicThread("src/videos/bullet_hit.wav").start();
+                            AudioMixer.getInstance().play(Sound.BULLET_HIT);
                         }
                         // 敌机被击毁，获得分数，产生道具补给
                         if (enemyAircraft instanceof BossEnemy) {
@@ -465,11 +456,7 @@ public class Game extends JPanel {
                             bossExists = false;
                             // Boss被击毁，停止Boss音乐，恢复普通背景音乐
                             if (soundEnabled) {
-                                if (bossBgmThread != null) {
-                                    bossBgmThread.stopMusic();
-                                }
-                                bgmThread = new MusicThread("src/videos/bgm.wav", true);
-                                bgmThread.start();
+                                AudioMixer.getInstance().playMusic(Music.NORMAL);
                             }
                             // Boss必定掉落3个道具
                             generateBossProp(enemyAircraft.getLocationX(), enemyAircraft.getLocationY());
@@ -499,35 +486,32 @@ public class Game extends JPanel {
             if (heroAircraft.crash(prop)) {
                 // 道具生效音效
                 if (soundEnabled) {
-                    new MusicThread("src/videos/get_supply.wav").start();
+                    AudioMixer.getInstance().play(Sound.GET_SUPPLY);
                 }
                 // 道具生效
-                // 如果是炸弹道具，需要先注册观察者
                 if (prop instanceof BombProp) {
                     BombProp bombProp = (BombProp) prop;
-                    // 注册所有敌机为观察者
+                    // 播放炸弹爆炸音效
+                    if (soundEnabled) {
+                        AudioMixer.getInstance().play(Sound.BOMB_EXPLOSION);
+                    }
+                    // 道具生效，获得被炸毁敌机的分数
+                    int bombScore = 0;
                     for (AbstractAircraft enemyAircraft : enemyAircrafts) {
-                        if (!enemyAircraft.notValid() && enemyAircraft instanceof Observer) {
-                            bombProp.registerObserver((Observer) enemyAircraft);
+                        if (bombProp.inBlast(enemyAircraft)) {
+                            bombScore += bombProp.blast(enemyAircraft);
                         }
                     }
-                    // 注册所有敌机子弹为观察者
                     for (BaseBullet enemyBullet : enemyBullets) {
-                        if (!enemyBullet.notValid() && enemyBullet instanceof Observer) {
-                            bombProp.registerObserver((Observer) enemyBullet);
+                        if (enemyBullet instanceof Observer) {
+                            ((Observer) enemyBullet).update();
                         }
                     }
-                    // 播放炸弹爆炸音效
-                    if (soundEnabled) {
-                        new MusicThread("src/videos/bomb_explosion.wav").start();
-                    }
-                    // 道具生效，获得被炸毁敌机的分数
-                    int bombScore = bombProp.notifyObservers();
                     score += bombScore;
                     System.out.println("炸弹爆炸！获得 " + bombScore + " 分");
                 } else {
                     // 其他道具直接生效
-                    prop.activate(heroAircraft);
+                    prop.activate(heroAircraft, timingWheel);
                 }
                 prop.vanish();
             }
@@ -0,0 +1,312 @@
+package edu.hitsz.application;
+
+import edu.hitsz.audio.AudioMixer;
+import edu.hitsz.audio.Music;
+import edu.hitsz.audio.Sound;
+import edu.hitsz.event.GameEventBus;
+import edu.hitsz.event.GameEventHandler;
+import edu.hitsz.event.GameEventLogger;
+import edu.hitsz.render.BackgroundLayer;
+import edu.hitsz.render.DirtyRectRenderer;
+import edu.hitsz.render.HudLayer;
+import edu.hitsz.render.RenderSnapshot;
+import edu.hitsz.render.SpriteType;
+import edu.hitsz.render.SnapshotExchange;
+import edu.hitsz.render.SnapshotRenderer;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 游戏界面
+ * 按实际时间固定频率推进游戏世界，并负责鼠标控制、音效、绘制与结束后的排行榜。
+ * <br>
+ * 采用主动渲染：专用渲染线程按固定节奏在 {@link BufferStrategy} 的后台缓冲区中绘制并翻转，
+ * 不经过 repaint() 与事件分派线程，帧不会被 Swing 合并或推迟。
+ * 低功耗显示设备可通过系统属性 aircraftwar.dirtyRects=true 改用 {@link DirtyRectRenderer}，
+ * 每帧只重绘并复制变化的区域
+ *
+ * @author hitsz
+ */
+public class GamePanel extends Canvas implements GameEventHandler {
+
+    private static final long serialVersionUID = 1L;
+
+    private final GameWorld world;
+
+    /**
+     * Scheduled 线程池，用于任务调度
+     */
+    private final ScheduledExecutorService executorService;
+
+    /**
+     * 渲染间隔(ms)，与模拟时刻无关，默认约 60 帧每秒。
+     * 可通过系统属性 aircraftwar.renderMillis 调整
+     */
+    private final int renderInterval = Integer.getInteger("aircraftwar.renderMillis", 16);
+
+    /**
+     * 缓冲区个数（含前台缓冲区），可通过系统属性 aircraftwar.buffers 在 2、3 之间选择
+     */
+    private final int bufferCount = Math.max(2, Math.min(3, Integer.getInteger("aircraftwar.buffers", 3)));
+
+    /**
+     * 模拟线程每个时刻末尾发布渲染快照，渲染线程按渲染间隔取最新快照插值绘制，
+     * 两个线程只通过快照交换通信，绘制时不访问游戏对象
+     */
+    private final SnapshotExchange snapshots = new SnapshotExchange();
+    private final SnapshotRenderer snapshotRenderer = new SnapshotRenderer();
+    private final BackgroundLayer background;
+
+    /**
+     * 脏矩形渲染器，未启用时为 null。
+     * 启用时背景滚动按系统属性 aircraftwar.scrollStep（默认 32 像素）量化
+     */
+    private final DirtyRectRenderer dirtyRenderer = Boolean.getBoolean("aircraftwar.dirtyRects")
+            ? new DirtyRectRenderer(snapshotRenderer, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT,
+                    Integer.getInteger("aircraftwar.scrollStep", 32))
+            : null;
+
+    /**
+     * 得分与生命值显示层，数值变化时才重新拼出图片
+     */
+    private final HudLayer hud = new HudLayer();
+
+    /**
+     * 渲染线程是否继续运行，游戏结束时绘制最后一帧后停止
+     */
+    private volatile boolean rendering = false;
+
+    /**
+     * 游戏事件读取方：音效与日志在渲染线程中读取，模拟线程发布事件后不等待
+     */
+    private final GameEventBus.Reader soundEvents;
+    private final GameEventBus.Reader logEvents;
+    private final GameEventLogger eventLogger = new GameEventLogger();
+
+    /**
+     * 音效与背景音乐混音器，音效关闭时为 null
+     */
+    private final AudioMixer mixer;
+
+    public GamePanel(GameWorld world, boolean soundEnabled) {
+        this.world = world;
+        this.mixer = soundEnabled ? AudioMixer.getInstance() : null;
+        soundEvents = world.getEvents().newReader();
+        logEvents = world.getEvents().newReader();
+
+        // 根据难度设置背景图
+        ImageManager.setBackgroundImage(world.getDifficulty());
+        background = new BackgroundLayer(ImageManager.BACKGROUND_IMAGE);
+
+        // 画面全部由渲染线程绘制，忽略系统的重绘请求；脏矩形模式下系统重绘请求只标记下一帧整屏重绘
+        setIgnoreRepaint(dirtyRenderer == null);
+        setPreferredSize(new Dimension(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT));
+
+        this.executorService = new ScheduledThreadPoolExecutor(1,
+                new BasicThreadFactory.Builder().namingPattern("game-action-%d").daemon(true).build());
+
+        // 启动英雄机鼠标监听
+        new HeroController(this, world.getHeroAircraft());
+
+        // 如果音效开启，播放背景音乐
+        playMusic(Music.NORMAL);
+    }
+
+    /**
+     * 游戏启动入口，按时刻长度固定频率推进游戏世界，渲染由独立的渲染线程驱动。
+     * 须在窗口显示后调用
+     */
+    public final void action() {
+        Runnable task = () -> {
+            world.step();
+
+            // 发布渲染快照，由渲染线程绘制
+            world.writeSnapshot(snapshots.beginWrite());
+            snapshots.publish();
+
+            if (world.isGameOver()) {
+                // 结束音效与排行榜由渲染线程读取游戏结束事件后处理
+                executorService.shutdown();
+            }
+        };
+
+        int timeInterval = world.getTimeInterval();
+        executorService.scheduleAtFixedRate(task, timeInterval, timeInterval, TimeUnit.MILLISECONDS);
+
+        if (dirtyRenderer == null) {
+            createBufferStrategy(bufferCount);
+        }
+        rendering = true;
+        Thread renderThread = new Thread(this::renderLoop, "game-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    /**
+     * 渲染线程：读取游戏事件，绘制一帧，再等到下一帧的预定时刻。
+     * 预定时刻按渲染间隔累加，绘制耗时不会累积为帧间隔漂移；落后超过一帧时不追赶，从当前时刻重新计时
+     */
+    private void renderLoop() {
+        long frameNanos = TimeUnit.MILLISECONDS.toNanos(renderInterval);
+        long deadline = System.nanoTime();
+        while (rendering) {
+            logEvents.poll(eventLogger);
+            soundEvents.poll(this);
+            renderFrame();
+
+            deadline += frameNanos;
+            long now = System.nanoTime();
+            if (now - deadline > frameNanos) {
+                deadline = now;
+            }
+            while ((now = System.nanoTime()) < deadline) {
+                LockSupport.parkNanos(deadline - now);
+            }
+        }
+        // 游戏结束后保留最后一帧
+        renderFrame();
+    }
+
+    /**
+     * 在后台缓冲区中绘制一帧并翻转；缓冲区内容丢失或被恢复时重新绘制
+     */
+    private void renderFrame() {
+        if (dirtyRenderer != null) {
+            renderDirtyFrame();
+            return;
+        }
+        BufferStrategy strategy = getBufferStrategy();
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    paintFrame(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        // 部分平台的窗口系统会缓冲绘制命令，立即提交以降低延迟
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * 脏矩形模式：在常驻后台图片中重绘变化的区域，再只把这些区域复制到屏幕
+     */
+    private void renderDirtyFrame() {
+        Graphics g = getGraphics();
+        if (g == null) {
+            return;
+        }
+        try {
+            snapshots.poll();
+            RenderSnapshot previous = snapshots.previous();
+            RenderSnapshot current = snapshots.current();
+            double alpha = SnapshotRenderer.alpha(previous, current, System.nanoTime());
+            if (hud.update(current.getScore(), current.getHeroHp())) {
+                dirtyRenderer.markDirty(0, 0, hud.getWidth(), hud.getHeight());
+            }
+            dirtyRenderer.render(background, previous, current, alpha);
+            dirtyRenderer.drawOverlay(hud.getImage(), 0, 0);
+            dirtyRenderer.present(g);
+        } finally {
+            g.dispose();
+        }
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        // 窗口内容被系统破坏（遮挡、最小化后恢复等），下一帧整屏重绘
+        if (dirtyRenderer != null) {
+            dirtyRenderer.invalidate();
+        }
+    }
+
+    @Override
+    public void update(Graphics g) {
+        // 不先清空画布，避免闪烁
+        paint(g);
+    }
+
+    @Override
+    public void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+        playSound(Sound.BULLET_HIT);
+        if (type == SpriteType.BOSS_ENEMY) {
+            onBossDestroyed();
+        }
+    }
+
+    @Override
+    public void onSupplyCollected(SpriteType type, int x, int y) {
+        playSound(Sound.GET_SUPPLY);
+    }
+
+    @Override
+    public void onBombExploded(int x, int y, int points, int score) {
+        playSound(Sound.BOMB_EXPLOSION);
+    }
+
+    @Override
+    public void onBossAppeared(int x, int y, int hp) {
+        playMusic(Music.BOSS);
+    }
+
+    private void onBossDestroyed() {
+        playMusic(Music.NORMAL);
+    }
+
+    /**
+     * 游戏结束处理
+     */
+    @Override
+    public void onGameOver(int score) {
+        rendering = false;
+        // 淡出背景音乐，播放游戏结束音效
+        if (mixer != null) {
+            mixer.stopMusic();
+        }
+        playSound(Sound.GAME_OVER);
+        // 显示排行榜界面
+        SwingUtilities.invokeLater(() -> {
+            Scoreboard scoreboard = new Scoreboard(world.getDifficulty());
+            scoreboard.setVisible(true);
+            scoreboard.addScore(score);
+        });
+    }
+
+    private void playSound(Sound sound) {
+        if (mixer != null) {
+            mixer.play(sound);
+        }
+    }
+
+    private void playMusic(Music music) {
+        if (mixer != null) {
+            mixer.playMusic(music);
+        }
+    }
+
+    /**
+     * 绘制一帧，只由渲染线程调用
+     */
+    private void paintFrame(Graphics g) {
+        // 取最新发布的快照，在最近两帧之间插值绘制
+        snapshots.poll();
+        RenderSnapshot previous = snapshots.previous();
+        RenderSnapshot current = snapshots.current();
+        double alpha = SnapshotRenderer.alpha(previous, current, System.nanoTime());
+        snapshotRenderer.paint(g, background, Main.WINDOW_HEIGHT, previous, current, alpha);
+
+        hud.update(current.getScore(), current.getHeroHp());
+        hud.draw(g);
+    }
+}
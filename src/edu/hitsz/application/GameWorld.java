@@ -0,0 +1,848 @@
+package edu.hitsz.application;
+
+import edu.hitsz.aircraft.*;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.bullet.EnemyBullet;
+import edu.hitsz.bullet.HeroBullet;
+import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.basic.EntityList;
+import edu.hitsz.basic.TimingWheel;
+import edu.hitsz.collision.BoxList;
+import edu.hitsz.collision.CollisionEngine;
+import edu.hitsz.collision.CollisionEngineType;
+import edu.hitsz.collision.PairBuffer;
+import edu.hitsz.collision.ParallelPairFinder;
+import edu.hitsz.event.EventType;
+import edu.hitsz.event.GameEventBus;
+import edu.hitsz.prop.*;
+import edu.hitsz.render.RenderSnapshot;
+import edu.hitsz.render.SpriteType;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 游戏世界抽象类，使用模板模式
+ * 定义游戏规则与每个时刻的流程框架，具体难度由子类实现。
+ * <br>
+ * 游戏世界不依赖显示环境：不创建窗口、不播放音效、不解码图片（尺寸与碰撞掩码取自 {@link SpriteType}），
+ * 只由调用方逐个时刻推进。界面由 {@link GamePanel} 按固定频率驱动并绘制，
+ * 无界面模拟（机器人、性能测试、回放校验、批量平衡性测试）由 {@link HeadlessMain} 以 CPU 允许的最快速度驱动。
+ * 随机数均取自按种子创建的 {@link Random}，相同种子与相同操作得到完全相同的对局
+ *
+ * @author hitsz
+ */
+public abstract class GameWorld {
+
+    /**
+     * 游戏事件总线的容量
+     */
+    private static final int EVENT_BUFFER_SIZE = 1 << 14;
+
+    /**
+     * 背景滚动位置，随渲染快照发布
+     */
+    private int backGroundTop = 0;
+
+    /**
+     * 时间间隔(ms)，即每个时刻的模拟时长。
+     * 可通过系统属性 aircraftwar.tickMillis 加长（如 50ms 即 20Hz），以降低低性能设备的 CPU 占用；
+     * 物体位移按时刻长度缩放，碰撞采用连续检测，加长时刻不会漏判
+     */
+    private final int timeInterval = Integer.getInteger("aircraftwar.tickMillis", AbstractFlyingObject.BASE_TICK_MILLIS);
+
+    /**
+     * 随机数发生器，敌机、道具的产生均由此取随机数
+     */
+    protected final Random random;
+
+    /**
+     * 游戏事件总线，模拟线程发布击毁、拾取、Boss出现、英雄机受伤等事件，
+     * 音效、日志、统计等在各自的线程中读取，模拟线程从不等待读取方
+     */
+    private final GameEventBus events = new GameEventBus(EVENT_BUFFER_SIZE);
+
+    /**
+     * 是否在控制台输出游戏状态信息，无界面批量模拟时可关闭
+     */
+    private boolean verbose;
+
+    protected final HeroAircraft heroAircraft;
+    protected final EntityList<AbstractAircraft> enemyAircrafts;
+
+    /**
+     * 子弹以数组结构体存放，射击策略产生的子弹对象拷入后即丢弃
+     */
+    protected final BulletStore heroBullets;
+    protected final BulletStore enemyBullets;
+    protected final EntityList<AbstractProp> props;
+
+    /**
+     * 游戏时间轮，作为限时增益的游戏时钟并调度延时任务，每个时刻推进一次，一圈约 5 秒
+     */
+    protected final TimingWheel timingWheel;
+
+    /**
+     * 敌机工厂
+     */
+    protected final EnemyFactory mobEnemyFactory;
+    protected final EnemyFactory eliteEnemyFactory;
+    protected final EnemyFactory elitePlusEnemyFactory;
+    protected final EnemyFactory bossEnemyFactory;
+
+    /**
+     * 道具工厂
+     */
+    protected final PropFactory bloodPropFactory;
+    protected final PropFactory firePropFactory;
+    protected final PropFactory bombPropFactory;
+    protected final PropFactory superFirePropFactory;
+
+    /**
+     * 游戏难度
+     */
+    protected String difficulty;
+
+    /**
+     * 屏幕中出现的敌机最大数量
+     */
+    protected int enemyMaxNumber;
+
+    /**
+     * 当前得分
+     */
+    protected int score = 0;
+
+    /**
+     * Boss出现的分数阈值
+     */
+    protected int bossScoreThreshold;
+
+    /**
+     * 上一次Boss出现时的分数
+     */
+    protected int lastBossScore = 0;
+
+    /**
+     * 是否有Boss存在
+     */
+    protected boolean bossExists = false;
+
+    /**
+     * 超级精英敌机生成周期计数器
+     */
+    protected int elitePlusCycleCount = 0;
+
+    /**
+     * 超级精英敌机生成周期（每隔N个周期生成一次）
+     */
+    protected int elitePlusCyclePeriod = 5;
+
+    /**
+     * 当前时刻
+     */
+    protected int time = 0;
+
+    /**
+     * 周期（ms)，指示子弹的发射、敌机的产生频率
+     */
+    protected int cycleDuration;
+    protected int cycleTime = 0;
+
+    /**
+     * 英雄机射击周期
+     */
+    protected int heroShootPeriod;
+    protected int heroShootTime = 0;
+
+    /**
+     * 敌机射击周期
+     */
+    protected int enemyShootPeriod = 600; // 敌机射击周期，默认600ms
+    protected int enemyShootTime = 0;
+
+    /**
+     * 精英敌机产生概率
+     */
+    protected double eliteProbability;
+
+    /**
+     * Boss初始血量
+     */
+    protected int initialBossHp;
+
+    /**
+     * 普通敌机血量
+     */
+    protected int mobEnemyHp;
+
+    /**
+     * 精英敌机血量
+     */
+    protected int eliteEnemyHp;
+
+    /**
+     * 普通敌机速度
+     */
+    protected int mobEnemySpeed;
+
+    /**
+     * 精英敌机速度
+     */
+    protected int eliteEnemySpeed;
+
+    /**
+     * 游戏结束标志
+     */
+    protected boolean gameOverFlag = false;
+
+    /**
+     * 碰撞检测引擎类型，由子类在 initGameParameters() 中按场景特点选择，默认为空间网格
+     */
+    protected CollisionEngineType collisionEngineType = CollisionEngineType.SPATIAL_HASH;
+
+    /**
+     * 各组碰撞检测的引擎实例。
+     * 每组独立一个实例，使扫描剪枝等引擎能跨时刻保留该组对象的排序
+     */
+    private CollisionEngine enemyBulletCollision;
+    private CollisionEngine heroBulletCollision;
+    private CollisionEngine propCollision;
+    private CollisionEngine heroCollision;
+    private CollisionEngine bombCollision;
+
+    /**
+     * 并行时刻阈值：子弹与敌机总数达到该值、且线程池有多个工作线程时，
+     * 子弹移动与英雄机子弹攻击敌机的检测改为并行执行，对象较少时仍串行以免调度开销。
+     * 可通过系统属性 aircraftwar.parallelThreshold 调整
+     */
+    private final int parallelThreshold = Integer.getInteger("aircraftwar.parallelThreshold", 4000);
+
+    /**
+     * 并行执行时每个任务最少处理的对象数
+     */
+    private static final int PARALLEL_GRAIN = 1024;
+
+    private final ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    private ParallelPairFinder heroBulletParallelCollision;
+
+    /**
+     * 英雄机子弹攻击敌机的窄阶段判定，并行检测时由多个线程同时调用，只读取子弹与敌机状态
+     */
+    private final ParallelPairFinder.NarrowPhase heroBulletHits;
+
+    /**
+     * 碰撞检测用的包围盒与候选对缓冲区，每个时刻复用
+     */
+    private final BoxList probeBoxes = new BoxList();
+    private final BoxList targetBoxes = new BoxList();
+    private final PairBuffer collisionPairs = new PairBuffer();
+    private final PairBuffer blastPairs = new PairBuffer();
+
+    /**
+     * @param difficulty 游戏难度
+     * @param seed       随机数种子
+     */
+    public GameWorld(String difficulty, long seed) {
+        this(difficulty, seed, true);
+    }
+
+    /**
+     * @param difficulty 游戏难度
+     * @param seed       随机数种子
+     * @param verbose    是否在控制台输出游戏状态信息，包括创建时的参数信息
+     */
+    public GameWorld(String difficulty, long seed, boolean verbose) {
+        this.difficulty = difficulty;
+        this.random = new Random(seed);
+        this.verbose = verbose;
+
+        // 每个游戏世界持有自己的英雄机，不沿用上一局的状态，也不与并发创建的其他游戏世界共享
+        heroAircraft = HeroAircraft.create(
+                Main.WINDOW_WIDTH / 2,
+                Main.WINDOW_HEIGHT - SpriteType.HERO.getHeight(),
+                0, 0, 1000);
+
+        enemyAircrafts = new EntityList<>();
+        // Boss 被清除时更新存在标记，无需每个时刻重新扫描敌机列表
+        enemyAircrafts.setRemovalListener(enemyAircraft -> {
+            if (enemyAircraft instanceof BossEnemy) {
+                bossExists = false;
+            }
+        });
+        heroBullets = new BulletStore(HeroBullet.class, 1024);
+        enemyBullets = new BulletStore(EnemyBullet.class, 1024);
+        heroBulletHits = (bullet, enemy) -> heroBullets.hits(bullet, enemyAircrafts.get(enemy));
+        props = new EntityList<>();
+        timingWheel = new TimingWheel(timeInterval, 5000 / timeInterval);
+
+        // 初始化敌机工厂
+        mobEnemyFactory = new MobEnemyFactory();
+        eliteEnemyFactory = new EliteEnemyFactory();
+        elitePlusEnemyFactory = new ElitePlusEnemyFactory();
+        bossEnemyFactory = new BossEnemyFactory();
+
+        // 初始化道具工厂
+        bloodPropFactory = new BloodPropFactory();
+        firePropFactory = new FirePropFactory();
+        bombPropFactory = new BombPropFactory();
+        superFirePropFactory = new SuperFirePropFactory();
+
+        // 初始化游戏参数（由子类实现）
+        initGameParameters();
+
+        // 按子类选择的类型创建碰撞检测引擎
+        setCollisionEngineType(collisionEngineType);
+
+        log("===== 游戏开始 =====");
+        log("难度: " + difficulty);
+        log("敌机最大数量: " + enemyMaxNumber);
+        log("敌机产生周期: " + cycleDuration + "ms");
+        log("英雄机射击周期: " + heroShootPeriod + "ms");
+        log("精英敌机概率: " + (eliteProbability * 100) + "%");
+        log("普通敌机血量: " + mobEnemyHp + ", 速度: " + mobEnemySpeed);
+        log("精英敌机血量: " + eliteEnemyHp + ", 速度: " + eliteEnemySpeed);
+        if (bossScoreThreshold > 0) {
+            log("Boss出现阈值: " + bossScoreThreshold + "分");
+            log("Boss初始血量: " + initialBossHp);
+        } else {
+            log("本难度无Boss敌机");
+        }
+        log("==================");
+    }
+
+    /**
+     * 初始化游戏参数（抽象方法，由子类实现）
+     */
+    protected abstract void initGameParameters();
+
+    /**
+     * 生成敌机（抽象方法，由子类实现）
+     */
+    protected abstract void generateEnemy();
+
+    /**
+     * 生成Boss（抽象方法，由子类实现）
+     */
+    protected abstract void generateBoss();
+
+    /**
+     * 判断是否应该提升难度（抽象方法，由子类实现）
+     */
+    protected abstract boolean shouldIncreaseDifficulty();
+
+    /**
+     * 提升难度（抽象方法，由子类实现）
+     */
+    protected abstract void increaseDifficulty();
+
+    /**
+     * 获取Boss血量（抽象方法，由子类实现）
+     */
+    protected abstract int getBossHp();
+
+    /**
+     * 根据难度创建游戏世界
+     * @param difficulty 难度：EASY, NORMAL, HARD，其他取值按普通模式
+     * @param seed       随机数种子
+     */
+    public static GameWorld create(String difficulty, long seed) {
+        return create(difficulty, seed, true);
+    }
+
+    /**
+     * 根据难度创建游戏世界
+     * @param difficulty 难度：EASY, NORMAL, HARD，其他取值按普通模式
+     * @param seed       随机数种子
+     * @param verbose    是否在控制台输出游戏状态信息，包括创建时的参数信息
+     */
+    public static GameWorld create(String difficulty, long seed, boolean verbose) {
+        switch (difficulty) {
+            case "EASY":
+                return new EasyGame(difficulty, seed, verbose);
+            case "HARD":
+                return new HardGame(difficulty, seed, verbose);
+            case "NORMAL":
+            default:
+                return new NormalGame(difficulty, seed, verbose);
+        }
+    }
+
+    /**
+     * 推进一个时刻：对象产生、射击、移动、碰撞判定、击毁及结束判定（模板方法）。
+     * 游戏结束后调用不再有任何效果
+     */
+    public final void step() {
+        if (gameOverFlag) {
+            return;
+        }
+        time += timeInterval;
+
+        // 执行到期的延时任务，其中包括移除到期的增益
+        timingWheel.advance(timeInterval);
+
+        // 检查是否应该提升难度
+        if (shouldIncreaseDifficulty()) {
+            increaseDifficulty();
+        }
+
+        // 周期性执行（控制频率）
+        if (timeCountAndNewCycleJudge()) {
+            // 检查是否需要生成Boss敌机（分数达到阈值且当前没有Boss）
+            if (bossScoreThreshold > 0 && score - lastBossScore >= bossScoreThreshold && !bossExists) {
+                generateBoss();
+            }
+
+            // 超级精英敌机周期生成
+            elitePlusCycleCount++;
+            if (elitePlusCycleCount >= elitePlusCyclePeriod && random.nextDouble() < 0.5) {
+                generateElitePlusEnemy();
+                elitePlusCycleCount = 0;
+            }
+
+            // 新敌机产生
+            if (enemyAircrafts.size() < enemyMaxNumber) {
+                generateEnemy();
+            }
+        }
+
+        // 英雄机射击周期判断
+        heroShootTime += timeInterval;
+        if (heroShootTime >= heroShootPeriod) {
+            heroAircraft.shootInto(heroBullets);
+            heroShootTime = 0;
+        }
+
+        // 敌机射击周期判断
+        enemyShootTime += timeInterval;
+        if (enemyShootTime >= enemyShootPeriod) {
+            shootAction();
+            enemyShootTime = 0;
+        }
+
+        // 子弹移动
+        bulletsMoveAction();
+
+        // 飞机移动
+        aircraftsMoveAction();
+
+        // 道具移动
+        propsMoveAction();
+
+        // 撞击检测
+        crashCheckAction();
+
+        // 后处理
+        postProcessAction();
+
+        // 背景滚动
+        backGroundTop += Math.max(1, timeInterval / AbstractFlyingObject.BASE_TICK_MILLIS);
+        if (backGroundTop >= Main.WINDOW_HEIGHT) {
+            backGroundTop -= Main.WINDOW_HEIGHT;
+        }
+
+        // 游戏结束检查
+        if (gameOverFlag || heroAircraft.getHp() <= 0) {
+            gameOverFlag = true;
+            log("===== 游戏结束 =====");
+            log("最终得分: " + score);
+            events.publish(EventType.GAME_OVER, 0, heroAircraft.getLocationX(), heroAircraft.getLocationY(), 0, score);
+        }
+    }
+
+    /**
+     * 将当前时刻需要绘制的内容写入渲染快照，绘制顺序与原先一致：
+     * 敌机子弹、英雄机子弹、敌机、道具、英雄机
+     */
+    public void writeSnapshot(RenderSnapshot snapshot) {
+        snapshot.reset(backGroundTop, score, heroAircraft.getHp());
+        writeSnapshot(snapshot, enemyBullets);
+        writeSnapshot(snapshot, heroBullets);
+        writeSnapshot(snapshot, enemyAircrafts);
+        writeSnapshot(snapshot, props);
+        snapshot.add(heroAircraft.getSpriteType(), heroAircraft.getId(),
+                heroAircraft.getFixedX(), heroAircraft.getFixedY());
+    }
+
+    private static void writeSnapshot(RenderSnapshot snapshot, BulletStore bullets) {
+        for (int i = 0; i < bullets.size(); i++) {
+            snapshot.add(bullets.getSpriteType(), bullets.getId(i), bullets.getFixedX(i), bullets.getFixedY(i));
+        }
+    }
+
+    private static void writeSnapshot(RenderSnapshot snapshot, EntityList<? extends AbstractFlyingObject> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            AbstractFlyingObject object = objects.get(i);
+            snapshot.add(object.getSpriteType(), object.getId(), object.getFixedX(), object.getFixedY());
+        }
+    }
+
+    protected boolean timeCountAndNewCycleJudge() {
+        cycleTime += timeInterval;
+        if (cycleTime >= cycleDuration) {
+            cycleTime %= cycleDuration;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * 生成超级精英敌机
+     */
+    protected void generateElitePlusEnemy() {
+        log("超级精英敌机出现！");
+        int elitePlusWidth = SpriteType.ELITE_PLUS_ENEMY.getWidth();
+        int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - elitePlusWidth));
+        int locationY = (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05);
+        int speedX = (int) (random.nextDouble() * 6 - 3);
+        int speedY = 10;
+        int hp = 120;
+
+        enemyAircrafts.add(elitePlusEnemyFactory.createEnemy(locationX, locationY, speedX, speedY, hp));
+    }
+
+    protected void shootAction() {
+        // 敌机射击，子弹直接写入子弹仓库；普通敌机为不射击策略，不产生子弹
+        for (AbstractAircraft enemyAircraft : enemyAircrafts) {
+            enemyAircraft.shootInto(enemyBullets);
+        }
+    }
+
+    protected void bulletsMoveAction() {
+        if (isParallelTick(heroBullets.size() + enemyBullets.size())) {
+            heroBullets.integrateParallel(parallelPool, timeInterval, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, PARALLEL_GRAIN);
+            enemyBullets.integrateParallel(parallelPool, timeInterval, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, PARALLEL_GRAIN);
+        } else {
+            heroBullets.integrate(timeInterval, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT);
+            enemyBullets.integrate(timeInterval, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT);
+        }
+    }
+
+    /**
+     * 对象数量达到阈值且线程池能并行时，本时刻的子弹移动与英雄机子弹检测并行执行
+     * @param entityCount 参与计算的对象数量
+     */
+    private boolean isParallelTick(int entityCount) {
+        return parallelPool.getParallelism() > 1 && entityCount >= parallelThreshold;
+    }
+
+    protected void aircraftsMoveAction() {
+        for (AbstractAircraft enemyAircraft : enemyAircrafts) {
+            enemyAircraft.forward(timeInterval);
+        }
+    }
+
+    protected void propsMoveAction() {
+        for (AbstractProp prop : props) {
+            prop.forward(timeInterval);
+        }
+    }
+
+    protected void crashCheckAction() {
+        // 敌机子弹攻击英雄
+        probeBoxes.clear();
+        probeBoxes.add(heroAircraft);
+        targetBoxes.clear();
+        enemyBullets.fillBoxes(targetBoxes);
+        enemyBulletCollision.findPairs(probeBoxes, targetBoxes, collisionPairs);
+        for (int i = 0; i < collisionPairs.size(); i++) {
+            int bullet = collisionPairs.target(i);
+            if (enemyBullets.notValid(bullet)) {
+                continue;
+            }
+            if (enemyBullets.hits(bullet, heroAircraft)) {
+                int power = enemyBullets.getPower(bullet);
+                heroAircraft.decreaseHp(power);
+                enemyBullets.vanish(bullet);
+                publishHeroDamaged(power);
+                if (heroAircraft.getHp() <= 0) {
+                    gameOverFlag = true;
+                    return;
+                }
+            }
+        }
+
+        // 英雄子弹攻击敌机
+        // 候选对按 (子弹, 敌机) 升序排列，与逐个子弹遍历全部敌机的顺序一致；
+        // 子弹是否有效只在轮到该子弹时判断一次，击中后仍继续检测其余敌机。
+        // 并行时各线程已完成窄阶段判定，只留下确实相撞的对，此处仍按同样顺序串行结算
+        probeBoxes.clear();
+        heroBullets.fillBoxes(probeBoxes);
+        targetBoxes.clear();
+        fillBoxes(targetBoxes, enemyAircrafts);
+        boolean parallel = isParallelTick(heroBullets.size() + enemyAircrafts.size());
+        if (parallel) {
+            heroBulletParallelCollision.findHits(probeBoxes, targetBoxes, heroBulletHits, collisionPairs);
+        } else {
+            heroBulletCollision.findPairs(probeBoxes, targetBoxes, collisionPairs);
+        }
+        int currentBullet = -1;
+        boolean bulletValid = false;
+        for (int i = 0; i < collisionPairs.size(); i++) {
+            int bullet = collisionPairs.probe(i);
+            if (bullet != currentBullet) {
+                currentBullet = bullet;
+                bulletValid = !heroBullets.notValid(bullet);
+            }
+            if (!bulletValid) {
+                continue;
+            }
+            AbstractAircraft enemyAircraft = enemyAircrafts.get(collisionPairs.target(i));
+            if (enemyAircraft.notValid()) {
+                continue;
+            }
+            if (parallel || heroBullets.hits(bullet, enemyAircraft)) {
+                enemyAircraft.decreaseHp(heroBullets.getPower(bullet));
+                heroBullets.vanish(bullet);
+                if (enemyAircraft.notValid()) {
+                    handleEnemyDestroyed(enemyAircraft);
+                }
+            }
+        }
+
+        // 英雄机获得道具补给（击毁敌机掉落的道具本时刻即可拾取，因此在此处才收集候选对）
+        findHeroCollisionPairs(propCollision, props);
+        for (int i = 0; i < collisionPairs.size(); i++) {
+            AbstractProp prop = props.get(collisionPairs.target(i));
+            if (prop.notValid()) {
+                continue;
+            }
+            if (heroAircraft.crash(prop)) {
+                events.publish(EventType.SUPPLY_COLLECTED, prop.getSpriteType().ordinal(),
+                        prop.getLocationX(), prop.getLocationY(), 0, 0);
+                if (prop instanceof BombProp) {
+                    // 炸弹的效果与得分由爆炸事件报告
+                    int bombScore = explode((BombProp) prop);
+                    score += bombScore;
+                    events.publish(EventType.BOMB_EXPLODED, 0, prop.getLocationX(), prop.getLocationY(), bombScore, score);
+                } else {
+                    prop.activate(heroAircraft, timingWheel);
+                }
+                prop.vanish();
+            }
+        }
+
+        // 英雄机与敌机碰撞检测
+        findHeroCollisionPairs(heroCollision, enemyAircrafts);
+        for (int i = 0; i < collisionPairs.size(); i++) {
+            AbstractAircraft enemyAircraft = enemyAircrafts.get(collisionPairs.target(i));
+            if (enemyAircraft.notValid()) {
+                continue;
+            }
+            if (enemyAircraft.crash(heroAircraft) || heroAircraft.crash(enemyAircraft)) {
+                log("英雄机与敌机相撞！游戏结束！");
+                enemyAircraft.vanish();
+                int hp = heroAircraft.getHp();
+                heroAircraft.decreaseHp(Integer.MAX_VALUE);
+                publishHeroDamaged(hp);
+                gameOverFlag = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 炸弹爆炸：用空间索引查询爆炸范围内的敌机与敌机子弹，按敌机列表顺序施加炸弹效果。
+     * 候选对写入独立的缓冲区，不影响调用方正在遍历的道具候选对
+     * @return 炸毁敌机获得的分数
+     */
+    private int explode(BombProp bombProp) {
+        int bombScore = 0;
+        probeBoxes.clear();
+        bombProp.addBlastBox(probeBoxes);
+        targetBoxes.clear();
+        fillBoxes(targetBoxes, enemyAircrafts);
+        bombCollision.findPairs(probeBoxes, targetBoxes, blastPairs);
+        for (int i = 0; i < blastPairs.size(); i++) {
+            AbstractAircraft enemyAircraft = enemyAircrafts.get(blastPairs.target(i));
+            if (bombProp.inBlast(enemyAircraft)) {
+                bombScore += bombProp.blast(enemyAircraft);
+            }
+        }
+
+        // 敌机子弹存放在子弹仓库中没有对象，与 EnemyBullet.update() 一致直接清除
+        targetBoxes.clear();
+        enemyBullets.fillBoxes(targetBoxes);
+        bombCollision.findPairs(probeBoxes, targetBoxes, blastPairs);
+        int width = enemyBullets.getSpriteType().getWidth();
+        int height = enemyBullets.getSpriteType().getHeight();
+        for (int i = 0; i < blastPairs.size(); i++) {
+            int bullet = blastPairs.target(i);
+            if (bombProp.inBlast(enemyBullets.getLocationX(bullet), enemyBullets.getLocationY(bullet), width, height)) {
+                enemyBullets.vanish(bullet);
+            }
+        }
+        return bombScore;
+    }
+
+    /**
+     * 收集英雄机与一组飞行对象之间包围盒相交的候选碰撞对，结果写入 collisionPairs，按目标方下标升序排列。
+     * 包围盒比图片判定区域略大，候选对仍需调用 crash() 做精确判定
+     */
+    private void findHeroCollisionPairs(CollisionEngine engine, EntityList<? extends AbstractFlyingObject> targets) {
+        probeBoxes.clear();
+        probeBoxes.add(heroAircraft);
+        targetBoxes.clear();
+        fillBoxes(targetBoxes, targets);
+        engine.findPairs(probeBoxes, targetBoxes, collisionPairs);
+    }
+
+    private static void fillBoxes(BoxList boxes, EntityList<? extends AbstractFlyingObject> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            boxes.add(objects.get(i));
+        }
+    }
+
+    /**
+     * 设置碰撞检测引擎类型，可在运行前切换以对比各引擎
+     * @param collisionEngineType 引擎类型
+     */
+    public void setCollisionEngineType(CollisionEngineType collisionEngineType) {
+        this.collisionEngineType = collisionEngineType;
+        // 网格边长取常见敌机图片的最大边长，Boss 等大型对象会跨越多个格子
+        int cellSize = Math.max(
+                Math.max(SpriteType.MOB_ENEMY.getWidth(), SpriteType.MOB_ENEMY.getHeight()),
+                Math.max(Math.max(SpriteType.ELITE_ENEMY.getWidth(), SpriteType.ELITE_ENEMY.getHeight()),
+                        Math.max(SpriteType.ELITE_PLUS_ENEMY.getWidth(), SpriteType.ELITE_PLUS_ENEMY.getHeight())));
+        enemyBulletCollision = collisionEngineType.create(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize);
+        heroBulletCollision = collisionEngineType.create(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize);
+        propCollision = collisionEngineType.create(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize);
+        heroCollision = collisionEngineType.create(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize);
+        bombCollision = collisionEngineType.create(Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize);
+        heroBulletParallelCollision = new ParallelPairFinder(parallelPool, collisionEngineType,
+                Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, cellSize, PARALLEL_GRAIN);
+    }
+
+    /**
+     * 处理敌机被击毁
+     */
+    protected void handleEnemyDestroyed(AbstractAircraft enemyAircraft) {
+        int points;
+        if (enemyAircraft instanceof BossEnemy) {
+            points = 300;
+            bossExists = false;
+            generateBossProp(enemyAircraft.getLocationX(), enemyAircraft.getLocationY());
+        } else if (enemyAircraft instanceof ElitePlusEnemy) {
+            points = 100;
+            generateElitePlusProp(enemyAircraft.getLocationX(), enemyAircraft.getLocationY());
+        } else if (enemyAircraft instanceof EliteEnemy) {
+            points = 50;
+            generateEliteProp(enemyAircraft.getLocationX(), enemyAircraft.getLocationY());
+        } else {
+            points = 10;
+        }
+        score += points;
+        events.publish(EventType.ENEMY_DESTROYED, enemyAircraft.getSpriteType().ordinal(),
+                enemyAircraft.getLocationX(), enemyAircraft.getLocationY(), points, score);
+    }
+
+    /**
+     * 发布英雄机受伤事件
+     */
+    private void publishHeroDamaged(int damage) {
+        events.publish(EventType.HERO_DAMAGED, 0, heroAircraft.getLocationX(), heroAircraft.getLocationY(),
+                damage, heroAircraft.getHp());
+    }
+
+    protected void generateEliteProp(int x, int y) {
+        double chance = random.nextDouble();
+        if (chance < 0.3) {
+            props.add(bloodPropFactory.createProp(x, y, 0, 5));
+        } else if (chance < 0.6) {
+            props.add(firePropFactory.createProp(x, y, 0, 5));
+        } else if (chance < 0.85) {
+            props.add(bombPropFactory.createProp(x, y, 0, 5));
+        } else {
+            props.add(superFirePropFactory.createProp(x, y, 0, 5));
+        }
+    }
+
+    protected void generateElitePlusProp(int x, int y) {
+        double chance = random.nextDouble();
+        if (chance < 0.25) {
+            props.add(bloodPropFactory.createProp(x, y, 0, 5));
+        } else if (chance < 0.5) {
+            props.add(firePropFactory.createProp(x, y, 0, 5));
+        } else if (chance < 0.75) {
+            props.add(bombPropFactory.createProp(x, y, 0, 5));
+        } else {
+            props.add(superFirePropFactory.createProp(x, y, 0, 5));
+        }
+    }
+
+    protected void generateBossProp(int x, int y) {
+        props.add(bloodPropFactory.createProp(x - 50, y, 0, 5));
+        props.add(bombPropFactory.createProp(x, y, 0, 5));
+        props.add(superFirePropFactory.createProp(x + 50, y, 0, 5));
+    }
+
+    protected void postProcessAction() {
+        // 每个集合各遍历一次清除失效对象；失效子弹归还子弹仓库中的槽位，
+        // 被清除的 Boss 由敌机列表的删除监听器更新 bossExists
+        enemyBullets.compact();
+        heroBullets.compact();
+        enemyAircrafts.compact();
+        props.compact();
+    }
+
+    /**
+     * 游戏事件总线，读取方通过 {@link GameEventBus#newReader()} 创建
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * 输出游戏状态信息
+     */
+    protected void log(String message) {
+        if (verbose) {
+            System.out.println(message);
+        }
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public int getTimeInterval() {
+        return timeInterval;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isGameOver() {
+        return gameOverFlag;
+    }
+
+    public HeroAircraft getHeroAircraft() {
+        return heroAircraft;
+    }
+
+    public EntityList<AbstractAircraft> getEnemyAircrafts() {
+        return enemyAircrafts;
+    }
+
+    public EntityList<AbstractProp> getProps() {
+        return props;
+    }
+
+    public BulletStore getHeroBullets() {
+        return heroBullets;
+    }
+
+    public BulletStore getEnemyBullets() {
+        return enemyBullets;
+    }
+}
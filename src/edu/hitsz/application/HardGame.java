@@ -1,6 +1,9 @@
 package edu.hitsz.application;
 
 import edu.hitsz.aircraft.*;
+import edu.hitsz.collision.CollisionEngineType;
+import edu.hitsz.event.EventType;
+import edu.hitsz.render.SpriteType;
 
 /**
  * 困难模式游戏
@@ -16,15 +19,19 @@ import edu.hitsz.aircraft.*;
  * - Boss血量递增：每次+150
  * - 难度随时间增加（每10秒提升一次）
  */
-public class HardGame extends AbstractGame {
+public class HardGame extends GameWorld {
 
     private static final int DIFFICULTY_INCREASE_INTERVAL = 10000;  // 10秒
     private int lastDifficultyIncreaseTime = 0;
     private int bossAppearCount = 0;
     private static final int BOSS_HP_INCREMENT = 150;
 
-    public HardGame(String difficulty, boolean soundEnabled) {
-        super(difficulty, soundEnabled);
+    public HardGame(String difficulty, long seed) {
+        super(difficulty, seed);
+    }
+
+    public HardGame(String difficulty, long seed, boolean verbose) {
+        super(difficulty, seed, verbose);
     }
 
     @Override
@@ -40,30 +47,31 @@ public class HardGame extends AbstractGame {
         this.eliteEnemySpeed = 10;             // 精英敌机速度：10
         this.bossScoreThreshold = 500;         // Boss出现阈值：500分
         this.initialBossHp = 600;              // Boss初始血量：600
+        this.collisionEngineType = CollisionEngineType.SPATIAL_HASH;  // 碰撞检测：Boss环射与大量敌机，空间网格
     }
 
     @Override
     protected void generateEnemy() {
         // 随机产生普通敌机或精英敌机
-        if (Math.random() < (1 - eliteProbability)) {
+        if (random.nextDouble() < (1 - eliteProbability)) {
             // 60%概率产生普通敌机
-            int mobEnemyWidth = ImageManager.MOB_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
+            int mobEnemyWidth = SpriteType.MOB_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
             enemyAircrafts.add(mobEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
                     0,
                     mobEnemySpeed,
                     mobEnemyHp
             ));
         } else {
             // 40%概率产生精英敌机
-            int eliteEnemyWidth = ImageManager.ELITE_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
+            int eliteEnemyWidth = SpriteType.ELITE_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
             enemyAircrafts.add(eliteEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
-                    (int) (Math.random() * 4 - 2),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * 4 - 2),
                     eliteEnemySpeed,
                     eliteEnemyHp
             ));
@@ -72,33 +80,26 @@ public class HardGame extends AbstractGame {
 
     @Override
     protected void generateBoss() {
-        System.out.println("===== Boss敌机出现！=====");
+        log("===== Boss敌机出现！=====");
         bossAppearCount++;
-        System.out.println("这是第 " + bossAppearCount + " 次Boss出现");
+        log("这是第 " + bossAppearCount + " 次Boss出现");
 
         int hp = getBossHp();
         double hpMultiplier = (double) hp / initialBossHp;
-        System.out.println("Boss血量倍率: " + String.format("%.2f", hpMultiplier));
-
-        if (soundEnabled) {
-            if (bgmThread != null) {
-                bgmThread.stopMusic();
-            }
-            bossBgmThread = new MusicThread("src/videos/bgm_boss.wav", true);
-            bossBgmThread.start();
-        }
+        log("Boss血量倍率: " + String.format("%.2f", hpMultiplier));
 
         int locationX = Main.WINDOW_WIDTH / 2;
-        int locationY = ImageManager.BOSS_ENEMY_IMAGE.getHeight();
+        int locationY = SpriteType.BOSS_ENEMY.getHeight();
         int speedX = 5;
         int speedY = 0;
 
         enemyAircrafts.add(bossEnemyFactory.createEnemy(locationX, locationY, speedX, speedY, hp));
         bossExists = true;
         lastBossScore = score;
+        getEvents().publish(EventType.BOSS_APPEARED, SpriteType.BOSS_ENEMY.ordinal(), locationX, locationY, hp, 0);
 
-        System.out.println("Boss血量: " + hp);
-        System.out.println("========================");
+        log("Boss血量: " + hp);
+        log("========================");
     }
 
     @Override
@@ -111,22 +112,22 @@ public class HardGame extends AbstractGame {
     protected void increaseDifficulty() {
         lastDifficultyIncreaseTime = time;
 
-        System.out.println();
-        System.out.println("╔══════════════════════════════════════════════════════════╗");
-        System.out.println("║  🔥🔥🔥  难度大幅提升！准备迎接挑战！  🔥🔥🔥  ║");
-        System.out.println("╚══════════════════════════════════════════════════════════╝");
-        System.out.println("【游戏时长】 " + (time / 1000) + "秒");
-        System.out.println("------------------------------------------------------------");
+        log("");
+        log("╔══════════════════════════════════════════════════════════╗");
+        log("║  🔥🔥🔥  难度大幅提升！准备迎接挑战！  🔥🔥🔥  ║");
+        log("╚══════════════════════════════════════════════════════════╝");
+        log("【游戏时长】 " + (time / 1000) + "秒");
+        log("------------------------------------------------------------");
 
         // 提升敌机血量（+15%）
         double oldMobHp = mobEnemyHp;
         double oldEliteHp = eliteEnemyHp;
         mobEnemyHp = (int) (mobEnemyHp * 1.15);
         eliteEnemyHp = (int) (eliteEnemyHp * 1.15);
-        System.out.println("【血量大幅提升】");
-        System.out.println("  ▶ 普通敌机血量: " + String.format("%.0f", oldMobHp) + " → " + mobEnemyHp +
+        log("【血量大幅提升】");
+        log("  ▶ 普通敌机血量: " + String.format("%.0f", oldMobHp) + " → " + mobEnemyHp +
                          " (×" + String.format("%.2f", mobEnemyHp / oldMobHp) + ")");
-        System.out.println("  ▶ 精英敌机血量: " + String.format("%.0f", oldEliteHp) + " → " + eliteEnemyHp +
+        log("  ▶ 精英敌机血量: " + String.format("%.0f", oldEliteHp) + " → " + eliteEnemyHp +
                          " (×" + String.format("%.2f", eliteEnemyHp / oldEliteHp) + ")");
 
         // 提升敌机速度（+10%）
@@ -134,18 +135,18 @@ public class HardGame extends AbstractGame {
         double oldEliteSpeed = eliteEnemySpeed;
         mobEnemySpeed = (int) (mobEnemySpeed * 1.10);
         eliteEnemySpeed = (int) (eliteEnemySpeed * 1.10);
-        System.out.println("【速度大幅提升】");
-        System.out.println("  ▶ 普通敌机速度: " + String.format("%.0f", oldMobSpeed) + " → " + mobEnemySpeed +
+        log("【速度大幅提升】");
+        log("  ▶ 普通敌机速度: " + String.format("%.0f", oldMobSpeed) + " → " + mobEnemySpeed +
                          " (×" + String.format("%.2f", mobEnemySpeed / oldMobSpeed) + ")");
-        System.out.println("  ▶ 精英敌机速度: " + String.format("%.0f", oldEliteSpeed) + " → " + eliteEnemySpeed +
+        log("  ▶ 精英敌机速度: " + String.format("%.0f", oldEliteSpeed) + " → " + eliteEnemySpeed +
                          " (×" + String.format("%.2f", eliteEnemySpeed / oldEliteSpeed) + ")");
 
         // 缩短敌机产生周期（-10%，最小250ms）
         if (cycleDuration > 250) {
             double oldCycle = cycleDuration;
             cycleDuration = Math.max(250, (int) (cycleDuration * 0.90));
-            System.out.println("【刷新大幅加速】");
-            System.out.println("  ▶ 敌机产生周期: " + String.format("%.0f", oldCycle) + "ms → " + cycleDuration + "ms" +
+            log("【刷新大幅加速】");
+            log("  ▶ 敌机产生周期: " + String.format("%.0f", oldCycle) + "ms → " + cycleDuration + "ms" +
                              " (×" + String.format("%.2f", cycleDuration / oldCycle) + ")");
         }
 
@@ -153,8 +154,8 @@ public class HardGame extends AbstractGame {
         if (eliteProbability < 0.7) {
             double oldProb = eliteProbability;
             eliteProbability = Math.min(0.7, eliteProbability + 0.04);
-            System.out.println("【精英大幅增多】");
-            System.out.println("  ▶ 精英敌机概率: " + String.format("%.0f%%", oldProb * 100) +
+            log("【精英大幅增多】");
+            log("  ▶ 精英敌机概率: " + String.format("%.0f%%", oldProb * 100) +
                              " → " + String.format("%.0f%%", eliteProbability * 100));
         }
 
@@ -162,14 +163,14 @@ public class HardGame extends AbstractGame {
         if (enemyMaxNumber < 10) {
             int oldMaxNumber = enemyMaxNumber;
             enemyMaxNumber = Math.min(10, enemyMaxNumber + 1);
-            System.out.println("【数量大幅增加】");
-            System.out.println("  ▶ 敌机最大数量: " + oldMaxNumber + " → " + enemyMaxNumber);
+            log("【数量大幅增加】");
+            log("  ▶ 敌机最大数量: " + oldMaxNumber + " → " + enemyMaxNumber);
         }
 
-        System.out.println("╔══════════════════════════════════════════════════════════╗");
-        System.out.println("║           挑战加剧！保持警惕！继续战斗！           ║");
-        System.out.println("╚══════════════════════════════════════════════════════════╝");
-        System.out.println();
+        log("╔══════════════════════════════════════════════════════════╗");
+        log("║           挑战加剧！保持警惕！继续战斗！           ║");
+        log("╚══════════════════════════════════════════════════════════╝");
+        log("");
     }
 
     @Override
@@ -0,0 +1,200 @@
+package edu.hitsz.application;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.basic.EntityList;
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.event.GameEventBus;
+import edu.hitsz.event.GameEventHandler;
+import edu.hitsz.event.GameStatistics;
+
+/**
+ * 无界面模拟入口
+ * 不创建窗口、不播放音效，由简单的机器人操控英雄机，以 CPU 允许的最快速度逐个时刻推进游戏世界，
+ * 结束后输出得分与模拟速度。可在无显示环境的服务器上用于性能测试、回放校验与批量平衡性测试。
+ * <br>
+ * 用法：java -Djava.awt.headless=true edu.hitsz.application.HeadlessMain [难度] [种子] [最大时刻数]
+ *
+ * @author hitsz
+ */
+public class HeadlessMain {
+
+    /**
+     * 机器人每个时刻最多横向移动的像素数
+     */
+    private static final int BOT_STEP = 12;
+
+    /**
+     * 机器人对敌机与敌机子弹向前推演的时刻数，敌机要看得更远才能避免被逼到墙边
+     */
+    private static final int ENEMY_LOOKAHEAD_TICKS = 60;
+    private static final int BULLET_LOOKAHEAD_TICKS = 20;
+
+    /**
+     * 与敌机接触的代价相对子弹的倍数，高于推演期间全部子弹代价之和
+     */
+    private static final long ENEMY_COST = 100_000;
+
+    /**
+     * 从敌机旁擦过的代价，高于推演期间多数子弹代价之和，使英雄机尽早与敌机拉开距离
+     */
+    private static final long NEAR_MISS_COST = 1_000;
+
+    /**
+     * 视为擦过敌机的额外间距
+     */
+    private static final int CLEARANCE = 24;
+
+    /**
+     * 距英雄机该高度以上的敌机才作为瞄准目标
+     */
+    private static final int AIM_DISTANCE = 300;
+
+    /**
+     * 候选位置的横向间隔
+     */
+    private static final int CANDIDATE_STEP = 8;
+
+    public static void main(String[] args) {
+        String difficulty = args.length > 0 ? args[0] : "NORMAL";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        int maxTicks = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+        GameWorld world = GameWorld.create(difficulty, seed, false);
+
+        GameStatistics statistics = new GameStatistics();
+        long start = System.nanoTime();
+        int ticks = run(world, maxTicks, statistics);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        double simulatedSeconds = world.getTime() / 1000.0;
+        System.out.println("难度: " + difficulty + "，种子: " + seed);
+        System.out.println("时刻数: " + ticks + "，模拟时长: " + String.format("%.1f", simulatedSeconds) + "秒"
+                + (world.isGameOver() ? "（游戏结束）" : "（达到最大时刻数）"));
+        System.out.println("得分: " + world.getScore() + "，英雄机血量: " + world.getHeroAircraft().getHp());
+        System.out.println("耗时: " + String.format("%.3f", seconds) + "秒，"
+                + String.format("%.0f", ticks / seconds) + " 时刻/秒，"
+                + String.format("%.1f", simulatedSeconds / seconds) + " 倍实际速度");
+        System.out.println(statistics.summary());
+    }
+
+    /**
+     * 由机器人操控英雄机，推进游戏世界直到游戏结束或达到最大时刻数
+     * @param world    游戏世界
+     * @param maxTicks 最大时刻数
+     * @return 实际推进的时刻数
+     */
+    public static int run(GameWorld world, int maxTicks) {
+        return run(world, maxTicks, new GameEventHandler() { });
+    }
+
+    /**
+     * 由机器人操控英雄机，推进游戏世界直到游戏结束或达到最大时刻数，每个时刻后将游戏事件交给处理器
+     * @param world    游戏世界
+     * @param maxTicks 最大时刻数
+     * @param handler  游戏事件处理器
+     * @return 实际推进的时刻数
+     */
+    public static int run(GameWorld world, int maxTicks, GameEventHandler handler) {
+        GameEventBus.Reader events = world.getEvents().newReader();
+        int ticks = 0;
+        while (ticks < maxTicks && !world.isGameOver()) {
+            steer(world);
+            world.step();
+            events.poll(handler);
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * 机器人：英雄机保持在底部，躲避敌机与敌机子弹，在安全的位置上靠近可攻击的敌机。
+     * <br>
+     * 对每个横向候选位置，假设英雄机以最大速度向其移动，敌机与子弹保持当前速度，
+     * 向前推演若干时刻，越早发生的撞击代价越高：与敌机相撞即结束游戏，只计最早的一次且代价远高于子弹，
+     * 从敌机旁擦过与被子弹击中则逐个累计。选择代价最小的位置，代价相同时选择最接近最靠下的可攻击敌机的位置，以便继续得分。
+     * 推演包含移动途中的位置，因此不会为了远处的安全位置而穿过敌机。
+     * 只依据游戏状态决策，相同状态总是得到相同操作
+     */
+    private static void steer(GameWorld world) {
+        HeroAircraft heroAircraft = world.getHeroAircraft();
+        EntityList<AbstractAircraft> enemyAircrafts = world.getEnemyAircrafts();
+        BulletStore enemyBullets = world.getEnemyBullets();
+        int interval = world.getTimeInterval();
+        int x = heroAircraft.getLocationX();
+        int heroY = heroAircraft.getLocationY();
+        int halfWidth = heroAircraft.getWidth() / 2;
+        int halfHeight = heroAircraft.getHeight() / 2;
+
+        // 瞄准英雄机上方最靠下、尚未逼近的敌机
+        int aimX = x;
+        int aimY = Integer.MIN_VALUE;
+        for (int i = 0; i < enemyAircrafts.size(); i++) {
+            AbstractAircraft enemyAircraft = enemyAircrafts.get(i);
+            int y = enemyAircraft.getLocationY();
+            if (y <= heroY - AIM_DISTANCE && y > aimY) {
+                aimY = y;
+                aimX = enemyAircraft.getLocationX();
+            }
+        }
+
+        int bestX = x;
+        long bestCost = Long.MAX_VALUE;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int targetX = halfWidth; targetX <= Main.WINDOW_WIDTH - halfWidth; targetX += CANDIDATE_STEP) {
+            long cost = 0;
+            long crash = 0;
+            for (int i = 0; i < enemyAircrafts.size(); i++) {
+                AbstractAircraft enemyAircraft = enemyAircrafts.get(i);
+                int fixedX = enemyAircraft.getFixedX();
+                int fixedY = enemyAircraft.getFixedY();
+                int stepX = Fixed.mulDiv(enemyAircraft.getFixedSpeedX(), interval, AbstractFlyingObject.BASE_TICK_MILLIS);
+                int stepY = Fixed.mulDiv(enemyAircraft.getFixedSpeedY(), interval, AbstractFlyingObject.BASE_TICK_MILLIS);
+                int enemyHalfWidth = enemyAircraft.getWidth() / 2;
+                int enemyHalfHeight = enemyAircraft.getHeight() / 2;
+                crash = Math.max(crash, firstContact(x, targetX, heroY, halfWidth, halfHeight,
+                        fixedX, fixedY, stepX, stepY, enemyHalfWidth, enemyHalfHeight, ENEMY_LOOKAHEAD_TICKS));
+                cost += NEAR_MISS_COST * firstContact(x, targetX, heroY, halfWidth, halfHeight,
+                        fixedX, fixedY, stepX, stepY, enemyHalfWidth + CLEARANCE, enemyHalfHeight + CLEARANCE, ENEMY_LOOKAHEAD_TICKS);
+            }
+            for (int i = 0; i < enemyBullets.size(); i++) {
+                cost += firstContact(x, targetX, heroY, halfWidth, halfHeight,
+                        enemyBullets.getFixedX(i), enemyBullets.getFixedY(i),
+                        Fixed.mulDiv(enemyBullets.getFixedSpeedX(i), interval, AbstractFlyingObject.BASE_TICK_MILLIS),
+                        Fixed.mulDiv(enemyBullets.getFixedSpeedY(i), interval, AbstractFlyingObject.BASE_TICK_MILLIS),
+                        enemyBullets.getWidth() / 2, enemyBullets.getHeight() / 2, BULLET_LOOKAHEAD_TICKS);
+            }
+            cost += ENEMY_COST * crash;
+            int distance = Math.abs(targetX - aimX);
+            if (cost < bestCost || (cost == bestCost && distance < bestDistance)) {
+                bestCost = cost;
+                bestDistance = distance;
+                bestX = targetX;
+            }
+        }
+        int dx = Math.max(-BOT_STEP, Math.min(BOT_STEP, bestX - x));
+        heroAircraft.setLocation(x + dx, heroY);
+    }
+
+    /**
+     * 推演英雄机从 x 向 targetX 移动时与一个匀速运动的对象首次接触的时刻
+     * @return 接触越早值越大，推演期间不接触为 0
+     */
+    private static long firstContact(int x, int targetX, int heroY, int halfWidth, int halfHeight,
+                                     int fixedX, int fixedY, int fixedSpeedX, int fixedSpeedY,
+                                     int objectHalfWidth, int objectHalfHeight, int ticks) {
+        int reachX = halfWidth + objectHalfWidth;
+        int reachY = halfHeight + objectHalfHeight;
+        for (int t = 1; t <= ticks; t++) {
+            int heroX = x + Math.max(-BOT_STEP * t, Math.min(BOT_STEP * t, targetX - x));
+            int objectX = Fixed.toInt(fixedX + fixedSpeedX * t);
+            int objectY = Fixed.toInt(fixedY + fixedSpeedY * t);
+            if (Math.abs(objectX - heroX) < reachX && Math.abs(objectY - heroY) < reachY) {
+                return ticks + 1 - t;
+            }
+        }
+        return 0;
+    }
+}
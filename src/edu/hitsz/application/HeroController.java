@@ -2,7 +2,7 @@ package edu.hitsz.application;
 
 import edu.hitsz.aircraft.HeroAircraft;
 
-import javax.swing.*;
+import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
@@ -13,11 +13,11 @@ import java.awt.event.MouseEvent;
  * @author hitsz
  */
 public class HeroController {
-    private JPanel game;
+    private Component game;
     private HeroAircraft heroAircraft;
     private MouseAdapter mouseAdapter;
 
-    public HeroController(JPanel game, HeroAircraft heroAircraft){
+    public HeroController(Component game, HeroAircraft heroAircraft){
         this.game = game;
         this.heroAircraft = heroAircraft;
 
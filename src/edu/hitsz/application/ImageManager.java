@@ -14,6 +14,7 @@ import edu.hitsz.prop.FireProp;
 import edu.hitsz.prop.SuperFireProp;
 
 import javax.imageio.ImageIO;
+import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -22,7 +23,10 @@ import java.util.Map;
 
 /**
  * 综合管理图片的加载，访问
- * 提供图片的静态访问方法
+ * 提供图片的静态访问方法。
+ * <br>
+ * 图片读取后一次性转换为与屏幕兼容的格式（精灵为半透明、背景为不透明），
+ * 避免 JPEG 背景与调色板 PNG 在每次 drawImage 时由 Java2D 逐像素转换格式
  *
  * @author hitsz
  */
@@ -53,22 +57,22 @@ public class ImageManager {
     static {
         try {
 
-            BACKGROUND_IMAGE = ImageIO.read(new FileInputStream("src/images/bg.jpg"));
-            BACKGROUND_IMAGE_EASY = ImageIO.read(new FileInputStream("src/images/bg.jpg"));
-            BACKGROUND_IMAGE_NORMAL = ImageIO.read(new FileInputStream("src/images/bg2.jpg"));
-            BACKGROUND_IMAGE_HARD = ImageIO.read(new FileInputStream("src/images/bg3.jpg"));
-
-            HERO_IMAGE = ImageIO.read(new FileInputStream("src/images/hero.png"));
-            MOB_ENEMY_IMAGE = ImageIO.read(new FileInputStream("src/images/mob.png"));
-            ELITE_ENEMY_IMAGE = ImageIO.read(new FileInputStream("src/images/elite.png"));
-            ELITE_PLUS_ENEMY_IMAGE = ImageIO.read(new FileInputStream("src/images/elitePlus.png"));
-            BOSS_ENEMY_IMAGE = ImageIO.read(new FileInputStream("src/images/boss.png"));
-            HERO_BULLET_IMAGE = ImageIO.read(new FileInputStream("src/images/bullet_hero.png"));
-            ENEMY_BULLET_IMAGE = ImageIO.read(new FileInputStream("src/images/bullet_enemy.png"));
-            BLOOD_PROP_IMAGE = ImageIO.read(new FileInputStream("src/images/prop_blood.png"));
-            BOMB_PROP_IMAGE = ImageIO.read(new FileInputStream("src/images/prop_bomb.png"));
-            FIRE_PROP_IMAGE = ImageIO.read(new FileInputStream("src/images/prop_bullet.png"));
-            SUPER_FIRE_PROP_IMAGE = ImageIO.read(new FileInputStream("src/images/prop_bulletPlus.png"));
+            BACKGROUND_IMAGE = load("src/images/bg.jpg", Transparency.OPAQUE);
+            BACKGROUND_IMAGE_EASY = load("src/images/bg.jpg", Transparency.OPAQUE);
+            BACKGROUND_IMAGE_NORMAL = load("src/images/bg2.jpg", Transparency.OPAQUE);
+            BACKGROUND_IMAGE_HARD = load("src/images/bg3.jpg", Transparency.OPAQUE);
+
+            HERO_IMAGE = load("src/images/hero.png", Transparency.TRANSLUCENT);
+            MOB_ENEMY_IMAGE = load("src/images/mob.png", Transparency.TRANSLUCENT);
+            ELITE_ENEMY_IMAGE = load("src/images/elite.png", Transparency.TRANSLUCENT);
+            ELITE_PLUS_ENEMY_IMAGE = load("src/images/elitePlus.png", Transparency.TRANSLUCENT);
+            BOSS_ENEMY_IMAGE = load("src/images/boss.png", Transparency.TRANSLUCENT);
+            HERO_BULLET_IMAGE = load("src/images/bullet_hero.png", Transparency.TRANSLUCENT);
+            ENEMY_BULLET_IMAGE = load("src/images/bullet_enemy.png", Transparency.TRANSLUCENT);
+            BLOOD_PROP_IMAGE = load("src/images/prop_blood.png", Transparency.TRANSLUCENT);
+            BOMB_PROP_IMAGE = load("src/images/prop_bomb.png", Transparency.TRANSLUCENT);
+            FIRE_PROP_IMAGE = load("src/images/prop_bullet.png", Transparency.TRANSLUCENT);
+            SUPER_FIRE_PROP_IMAGE = load("src/images/prop_bulletPlus.png", Transparency.TRANSLUCENT);
 
             CLASSNAME_IMAGE_MAP.put(HeroAircraft.class.getName(), HERO_IMAGE);
             CLASSNAME_IMAGE_MAP.put(MobEnemy.class.getName(), MOB_ENEMY_IMAGE);
@@ -88,6 +92,41 @@ public class ImageManager {
         }
     }
 
+    /**
+     * 读取图片并转换为兼容格式
+     * @param path         图片路径
+     * @param transparency 透明度类型：背景为 {@link Transparency#OPAQUE}，精灵为 {@link Transparency#TRANSLUCENT}
+     */
+    private static BufferedImage load(String path, int transparency) throws IOException {
+        try (FileInputStream in = new FileInputStream(path)) {
+            return toCompatibleImage(ImageIO.read(in), transparency);
+        }
+    }
+
+    /**
+     * 复制为与默认屏幕兼容的图片
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage image, int transparency) {
+        BufferedImage compatible = createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g = compatible.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+
+    /**
+     * 创建与默认屏幕兼容的空白图片，无显示环境时使用 Java2D 软件渲染最快的整型像素格式
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height,
+                    transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, transparency);
+    }
+
     public static BufferedImage get(String className){
         return CLASSNAME_IMAGE_MAP.get(className);
     }
@@ -49,22 +49,9 @@ public class Menu extends JFrame {
         gameFrame.setLocationRelativeTo(null);
         gameFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
-        // 根据难度创建不同的游戏实例（模板模式应用）
-        AbstractGame game;
-        switch (difficulty) {
-            case "EASY":
-                game = new EasyGame(difficulty, soundEnabled);
-                break;
-            case "NORMAL":
-                game = new NormalGame(difficulty, soundEnabled);
-                break;
-            case "HARD":
-                game = new HardGame(difficulty, soundEnabled);
-                break;
-            default:
-                game = new NormalGame(difficulty, soundEnabled);
-                break;
-        }
+        // 根据难度创建不同的游戏世界（模板模式应用），由游戏界面驱动与绘制
+        GameWorld world = GameWorld.create(difficulty, System.nanoTime());
+        GamePanel game = new GamePanel(world, soundEnabled);
 
         gameFrame.add(game);
         gameFrame.setVisible(true);
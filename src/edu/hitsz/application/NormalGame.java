@@ -1,6 +1,9 @@
 package edu.hitsz.application;
 
 import edu.hitsz.aircraft.*;
+import edu.hitsz.collision.CollisionEngineType;
+import edu.hitsz.event.EventType;
+import edu.hitsz.render.SpriteType;
 
 /**
  * 普通模式游戏
@@ -14,14 +17,18 @@ import edu.hitsz.aircraft.*;
  * - Boss出现阈值：600分
  * - 难度随时间增加（每15秒提升一次）
  */
-public class NormalGame extends AbstractGame {
+public class NormalGame extends GameWorld {
 
     private static final int DIFFICULTY_INCREASE_INTERVAL = 15000;  // 15秒
     private int lastDifficultyIncreaseTime = 0;
     private int bossAppearCount = 0;
 
-    public NormalGame(String difficulty, boolean soundEnabled) {
-        super(difficulty, soundEnabled);
+    public NormalGame(String difficulty, long seed) {
+        super(difficulty, seed);
+    }
+
+    public NormalGame(String difficulty, long seed, boolean verbose) {
+        super(difficulty, seed, verbose);
     }
 
     @Override
@@ -37,30 +44,31 @@ public class NormalGame extends AbstractGame {
         this.eliteEnemySpeed = 8;              // 精英敌机速度：8
         this.bossScoreThreshold = 600;         // Boss出现阈值：600分
         this.initialBossHp = 500;              // Boss初始血量：500
+        this.collisionEngineType = CollisionEngineType.SWEEP_AND_PRUNE;  // 碰撞检测：对象数量中等，扫描剪枝
     }
 
     @Override
     protected void generateEnemy() {
         // 随机产生普通敌机或精英敌机
-        if (Math.random() < (1 - eliteProbability)) {
+        if (random.nextDouble() < (1 - eliteProbability)) {
             // 70%概率产生普通敌机
-            int mobEnemyWidth = ImageManager.MOB_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
+            int mobEnemyWidth = SpriteType.MOB_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - mobEnemyWidth)) + mobEnemyWidth / 2;
             enemyAircrafts.add(mobEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
                     0,
                     mobEnemySpeed,
                     mobEnemyHp
             ));
         } else {
             // 30%概率产生精英敌机
-            int eliteEnemyWidth = ImageManager.ELITE_ENEMY_IMAGE.getWidth();
-            int locationX = (int) (Math.random() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
+            int eliteEnemyWidth = SpriteType.ELITE_ENEMY.getWidth();
+            int locationX = (int) (random.nextDouble() * (Main.WINDOW_WIDTH - eliteEnemyWidth));
             enemyAircrafts.add(eliteEnemyFactory.createEnemy(
                     locationX,
-                    (int) (Math.random() * Main.WINDOW_HEIGHT * 0.05),
-                    (int) (Math.random() * 4 - 2),
+                    (int) (random.nextDouble() * Main.WINDOW_HEIGHT * 0.05),
+                    (int) (random.nextDouble() * 4 - 2),
                     eliteEnemySpeed,
                     eliteEnemyHp
             ));
@@ -69,21 +77,13 @@ public class NormalGame extends AbstractGame {
 
     @Override
     protected void generateBoss() {
-        System.out.println("===== Boss敌机出现！=====");
+        log("===== Boss敌机出现！=====");
         bossAppearCount++;
-        System.out.println("这是第 " + bossAppearCount + " 次Boss出现");
-        System.out.println("Boss血量倍率: 1.00");
-
-        if (soundEnabled) {
-            if (bgmThread != null) {
-                bgmThread.stopMusic();
-            }
-            bossBgmThread = new MusicThread("src/videos/bgm_boss.wav", true);
-            bossBgmThread.start();
-        }
+        log("这是第 " + bossAppearCount + " 次Boss出现");
+        log("Boss血量倍率: 1.00");
 
         int locationX = Main.WINDOW_WIDTH / 2;
-        int locationY = ImageManager.BOSS_ENEMY_IMAGE.getHeight();
+        int locationY = SpriteType.BOSS_ENEMY.getHeight();
         int speedX = 5;
         int speedY = 0;
         int hp = getBossHp();
@@ -91,9 +91,10 @@ public class NormalGame extends AbstractGame {
         enemyAircrafts.add(bossEnemyFactory.createEnemy(locationX, locationY, speedX, speedY, hp));
         bossExists = true;
         lastBossScore = score;
+        getEvents().publish(EventType.BOSS_APPEARED, SpriteType.BOSS_ENEMY.ordinal(), locationX, locationY, hp, 0);
 
-        System.out.println("Boss血量: " + hp);
-        System.out.println("========================");
+        log("Boss血量: " + hp);
+        log("========================");
     }
 
     @Override
@@ -106,22 +107,22 @@ public class NormalGame extends AbstractGame {
     protected void increaseDifficulty() {
         lastDifficultyIncreaseTime = time;
 
-        System.out.println();
-        System.out.println("════════════════════════════════════════════════════════");
-        System.out.println("⚠️⚠️⚠️  难度提升！难度提升！难度提升！  ⚠️⚠️⚠️");
-        System.out.println("════════════════════════════════════════════════════════");
-        System.out.println("【游戏时长】 " + (time / 1000) + "秒");
-        System.out.println("------------------------------------------------------------");
+        log("");
+        log("════════════════════════════════════════════════════════");
+        log("⚠️⚠️⚠️  难度提升！难度提升！难度提升！  ⚠️⚠️⚠️");
+        log("════════════════════════════════════════════════════════");
+        log("【游戏时长】 " + (time / 1000) + "秒");
+        log("------------------------------------------------------------");
 
         // 提升敌机血量（+10%）
         double oldMobHp = mobEnemyHp;
         double oldEliteHp = eliteEnemyHp;
         mobEnemyHp = (int) (mobEnemyHp * 1.10);
         eliteEnemyHp = (int) (eliteEnemyHp * 1.10);
-        System.out.println("【血量提升】");
-        System.out.println("  ▶ 普通敌机血量: " + String.format("%.0f", oldMobHp) + " → " + mobEnemyHp +
+        log("【血量提升】");
+        log("  ▶ 普通敌机血量: " + String.format("%.0f", oldMobHp) + " → " + mobEnemyHp +
                          " (×" + String.format("%.2f", mobEnemyHp / oldMobHp) + ")");
-        System.out.println("  ▶ 精英敌机血量: " + String.format("%.0f", oldEliteHp) + " → " + eliteEnemyHp +
+        log("  ▶ 精英敌机血量: " + String.format("%.0f", oldEliteHp) + " → " + eliteEnemyHp +
                          " (×" + String.format("%.2f", eliteEnemyHp / oldEliteHp) + ")");
 
         // 提升敌机速度（+8%）
@@ -129,18 +130,18 @@ public class NormalGame extends AbstractGame {
         double oldEliteSpeed = eliteEnemySpeed;
         mobEnemySpeed = (int) (mobEnemySpeed * 1.08);
         eliteEnemySpeed = (int) (eliteEnemySpeed * 1.08);
-        System.out.println("【速度提升】");
-        System.out.println("  ▶ 普通敌机速度: " + String.format("%.0f", oldMobSpeed) + " → " + mobEnemySpeed +
+        log("【速度提升】");
+        log("  ▶ 普通敌机速度: " + String.format("%.0f", oldMobSpeed) + " → " + mobEnemySpeed +
                          " (×" + String.format("%.2f", mobEnemySpeed / oldMobSpeed) + ")");
-        System.out.println("  ▶ 精英敌机速度: " + String.format("%.0f", oldEliteSpeed) + " → " + eliteEnemySpeed +
+        log("  ▶ 精英敌机速度: " + String.format("%.0f", oldEliteSpeed) + " → " + eliteEnemySpeed +
                          " (×" + String.format("%.2f", eliteEnemySpeed / oldEliteSpeed) + ")");
 
         // 缩短敌机产生周期（-8%，最小400ms）
         if (cycleDuration > 400) {
             double oldCycle = cycleDuration;
             cycleDuration = Math.max(400, (int) (cycleDuration * 0.92));
-            System.out.println("【刷新加速】");
-            System.out.println("  ▶ 敌机产生周期: " + String.format("%.0f", oldCycle) + "ms → " + cycleDuration + "ms" +
+            log("【刷新加速】");
+            log("  ▶ 敌机产生周期: " + String.format("%.0f", oldCycle) + "ms → " + cycleDuration + "ms" +
                              " (×" + String.format("%.2f", cycleDuration / oldCycle) + ")");
         }
 
@@ -148,8 +149,8 @@ public class NormalGame extends AbstractGame {
         if (eliteProbability < 0.5) {
             double oldProb = eliteProbability;
             eliteProbability = Math.min(0.5, eliteProbability + 0.03);
-            System.out.println("【精英增多】");
-            System.out.println("  ▶ 精英敌机概率: " + String.format("%.0f%%", oldProb * 100) +
+            log("【精英增多】");
+            log("  ▶ 精英敌机概率: " + String.format("%.0f%%", oldProb * 100) +
                              " → " + String.format("%.0f%%", eliteProbability * 100));
         }
 
@@ -157,12 +158,12 @@ public class NormalGame extends AbstractGame {
         if (enemyMaxNumber < 7) {
             int oldMaxNumber = enemyMaxNumber;
             enemyMaxNumber = Math.min(7, enemyMaxNumber + 1);
-            System.out.println("【数量增加】");
-            System.out.println("  ▶ 敌机最大数量: " + oldMaxNumber + " → " + enemyMaxNumber);
+            log("【数量增加】");
+            log("  ▶ 敌机最大数量: " + oldMaxNumber + " → " + enemyMaxNumber);
         }
 
-        System.out.println("════════════════════════════════════════════════════════");
-        System.out.println();
+        log("════════════════════════════════════════════════════════");
+        log("");
     }
 
     @Override
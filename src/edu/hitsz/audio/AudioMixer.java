@@ -0,0 +1,418 @@
+package edu.hitsz.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 进程内混音器
+ * 所有音效在首次使用时解码一次并常驻内存，由一个专用线程把正在播放的声部混合后写入唯一一条持续打开的输出线。
+ * <br>
+ * 触发音效只是对该音效的待播放计数原子加一，不分配内存、不创建线程、不读文件，可在任意线程调用；
+ * 混音线程在每个缓冲区开始时取走计数，按优先级从高到低为其分配声部。
+ * <br>
+ * 声部池大小固定（总复音数），每类音效另有声部上限（见 {@link Sound}）：
+ * 达到上限时复用该音效最早开始的声部，声部池占满时抢占优先级不高于它、最早开始的声部，
+ * 没有可抢占的声部则丢弃。同一缓冲区内多次触发同一音效只按上限计，
+ * 因此无论画面多混乱，混音线程的工作量与线程数都保持不变。
+ * <br>
+ * 背景音乐不占用声部，由独立的音乐通道播放：各曲目以内存映射方式读取（见 {@link PcmClip#map(String)}），按样本循环，
+ * 切换曲目只是写入请求的曲目，交叉淡入淡出由混音线程逐帧完成；缺失的曲目以普通背景音乐代替。
+ * 没有可用的音频设备时混音器不启动，触发音效不产生任何效果
+ *
+ * @author hitsz
+ */
+public final class AudioMixer {
+
+    /**
+     * 混音格式：44.1kHz、16 位有符号、双声道、小端
+     */
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+
+    /**
+     * 每次混音的帧数，约 11.6ms
+     */
+    static final int BUFFER_FRAMES = 512;
+
+    /**
+     * 输出线缓冲的混音缓冲区个数，决定音效延迟
+     */
+    private static final int LINE_BUFFERS = 4;
+
+    /**
+     * 总复音数，可通过系统属性 aircraftwar.voices 调整
+     */
+    private static final int DEFAULT_VOICES = Integer.getInteger("aircraftwar.voices", 16);
+
+    /**
+     * 背景音乐交叉淡入淡出的帧数，约 0.5 秒
+     */
+    static final int CROSSFADE_FRAMES = 22050;
+
+    /**
+     * 音乐增益的定点数单位（16 位小数）
+     */
+    private static final int UNITY_GAIN = 1 << 16;
+
+    private static final int NO_MUSIC = -1;
+
+    private static final Sound[] SOUNDS = Sound.values();
+
+    /**
+     * 音效按优先级从高到低排列，优先级高的音效先分配声部
+     */
+    private static final Sound[] BY_PRIORITY = SOUNDS.clone();
+
+    static {
+        Arrays.sort(BY_PRIORITY, (a, b) -> b.getPriority() - a.getPriority());
+    }
+
+    private static AudioMixer instance = null;
+
+    /**
+     * 按音效序号存放的解码样本，加载失败的音效为 null
+     */
+    private final PcmClip[] clips;
+
+    /**
+     * 按音效序号存放的待播放次数
+     */
+    private final AtomicIntegerArray triggers;
+
+    /**
+     * 声部池，只由混音线程访问
+     */
+    private final Voice[] voices;
+
+    /**
+     * 按音效序号存放的正在播放的声部数
+     */
+    private final int[] playing;
+
+    /**
+     * 按曲目序号存放的背景音乐样本、播放位置与当前增益，加载失败的曲目为 null
+     */
+    private final PcmClip[] tracks;
+    private final int[] trackPosition;
+    private final int[] trackGain;
+
+    /**
+     * 请求播放的曲目序号，由任意线程写入；正在淡入的曲目只由混音线程访问
+     */
+    private volatile int requestedMusic = NO_MUSIC;
+    private int currentMusic = NO_MUSIC;
+
+    /**
+     * 已混合的帧数，用于比较声部开始的先后
+     */
+    private long frameClock = 0;
+
+    /**
+     * 被抢占与被丢弃的触发次数，只由混音线程更新
+     */
+    private int stolen = 0;
+    private int dropped = 0;
+
+    /**
+     * 混音累加缓冲区与输出缓冲区
+     */
+    private final int[] mixBuffer = new int[BUFFER_FRAMES * 2];
+    private final byte[] outBuffer = new byte[BUFFER_FRAMES * 4];
+
+    /**
+     * 是否接受触发，没有音频设备或已关闭时为 false
+     */
+    private volatile boolean enabled = true;
+
+    private volatile boolean running = false;
+    private SourceDataLine line;
+
+    AudioMixer(PcmClip[] clips, PcmClip[] tracks, int voiceCount) {
+        this.clips = clips;
+        this.tracks = tracks;
+        this.trackPosition = new int[tracks.length];
+        this.trackGain = new int[tracks.length];
+        this.triggers = new AtomicIntegerArray(clips.length);
+        this.playing = new int[clips.length];
+        this.voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    /**
+     * 取得混音器，首次调用时解码全部音效与背景音乐并启动混音线程
+     */
+    public static synchronized AudioMixer getInstance() {
+        if (instance == null) {
+            PcmClip[] clips = new PcmClip[SOUNDS.length];
+            for (Sound sound : SOUNDS) {
+                clips[sound.ordinal()] = PcmClip.load(sound.getPath());
+            }
+            PcmClip[] tracks = new PcmClip[Music.values().length];
+            for (Music music : Music.values()) {
+                tracks[music.ordinal()] = PcmClip.map(music.getPath());
+            }
+            instance = new AudioMixer(clips, tracks, DEFAULT_VOICES);
+            instance.start();
+        }
+        return instance;
+    }
+
+    private void start() {
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, outBuffer.length * LINE_BUFFERS);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            System.err.println("音频输出不可用，音效已关闭: " + e.getMessage());
+            enabled = false;
+            return;
+        }
+        line.start();
+        running = true;
+        Thread thread = new Thread(this::run, "audio-mixer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 混音线程：输出线缓冲满时 write() 阻塞，由此按声卡速度推进
+     */
+    private void run() {
+        while (running) {
+            mix(outBuffer, BUFFER_FRAMES);
+            line.write(outBuffer, 0, outBuffer.length);
+        }
+        line.drain();
+        line.close();
+    }
+
+    /**
+     * 触发音效
+     */
+    public void play(Sound sound) {
+        if (enabled) {
+            triggers.incrementAndGet(sound.ordinal());
+        }
+    }
+
+    /**
+     * 切换背景音乐，由混音线程交叉淡入淡出；曲目缺失时播放普通背景音乐
+     */
+    public void playMusic(Music music) {
+        if (enabled) {
+            requestedMusic = music.ordinal();
+        }
+    }
+
+    /**
+     * 淡出背景音乐
+     */
+    public void stopMusic() {
+        requestedMusic = NO_MUSIC;
+    }
+
+    /**
+     * 停止混音线程并关闭输出线
+     */
+    public void shutdown() {
+        enabled = false;
+        running = false;
+    }
+
+    /**
+     * 取走待播放的音效分配声部，混合所有声部的下 frames 帧，写入 16 位小端交错样本
+     */
+    void mix(byte[] out, int frames) {
+        startTriggered();
+        int length = frames * 2;
+        Arrays.fill(mixBuffer, 0, length, 0);
+        for (Voice voice : voices) {
+            if (voice.clip != null && !voice.mixInto(mixBuffer, frames)) {
+                release(voice);
+            }
+        }
+        mixMusic(frames);
+        frameClock += frames;
+        for (int i = 0; i < length; i++) {
+            int value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            out[i * 2] = (byte) value;
+            out[i * 2 + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /**
+     * 音乐通道：请求的曲目增益逐帧升到 1，其余曲目逐帧降到 0，到达结尾时从头循环。
+     * 从静音开始淡入的曲目从头播放
+     */
+    private void mixMusic(int frames) {
+        int target = requestedMusic;
+        if (target != NO_MUSIC && tracks[target] == null) {
+            target = tracks[Music.NORMAL.ordinal()] == null ? NO_MUSIC : Music.NORMAL.ordinal();
+        }
+        if (target != currentMusic) {
+            if (target != NO_MUSIC && trackGain[target] == 0) {
+                trackPosition[target] = 0;
+            }
+            currentMusic = target;
+        }
+        int step = UNITY_GAIN / CROSSFADE_FRAMES + 1;
+        for (int t = 0; t < tracks.length; t++) {
+            int goal = t == currentMusic ? UNITY_GAIN : 0;
+            if (tracks[t] == null || tracks[t].frames() == 0 || trackGain[t] == 0 && goal == 0) {
+                continue;
+            }
+            ShortBuffer samples = tracks[t].samples();
+            int length = samples.limit();
+            int position = trackPosition[t];
+            int gain = trackGain[t];
+            for (int i = 0; i < frames * 2; i += 2) {
+                gain = gain < goal ? Math.min(goal, gain + step) : Math.max(goal, gain - step);
+                mixBuffer[i] += samples.get(position) * gain >> 16;
+                mixBuffer[i + 1] += samples.get(position + 1) * gain >> 16;
+                position += 2;
+                if (position == length) {
+                    position = 0;
+                }
+            }
+            trackPosition[t] = position;
+            trackGain[t] = gain;
+        }
+    }
+
+    private void startTriggered() {
+        for (Sound sound : BY_PRIORITY) {
+            int index = sound.ordinal();
+            int count = triggers.getAndSet(index, 0);
+            if (count == 0 || clips[index] == null) {
+                continue;
+            }
+            // 同一缓冲区内超过上限的触发听起来没有区别，直接丢弃
+            int accepted = Math.min(count, sound.getMaxVoices());
+            dropped += count - accepted;
+            for (int i = 0; i < accepted; i++) {
+                Voice voice = claimVoice(sound);
+                if (voice == null) {
+                    dropped += accepted - i;
+                    break;
+                }
+                voice.start(sound, clips[index], frameClock);
+                playing[index]++;
+            }
+        }
+    }
+
+    /**
+     * 为音效取得声部：达到上限时复用自己最早开始的声部，其次取空闲声部，
+     * 再次抢占优先级最低（相同时最早开始）且不高于该音效的声部
+     * @return 已清空的声部，没有可用声部时为 null
+     */
+    private Voice claimVoice(Sound sound) {
+        Voice victim = null;
+        if (playing[sound.ordinal()] >= sound.getMaxVoices()) {
+            for (Voice voice : voices) {
+                if (voice.sound == sound && (victim == null || voice.startFrame < victim.startFrame)) {
+                    victim = voice;
+                }
+            }
+        } else {
+            for (Voice voice : voices) {
+                if (voice.clip == null) {
+                    return voice;
+                }
+                if (voice.sound.getPriority() <= sound.getPriority() && (victim == null
+                        || voice.sound.getPriority() < victim.sound.getPriority()
+                        || voice.sound.getPriority() == victim.sound.getPriority() && voice.startFrame < victim.startFrame)) {
+                    victim = voice;
+                }
+            }
+        }
+        if (victim != null) {
+            stolen++;
+            release(victim);
+        }
+        return victim;
+    }
+
+    private void release(Voice voice) {
+        playing[voice.sound.ordinal()]--;
+        voice.clip = null;
+        voice.sound = null;
+    }
+
+    /**
+     * 正在播放的声部数
+     */
+    int activeVoices() {
+        int active = 0;
+        for (Voice voice : voices) {
+            if (voice.clip != null) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * 同一音效达到上限或声部池占满而被抢占的声部数
+     */
+    int getStolen() {
+        return stolen;
+    }
+
+    /**
+     * 未能播放的触发次数
+     */
+    int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * 曲目当前的增益，1 为 {@code 1 << 16}
+     */
+    int musicGain(Music music) {
+        return trackGain[music.ordinal()];
+    }
+
+    /**
+     * 正在播放某音效的声部数
+     */
+    int playing(Sound sound) {
+        return playing[sound.ordinal()];
+    }
+
+    /**
+     * 声部：正在播放的音效、片段及播放位置，播放结束后置空以便复用
+     */
+    private static final class Voice {
+
+        private Sound sound;
+        private PcmClip clip;
+        private int position;
+        private long startFrame;
+
+        private void start(Sound sound, PcmClip clip, long startFrame) {
+            this.sound = sound;
+            this.clip = clip;
+            this.position = 0;
+            this.startFrame = startFrame;
+        }
+
+        /**
+         * @return 片段是否还有未播放的样本
+         */
+        private boolean mixInto(int[] mixBuffer, int frames) {
+            ShortBuffer samples = clip.samples();
+            int count = Math.min(frames * 2, samples.limit() - position);
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += samples.get(position + i);
+            }
+            position += count;
+            return position < samples.limit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package edu.hitsz.audio;
+
+/**
+ * 背景音乐
+ * 由混音器的音乐通道循环播放，切换时交叉淡入淡出
+ *
+ * @author hitsz
+ */
+public enum Music {
+
+    NORMAL("src/videos/bgm.wav"),
+    BOSS("src/videos/bgm_boss.wav");
+
+    private final String path;
+
+    Music(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,210 @@
+package edu.hitsz.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 解码后的音频片段
+ * 加载时统一转换为混音器格式（{@link AudioMixer#FORMAT}：44.1kHz、16 位有符号、双声道），
+ * 样本按 左、右 交错存放，混音时直接相加，不再做格式转换。
+ * <br>
+ * 短音效解码后常驻堆内存；背景音乐等长音频转换后写入磁盘缓存文件并以内存映射方式读取，
+ * 样本不占用堆内存，由操作系统按需换入，同一 JVM 及同一台机器上的多个进程共享同一份页缓存
+ *
+ * @author hitsz
+ */
+public final class PcmClip {
+
+    /**
+     * 内存映射缓存文件所在目录，可通过系统属性 aircraftwar.audioCache 指定
+     */
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("aircraftwar.audioCache",
+            System.getProperty("java.io.tmpdir") + File.separator + "aircraftwar-audio"));
+
+    private final ShortBuffer samples;
+
+    PcmClip(short[] samples) {
+        this(ShortBuffer.wrap(samples));
+    }
+
+    private PcmClip(ShortBuffer samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * 读取并解码 WAV 文件
+     * @param path 文件路径
+     * @return 音频片段，文件不存在或格式不支持时为 null
+     */
+    public static PcmClip load(String path) {
+        File file = new File(path);
+        if (!file.isFile()) {
+            System.err.println("音频文件不存在: " + path);
+            return null;
+        }
+        try (AudioInputStream stream = AudioSystem.getAudioInputStream(file)) {
+            return decode(stream);
+        } catch (UnsupportedAudioFileException e) {
+            System.err.println("不支持的音频文件格式: " + path);
+        } catch (IOException e) {
+            System.err.println("读取音频文件失败: " + path);
+        }
+        return null;
+    }
+
+    /**
+     * 以内存映射方式加载长音频。首次加载时解码并转换为混音器格式写入缓存文件，
+     * 之后（包括其他游戏进程）直接映射缓存文件；源文件修改后缓存自动失效。
+     * 缓存不可用时退回常驻内存加载
+     * @param path 文件路径
+     * @return 音频片段，文件不存在或格式不支持时为 null
+     */
+    public static PcmClip map(String path) {
+        return map(path, CACHE_DIR);
+    }
+
+    static PcmClip map(String path, Path cacheDir) {
+        File file = new File(path);
+        if (!file.isFile()) {
+            System.err.println("音频文件不存在: " + path);
+            return null;
+        }
+        Path cache = cacheDir.resolve(file.getName() + "-" + file.length() + "-" + file.lastModified() + ".pcm");
+        try {
+            if (!Files.isRegularFile(cache)) {
+                PcmClip decoded = load(path);
+                if (decoded == null) {
+                    return null;
+                }
+                writeCache(decoded, cache);
+            }
+            try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.READ)) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new PcmClip(mapped.order(ByteOrder.LITTLE_ENDIAN).asShortBuffer());
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            System.err.println("音频缓存不可用，改为载入内存: " + path);
+            return load(path);
+        }
+    }
+
+    /**
+     * 先写入临时文件再改名，多个进程同时建立缓存时不会映射到写了一半的文件
+     */
+    private static void writeCache(PcmClip clip, Path cache) throws IOException {
+        Files.createDirectories(cache.getParent());
+        Path temp = Files.createTempFile(cache.getParent(), cache.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocate(clip.samples.limit() * 2).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asShortBuffer().put(clip.samples.duplicate());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        try {
+            Files.move(temp, cache, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 解码音频流：8/16 位、单/双声道、任意采样率的 PCM 转换为混音器格式，其他编码先由 Java Sound 转为 PCM
+     */
+    public static PcmClip decode(AudioInputStream stream) throws IOException {
+        AudioFormat format = stream.getFormat();
+        boolean pcm = AudioFormat.Encoding.PCM_SIGNED.equals(format.getEncoding())
+                || AudioFormat.Encoding.PCM_UNSIGNED.equals(format.getEncoding());
+        if (!pcm || (format.getSampleSizeInBits() != 8 && format.getSampleSizeInBits() != 16)) {
+            AudioFormat target = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            return decode(AudioSystem.getAudioInputStream(target, stream));
+        }
+        byte[] data = stream.readAllBytes();
+        int channels = format.getChannels();
+        int bytesPerSample = format.getSampleSizeInBits() / 8;
+        int frameSize = channels * bytesPerSample;
+        int sourceFrames = data.length / frameSize;
+
+        // 先逐帧取左右声道（单声道复制到两个声道），再按采样率线性插值
+        short[] source = new short[sourceFrames * 2];
+        for (int i = 0; i < sourceFrames; i++) {
+            int offset = i * frameSize;
+            source[i * 2] = sample(data, offset, format);
+            source[i * 2 + 1] = channels > 1 ? sample(data, offset + bytesPerSample, format) : source[i * 2];
+        }
+        return new PcmClip(resample(source, Math.round(format.getSampleRate())));
+    }
+
+    private static short sample(byte[] data, int offset, AudioFormat format) {
+        if (format.getSampleSizeInBits() == 8) {
+            int value = AudioFormat.Encoding.PCM_UNSIGNED.equals(format.getEncoding())
+                    ? (data[offset] & 0xFF) - 128 : data[offset];
+            return (short) (value << 8);
+        }
+        int low = format.isBigEndian() ? data[offset + 1] : data[offset];
+        int high = format.isBigEndian() ? data[offset] : data[offset + 1];
+        int value = (high << 8) | (low & 0xFF);
+        return AudioFormat.Encoding.PCM_UNSIGNED.equals(format.getEncoding())
+                ? (short) (value - 32768) : (short) value;
+    }
+
+    /**
+     * 双声道样本由 sourceRate 线性插值到混音器采样率
+     */
+    static short[] resample(short[] source, int sourceRate) {
+        int targetRate = Math.round(AudioMixer.FORMAT.getSampleRate());
+        if (sourceRate == targetRate) {
+            return source;
+        }
+        int sourceFrames = source.length / 2;
+        int frames = (int) ((long) sourceFrames * targetRate / sourceRate);
+        short[] samples = new short[frames * 2];
+        for (int i = 0; i < frames; i++) {
+            // 源位置的整数部分与 16 位小数部分
+            long position = ((long) i * sourceRate << 16) / targetRate;
+            int index = (int) (position >> 16);
+            int fraction = (int) (position & 0xFFFF);
+            int next = Math.min(index + 1, sourceFrames - 1);
+            for (int c = 0; c < 2; c++) {
+                int a = source[index * 2 + c];
+                int b = source[next * 2 + c];
+                samples[i * 2 + c] = (short) (a + ((b - a) * fraction >> 16));
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * 帧数（每帧一个左声道样本和一个右声道样本）
+     */
+    public int frames() {
+        return samples.limit() / 2;
+    }
+
+    /**
+     * 样本，按下标绝对读取，不改变缓冲区位置，可由多个混音器共享
+     */
+    ShortBuffer samples() {
+        return samples;
+    }
+
+    /**
+     * 样本是否以内存映射方式存放
+     */
+    public boolean isMapped() {
+        return samples.isDirect();
+    }
+}
@@ -0,0 +1,48 @@
+package edu.hitsz.audio;
+
+/**
+ * 音效类型
+ * 触发音效时只传递类型，混音器按类型序号取得预先解码的样本。
+ * <br>
+ * 每类音效有优先级与同时播放的声部上限：声部全部占用时，新音效抢占优先级不高于它的声部
+ * （击中音效先于爆炸音效被抢占）；达到上限的音效重新触发时复用自己最早开始的声部
+ *
+ * @author hitsz
+ */
+public enum Sound {
+
+    BULLET_HIT("src/videos/bullet_hit.wav", 0, 6),
+    GET_SUPPLY("src/videos/get_supply.wav", 1, 3),
+    BOMB_EXPLOSION("src/videos/bomb_explosion.wav", 2, 3),
+    GAME_OVER("src/videos/game_over.wav", 3, 1);
+
+    private final String path;
+
+    /**
+     * 优先级，数值越大越不容易被抢占
+     */
+    private final int priority;
+
+    /**
+     * 同时播放的声部上限
+     */
+    private final int maxVoices;
+
+    Sound(String path, int priority, int maxVoices) {
+        this.path = path;
+        this.priority = priority;
+        this.maxVoices = maxVoices;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+}
@@ -1,10 +1,13 @@
 package edu.hitsz.basic;
 
-import edu.hitsz.aircraft.AbstractAircraft;
 import edu.hitsz.application.ImageManager;
 import edu.hitsz.application.Main;
+import edu.hitsz.collision.CollisionMask;
+import edu.hitsz.collision.SweptAabb;
+import edu.hitsz.render.SpriteType;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 可飞行对象的父类
@@ -13,27 +16,45 @@ import java.awt.image.BufferedImage;
  */
 public abstract class AbstractFlyingObject {
 
-    //locationX、locationY为图片中心位置坐标
     /**
-     * x 轴坐标
+     * 基准时刻长度(ms)，速度均为每个基准时刻移动的距离
      */
-    protected int locationX;
+    public static final int BASE_TICK_MILLIS = 40;
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /**
+     * 对象编号，渲染时用于在前后两帧快照中对应同一对象
+     */
+    protected final int id = nextId();
+
+    //位置为图片中心位置坐标，位置与速度均为 16.16 定点数（见 Fixed），整数像素只在使用时换算
+    /**
+     * x 轴坐标（定点数）
+     */
+    protected int fixedX;
+
+    /**
+     * y 轴坐标（定点数）
+     */
+    protected int fixedY;
 
     /**
-     * y 轴坐标
+     * 上一时刻移动前的坐标（定点数），用于连续碰撞检测
      */
-    protected int locationY;
+    protected int fixedPrevX;
+    protected int fixedPrevY;
 
 
     /**
-     * x 轴移动速度
+     * x 轴移动速度（定点数，每个基准时刻）
      */
-    protected int speedX;
+    protected int fixedSpeedX;
 
     /**
-     * y 轴移动速度
+     * y 轴移动速度（定点数，每个基准时刻）
      */
-    protected int speedY;
+    protected int fixedSpeedY;
 
     /**
      * 图片,
@@ -41,6 +62,18 @@ public abstract class AbstractFlyingObject {
      */
     protected BufferedImage image = null;
 
+    /**
+     * 碰撞掩码，
+     * null 表示未设置
+     */
+    protected CollisionMask mask = null;
+
+    /**
+     * 精灵类型，
+     * null 表示未设置
+     */
+    protected SpriteType spriteType = null;
+
     /**
      * x 轴长度，根据图片尺寸获得
      * -1 表示未设置
@@ -63,73 +96,168 @@ public abstract class AbstractFlyingObject {
     public AbstractFlyingObject() {
     }
 
+    /**
+     * @param locationX 初始 x 坐标（像素）
+     * @param locationY 初始 y 坐标（像素）
+     * @param speedX    x 轴速度（像素每基准时刻）
+     * @param speedY    y 轴速度（像素每基准时刻）
+     */
     public AbstractFlyingObject(int locationX, int locationY, int speedX, int speedY) {
-        this.locationX = locationX;
-        this.locationY = locationY;
-        this.speedX = speedX;
-        this.speedY = speedY;
+        setFixedLocation(Fixed.of(locationX), Fixed.of(locationY));
+        setFixedSpeed(Fixed.of(speedX), Fixed.of(speedY));
+    }
+
+    /**
+     * 按一个基准时刻移动
+     */
+    public final void forward() {
+        forward(BASE_TICK_MILLIS);
     }
 
     /**
-     * 可飞行对象根据速度移动
+     * 可飞行对象根据速度移动，位移按时刻长度相对基准时刻缩放
      * 若飞行对象触碰到横向边界，横向速度反向
+     * @param elapsedMillis 本时刻长度(ms)
      */
-    public void forward() {
-        locationX += speedX;
-        locationY += speedY;
+    public void forward(int elapsedMillis) {
+        fixedPrevX = fixedX;
+        fixedPrevY = fixedY;
+        fixedX += Fixed.mulDiv(fixedSpeedX, elapsedMillis, BASE_TICK_MILLIS);
+        fixedY += Fixed.mulDiv(fixedSpeedY, elapsedMillis, BASE_TICK_MILLIS);
+        int locationX = getLocationX();
         if (locationX <= 0 || locationX >= Main.WINDOW_WIDTH) {
             // 横向超出边界后反向
-            speedX = -speedX;
+            fixedSpeedX = -fixedSpeedX;
         }
     }
 
     /**
-     * 碰撞检测，当对方坐标进入我方范围，判定我方击中<br>
-     * 对方与我方覆盖区域有交叉即判定撞击。
+     * 碰撞检测，对方与我方图片的不透明像素有重叠即判定撞击<br>
+     * 先做包围盒判定：对方与我方图片区域在本时刻内的任一时刻有交叉（连续碰撞检测），
+     * 双方均按上一位置到当前位置匀速直线运动计算，因此时刻较长、速度较快时子弹也不会穿过目标。
+     * 包围盒判定通过后，再用图片 alpha 掩码做像素级判定
      *  <br>
-     * 非飞机对象区域：
+     * 图片区域：
      *  横向，[x - width/2, x + width/2]
      *  纵向，[y - height/2, y + height/2]
-     *  <br>
-     * 飞机对象区域：
-     *  横向，[x - width/2, x + width/2]
-     *  纵向，[y - height/4, y + height/4]
      *
      * @param flyingObject 撞击对方
      * @return true: 我方被击中; false 我方未被击中
      */
     public boolean crash(AbstractFlyingObject flyingObject) {
-        // 缩放因子，用于控制 y轴方向区域范围
-        int factor = this instanceof AbstractAircraft ? 2 : 1; //我方
-        int fFactor = flyingObject instanceof AbstractAircraft ? 2 : 1;//对方
+        return crash(flyingObject.getPrevLocationX(), flyingObject.getPrevLocationY(),
+                flyingObject.getLocationX(), flyingObject.getLocationY(),
+                flyingObject.getWidth(), flyingObject.getHeight(), flyingObject.getMask());
+    }
+
+    /**
+     * 碰撞检测，对方以基本类型给出（如子弹仓库中的子弹），判定规则同 {@link #crash(AbstractFlyingObject)}
+     *
+     * @param fPrevX  对方上一时刻 x 坐标
+     * @param fPrevY  对方上一时刻 y 坐标
+     * @param fX      对方当前 x 坐标
+     * @param fY      对方当前 y 坐标
+     * @param fWidth  对方宽度
+     * @param fHeight 对方高度
+     * @param fMask   对方碰撞掩码，可为 null
+     * @return true: 我方被击中; false 我方未被击中
+     */
+    public boolean crash(int fPrevX, int fPrevY, int fX, int fY, int fWidth, int fHeight, CollisionMask fMask) {
+        int halfWidth = (fWidth + this.getWidth()) / 2;
+        int halfHeight = (fHeight + this.getHeight()) / 2;
 
-        //对方坐标、宽度、高度
-        int x = flyingObject.getLocationX();
-        int y = flyingObject.getLocationY();
-        int fWidth = flyingObject.getWidth();
-        int fHeight = flyingObject.getHeight();
+        //以我方为参照，对方在本时刻内的相对位移
+        int startX = fPrevX - getPrevLocationX();
+        int startY = fPrevY - getPrevLocationY();
+        int endX = fX - getLocationX();
+        int endY = fY - getLocationY();
+        if (!SweptAabb.overlaps(startX, startY, endX, endY, halfWidth, halfHeight)) {
+            return false;
+        }
 
-        return x + (fWidth+this.getWidth())/2 > locationX
-                && x - (fWidth+this.getWidth())/2 < locationX
-                && y + ( fHeight/fFactor+this.getHeight()/factor )/2 > locationY
-                && y - ( fHeight/fFactor+this.getHeight()/factor )/2 < locationY;
+        CollisionMask myMask = getMask();
+        if (myMask == null || fMask == null) {
+            // 没有掩码时以包围盒判定为准
+            return true;
+        }
+        //对方图片左上角相对我方图片左上角的偏移
+        int cornerX = this.getWidth() / 2 - fWidth / 2;
+        int cornerY = this.getHeight() / 2 - fHeight / 2;
+        return CollisionMask.sweptOverlaps(myMask, fMask,
+                startX + cornerX, startY + cornerY, endX + cornerX, endY + cornerY);
     }
 
     public int getLocationX() {
-        return locationX;
+        return Fixed.toInt(fixedX);
     }
 
     public int getLocationY() {
-        return locationY;
+        return Fixed.toInt(fixedY);
     }
 
+    /**
+     * 直接设置位置（如鼠标拖动英雄机），坐标取整为像素，视为瞬移，不产生扫掠区域
+     */
     public void setLocation(double locationX, double locationY){
-        this.locationX = (int) locationX;
-        this.locationY = (int) locationY;
+        setFixedLocation(Fixed.of((int) locationX), Fixed.of((int) locationY));
+    }
+
+    /**
+     * 以定点数直接设置位置，视为瞬移
+     */
+    public void setFixedLocation(int fixedX, int fixedY) {
+        this.fixedX = fixedX;
+        this.fixedY = fixedY;
+        this.fixedPrevX = fixedX;
+        this.fixedPrevY = fixedY;
+    }
+
+    /**
+     * 以定点数设置速度（每个基准时刻）
+     */
+    public void setFixedSpeed(int fixedSpeedX, int fixedSpeedY) {
+        this.fixedSpeedX = fixedSpeedX;
+        this.fixedSpeedY = fixedSpeedY;
+    }
+
+    public int getPrevLocationX() {
+        return Fixed.toInt(fixedPrevX);
+    }
+
+    public int getPrevLocationY() {
+        return Fixed.toInt(fixedPrevY);
+    }
+
+    public int getSpeedX() {
+        return Fixed.toInt(fixedSpeedX);
     }
 
     public int getSpeedY() {
-        return speedY;
+        return Fixed.toInt(fixedSpeedY);
+    }
+
+    public int getFixedX() {
+        return fixedX;
+    }
+
+    public int getFixedY() {
+        return fixedY;
+    }
+
+    public int getFixedPrevX() {
+        return fixedPrevX;
+    }
+
+    public int getFixedPrevY() {
+        return fixedPrevY;
+    }
+
+    public int getFixedSpeedX() {
+        return fixedSpeedX;
+    }
+
+    public int getFixedSpeedY() {
+        return fixedSpeedY;
     }
 
     public BufferedImage getImage() {
@@ -139,18 +267,43 @@ public abstract class AbstractFlyingObject {
         return image;
     }
 
+    public SpriteType getSpriteType() {
+        if (spriteType == null){
+            spriteType = SpriteType.of(getClass());
+        }
+        return spriteType;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * 分配新的对象编号，子弹仓库中的子弹与飞行对象共用同一编号序列
+     */
+    public static int nextId() {
+        return NEXT_ID.incrementAndGet();
+    }
+
+    public CollisionMask getMask() {
+        if (mask == null && getSpriteType() != null){
+            mask = spriteType.getMask();
+        }
+        return mask;
+    }
+
     public int getWidth() {
         if (width == -1){
-            // 若未设置，则查询图片宽度并设置
-            width = ImageManager.get(this).getWidth();
+            // 若未设置，则查询精灵元数据表中的宽度并设置，不解码图片
+            width = getSpriteType() != null ? spriteType.getWidth() : ImageManager.get(this).getWidth();
         }
         return width;
     }
 
     public int getHeight() {
         if (height == -1){
-            // 若未设置，则查询图片高度并设置
-            height = ImageManager.get(this).getHeight();
+            // 若未设置，则查询精灵元数据表中的高度并设置，不解码图片
+            height = getSpriteType() != null ? spriteType.getHeight() : ImageManager.get(this).getHeight();
         }
         return height;
     }
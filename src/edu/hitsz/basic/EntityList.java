@@ -0,0 +1,109 @@
+package edu.hitsz.basic;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * 数组实现的飞行对象列表
+ * 元素连续存放在数组中，按下标访问，不为每个元素分配链表节点。
+ * 一个时刻内只追加、不删除，下标保持稳定；失效对象由 {@link #compact()} 一次遍历统一清除，
+ * 清除时保持其余对象的相对顺序，并对每个被清除的对象回调删除监听器
+ *
+ * @param <T> 飞行对象类型
+ * @author hitsz
+ */
+public class EntityList<T extends AbstractFlyingObject> implements Iterable<T> {
+
+    private Object[] elements;
+    private int size = 0;
+
+    /**
+     * 删除监听器，null 表示未设置
+     */
+    private Consumer<? super T> removalListener = null;
+
+    public EntityList() {
+        this(16);
+    }
+
+    public EntityList(int initialCapacity) {
+        elements = new Object[Math.max(initialCapacity, 4)];
+    }
+
+    public void add(T element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("下标 " + index + " 超出范围 " + size);
+        }
+        return (T) elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 设置删除监听器，对象被 {@link #compact()} 清除时回调
+     * @param removalListener 删除监听器
+     */
+    public void setRemovalListener(Consumer<? super T> removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * 清除所有失效对象，保持其余对象的相对顺序
+     * @return 清除的对象数量
+     */
+    @SuppressWarnings("unchecked")
+    public int compact() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T element = (T) elements[i];
+            if (element.notValid()) {
+                if (removalListener != null) {
+                    removalListener.accept(element);
+                }
+            } else {
+                elements[kept++] = element;
+            }
+        }
+        int removed = size - kept;
+        // 释放尾部引用
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        return removed;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+}
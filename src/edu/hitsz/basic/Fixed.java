@@ -0,0 +1,54 @@
+package edu.hitsz.basic;
+
+/**
+ * 16.16 定点数工具
+ * 飞行对象的位置与速度以 int 存放的 16.16 定点数表示：高 16 位为整数像素，低 16 位为小数部分。
+ * 移动只用整数加法与乘除，可表示小于 1 像素的位移，运算结果在任何 JVM 上都完全一致。
+ * 整数像素只在碰撞检测、出界判定与绘制时按四舍五入换算，坐标范围为 ±32767 像素
+ *
+ * @author hitsz
+ */
+public final class Fixed {
+
+    public static final int SHIFT = 16;
+    public static final int ONE = 1 << SHIFT;
+    private static final int HALF = ONE >> 1;
+
+    private Fixed() {
+    }
+
+    /**
+     * 整数像素转换为定点数
+     */
+    public static int of(int pixels) {
+        return pixels << SHIFT;
+    }
+
+    /**
+     * 实数转换为最接近的定点数，只在预计算（如弹幕速度表）时使用
+     */
+    public static int of(double value) {
+        return (int) Math.round(value * ONE);
+    }
+
+    /**
+     * 定点数四舍五入为整数像素
+     */
+    public static int toInt(int fixed) {
+        return (fixed + HALF) >> SHIFT;
+    }
+
+    /**
+     * 定点数转换为实数，用于绘制时插值
+     */
+    public static double toDouble(int fixed) {
+        return fixed / (double) ONE;
+    }
+
+    /**
+     * 计算 value * multiplier / divisor，中间结果用 long 以免溢出，结果向零取整
+     */
+    public static int mulDiv(int value, int multiplier, int divisor) {
+        return (int) ((long) value * multiplier / divisor);
+    }
+}
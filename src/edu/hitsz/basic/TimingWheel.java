@@ -0,0 +1,207 @@
+package edu.hitsz.basic;
+
+/**
+ * 哈希时间轮
+ * 游戏时钟，并按游戏时间调度延时任务。时间轮由 2 的幂个槽组成，每个槽是一条双向链表，
+ * 任务按到期刻度散列到槽中，超过一圈的任务记录剩余圈数。调度与取消都是 O(1)，每推进一个刻度只访问一个槽。
+ * <br>
+ * 时间轮不创建线程，由游戏世界在模拟线程中每个时刻推进：任务在模拟线程中执行，游戏暂停时任务也随之暂停
+ *
+ * @author hitsz
+ */
+public class TimingWheel {
+
+    private static final int PENDING = 0;
+    private static final int DUE = 1;
+    private static final int EXPIRED = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * 刻度长度(ms)
+     */
+    private final int tickMillis;
+
+    /**
+     * 每个槽的链表头
+     */
+    private final Timeout[] slots;
+    private final int mask;
+
+    /**
+     * 已推进的刻度数
+     */
+    private long tick = 0;
+
+    /**
+     * 不足一个刻度的累计时间(ms)
+     */
+    private int pendingMillis = 0;
+
+    /**
+     * 等待中的任务数
+     */
+    private int size = 0;
+
+    /**
+     * @param tickMillis 刻度长度(ms)，一般取时刻长度
+     * @param wheelSize  槽数，向上取为 2 的幂
+     */
+    public TimingWheel(int tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("刻度长度与槽数须为正数");
+        }
+        this.tickMillis = tickMillis;
+        int capacity = Integer.highestOneBit(wheelSize);
+        if (capacity < wheelSize) {
+            capacity <<= 1;
+        }
+        slots = new Timeout[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * 调度延时任务，任务在累计推进的时间达到延时后的第一个刻度执行，至少延后一个刻度
+     * @param task        任务
+     * @param delayMillis 延时(ms)
+     * @return 任务句柄，可用于取消
+     */
+    public Timeout schedule(Runnable task, int delayMillis) {
+        long ticks = Math.max(1, ((long) pendingMillis + Math.max(0, delayMillis) + tickMillis - 1) / tickMillis);
+        Timeout timeout = new Timeout(task, (int) ((tick + ticks) & mask), (ticks - 1) / slots.length);
+        Timeout head = slots[timeout.slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[timeout.slot] = timeout;
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 推进时间，依次执行到期的任务，同一刻度到期的任务按调度顺序执行。任务中可以再调度或取消任务
+     * @param elapsedMillis 经过的时间(ms)
+     */
+    public void advance(int elapsedMillis) {
+        int total = pendingMillis + elapsedMillis;
+        // 执行任务时当前时间恰为刻度边界，任务中调度的新任务从该刻度起算
+        pendingMillis = 0;
+        for (int i = total / tickMillis; i > 0; i--) {
+            tick++;
+            runDue(collectDue((int) (tick & mask)));
+        }
+        pendingMillis = total % tickMillis;
+    }
+
+    /**
+     * 从槽中摘下到期任务，其余任务剩余圈数减一。此阶段不执行任务代码，槽链表不会被并发修改。
+     * 槽链表按调度顺序倒序，摘下时再倒序一次即恢复调度顺序
+     * @return 到期任务组成的单向链表
+     */
+    private Timeout collectDue(int slot) {
+        Timeout due = null;
+        Timeout timeout = slots[slot];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.rounds == 0) {
+                timeout.unlink();
+                timeout.state = DUE;
+                timeout.next = due;
+                due = timeout;
+            } else {
+                timeout.rounds--;
+            }
+            timeout = next;
+        }
+        return due;
+    }
+
+    private void runDue(Timeout due) {
+        while (due != null) {
+            Timeout next = due.next;
+            due.next = null;
+            // 同批的前一个任务可能已取消本任务
+            if (due.state == DUE) {
+                due.state = EXPIRED;
+                due.task.run();
+            }
+            due = next;
+        }
+    }
+
+    /**
+     * 等待中的任务数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 已推进的刻度数
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * 已推进的时间(ms)，作为游戏时钟
+     */
+    public long getTime() {
+        return tick * tickMillis + pendingMillis;
+    }
+
+    /**
+     * 任务句柄
+     */
+    public final class Timeout {
+
+        private final Runnable task;
+        private final int slot;
+        private long rounds;
+        private int state = PENDING;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, int slot, long rounds) {
+            this.task = task;
+            this.slot = slot;
+            this.rounds = rounds;
+        }
+
+        /**
+         * 取消任务，已执行或已取消的任务调用无效果
+         * @return 是否由本次调用取消
+         */
+        public boolean cancel() {
+            if (state == PENDING) {
+                unlink();
+            } else if (state != DUE) {
+                return false;
+            }
+            state = CANCELLED;
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void unlink() {
+            if (prev == null) {
+                slots[slot] = next;
+            } else {
+                prev.next = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+            size--;
+        }
+    }
+}
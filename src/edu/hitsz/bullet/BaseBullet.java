@@ -19,16 +19,18 @@ public abstract class BaseBullet extends AbstractFlyingObject {
     }
 
     @Override
-    public void forward() {
-        super.forward();
+    public void forward(int elapsedMillis) {
+        super.forward(elapsedMillis);
 
         // 判定 x 轴出界
+        int locationX = getLocationX();
+        int locationY = getLocationY();
         if (locationX <= 0 || locationX >= Main.WINDOW_WIDTH) {
             vanish();
         }
 
         // 判定 y 轴出界
-        if (speedY > 0 && locationY >= Main.WINDOW_HEIGHT ) {
+        if (fixedSpeedY > 0 && locationY >= Main.WINDOW_HEIGHT ) {
             // 向下飞行出界
             vanish();
         }else if (locationY <= 0){
@@ -0,0 +1,21 @@
+package edu.hitsz.bullet;
+
+/**
+ * 子弹接收方
+ * 射击策略将产生的子弹逐个写入调用方提供的接收方，无需为每次射击创建列表和子弹对象。
+ * 位置与速度均为 16.16 定点数（见 {@link edu.hitsz.basic.Fixed}）
+ *
+ * @author hitsz
+ */
+@FunctionalInterface
+public interface BulletSink {
+    /**
+     * 写入一颗子弹
+     * @param fixedX      子弹 x 坐标（定点数）
+     * @param fixedY      子弹 y 坐标（定点数）
+     * @param fixedSpeedX x 轴速度（定点数）
+     * @param fixedSpeedY y 轴速度（定点数）
+     * @param power       子弹伤害
+     */
+    void emit(int fixedX, int fixedY, int fixedSpeedX, int fixedSpeedY, int power);
+}
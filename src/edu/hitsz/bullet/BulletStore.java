@@ -0,0 +1,361 @@
+package edu.hitsz.bullet;
+
+import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.collision.BoxList;
+import edu.hitsz.collision.CollisionMask;
+import edu.hitsz.render.SpriteType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 子弹仓库（数组结构体，SoA）
+ * 同一种子弹的位置、速度、伤害、标记分别存放在基本类型数组中，按下标一一对应，
+ * 移动、出界剔除与失效清理都是对连续数组的批量遍历，不产生对象，稳定后不再分配内存。
+ * <br>
+ * 仓库同时充当子弹池：射击策略通过 {@link BulletSink#emit} 直接占用末尾的空闲槽位，
+ * 击中或出界的子弹先标记失效，由 {@link #compact()} 归还槽位，槽位数组只扩容不收缩。
+ * 删除采用与末尾交换的方式，因此子弹下标与发射顺序无关，也只在本时刻内有效。
+ * 位置与速度为 16.16 定点数（见 {@link Fixed}），出界判定、碰撞检测与查询时才换算为整数像素
+ *
+ * @author hitsz
+ */
+public class BulletStore implements BulletSink {
+
+    /**
+     * 有效（生存）标记
+     */
+    public static final int FLAG_VALID = 1;
+
+    /**
+     * 位置与速度（定点数）
+     */
+    private int[] x;
+    private int[] y;
+    private int[] prevX;
+    private int[] prevY;
+    private int[] vx;
+    private int[] vy;
+    private int[] power;
+    private int[] flags;
+    private int[] id;
+    private int size = 0;
+
+    /**
+     * 同一仓库中的子弹共用精灵类型、尺寸与碰撞掩码
+     */
+    private final SpriteType spriteType;
+    private final CollisionMask mask;
+    private final int width;
+    private final int height;
+
+    /**
+     * @param bulletClass     子弹类型，用于查询尺寸与碰撞掩码
+     * @param initialCapacity 初始容量
+     */
+    public BulletStore(Class<? extends BaseBullet> bulletClass, int initialCapacity) {
+        this.spriteType = SpriteType.of(bulletClass);
+        this.mask = spriteType.getMask();
+        this.width = spriteType.getWidth();
+        this.height = spriteType.getHeight();
+        int capacity = Math.max(initialCapacity, 4);
+        x = new int[capacity];
+        y = new int[capacity];
+        prevX = new int[capacity];
+        prevY = new int[capacity];
+        vx = new int[capacity];
+        vy = new int[capacity];
+        power = new int[capacity];
+        flags = new int[capacity];
+        id = new int[capacity];
+    }
+
+    /**
+     * 添加子弹，位置与速度以整数像素给出
+     * @return 子弹下标
+     */
+    public int add(int locationX, int locationY, int speedX, int speedY, int bulletPower) {
+        return addFixed(Fixed.of(locationX), Fixed.of(locationY), Fixed.of(speedX), Fixed.of(speedY), bulletPower);
+    }
+
+    /**
+     * 添加子弹，位置与速度以定点数给出
+     * @return 子弹下标
+     */
+    public int addFixed(int fixedX, int fixedY, int fixedSpeedX, int fixedSpeedY, int bulletPower) {
+        if (size == x.length) {
+            grow();
+        }
+        x[size] = fixedX;
+        y[size] = fixedY;
+        prevX[size] = fixedX;
+        prevY[size] = fixedY;
+        vx[size] = fixedSpeedX;
+        vy[size] = fixedSpeedY;
+        power[size] = bulletPower;
+        flags[size] = FLAG_VALID;
+        id[size] = AbstractFlyingObject.nextId();
+        return size++;
+    }
+
+    @Override
+    public void emit(int fixedX, int fixedY, int fixedSpeedX, int fixedSpeedY, int power) {
+        addFixed(fixedX, fixedY, fixedSpeedX, fixedSpeedY, power);
+    }
+
+    /**
+     * 将子弹对象拷入仓库
+     * @return 子弹下标
+     */
+    public int add(BaseBullet bullet) {
+        return addFixed(bullet.getFixedX(), bullet.getFixedY(), bullet.getFixedSpeedX(), bullet.getFixedSpeedY(),
+                bullet.getPower());
+    }
+
+    public void addAll(List<? extends BaseBullet> bullets) {
+        for (BaseBullet bullet : bullets) {
+            add(bullet);
+        }
+    }
+
+    /**
+     * 批量移动并剔除出界子弹，出界判定与 {@link BaseBullet#forward(int)} 一致。
+     * 出界子弹立即与末尾交换删除，本时刻不再参与碰撞检测
+     * @param elapsedMillis 本时刻长度(ms)
+     * @param worldWidth    世界宽度
+     * @param worldHeight   世界高度
+     */
+    public void integrate(int elapsedMillis, int worldWidth, int worldHeight) {
+        int i = 0;
+        while (i < size) {
+            int nx = x[i] + Fixed.mulDiv(vx[i], elapsedMillis, AbstractFlyingObject.BASE_TICK_MILLIS);
+            int ny = y[i] + Fixed.mulDiv(vy[i], elapsedMillis, AbstractFlyingObject.BASE_TICK_MILLIS);
+            if (outside(nx, ny, vy[i], worldWidth, worldHeight)) {
+                // 末尾子弹移到当前位置，尚未移动，下一轮继续处理该下标
+                removeAt(i);
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = nx;
+            y[i] = ny;
+            i++;
+        }
+    }
+
+    /**
+     * 移动后的位置是否出界，按整数像素判定，与 {@link BaseBullet#forward(int)} 一致
+     */
+    private static boolean outside(int fixedX, int fixedY, int fixedSpeedY, int worldWidth, int worldHeight) {
+        int px = Fixed.toInt(fixedX);
+        int py = Fixed.toInt(fixedY);
+        return px <= 0 || px >= worldWidth || (fixedSpeedY > 0 && py >= worldHeight) || py <= 0;
+    }
+
+    /**
+     * {@link #integrate} 的并行版本：在线程池中按下标区间并行移动子弹，出界子弹只标记失效，
+     * 全部区间完成后再串行 {@link #compact()}。
+     * 每颗子弹是否出界只取决于自身，交换删除的顺序与串行版本相同，因此在没有未清理的失效子弹时
+     * （每个时刻末尾都会清理），结果与串行版本完全一致
+     * @param pool          执行任务的线程池
+     * @param elapsedMillis 本时刻长度(ms)
+     * @param worldWidth    世界宽度
+     * @param worldHeight   世界高度
+     * @param grain         每个任务最少处理的子弹数
+     */
+    public void integrateParallel(ForkJoinPool pool, int elapsedMillis, int worldWidth, int worldHeight, int grain) {
+        pool.invoke(new MoveTask(0, size, elapsedMillis, worldWidth, worldHeight, Math.max(1, grain)));
+        compact();
+    }
+
+    /**
+     * 移动 [from, to) 区间内的子弹，出界子弹只标记失效，不改变其他下标
+     */
+    private void moveRange(int from, int to, int elapsedMillis, int worldWidth, int worldHeight) {
+        for (int i = from; i < to; i++) {
+            int nx = x[i] + Fixed.mulDiv(vx[i], elapsedMillis, AbstractFlyingObject.BASE_TICK_MILLIS);
+            int ny = y[i] + Fixed.mulDiv(vy[i], elapsedMillis, AbstractFlyingObject.BASE_TICK_MILLIS);
+            if (outside(nx, ny, vy[i], worldWidth, worldHeight)) {
+                flags[i] &= ~FLAG_VALID;
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = nx;
+            y[i] = ny;
+        }
+    }
+
+    /**
+     * 二分下标区间直到不超过 grain，再在当前线程移动
+     */
+    private class MoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int elapsedMillis;
+        private final int worldWidth;
+        private final int worldHeight;
+        private final int grain;
+
+        private MoveTask(int from, int to, int elapsedMillis, int worldWidth, int worldHeight, int grain) {
+            this.from = from;
+            this.to = to;
+            this.elapsedMillis = elapsedMillis;
+            this.worldWidth = worldWidth;
+            this.worldHeight = worldHeight;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                moveRange(from, to, elapsedMillis, worldWidth, worldHeight);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MoveTask(from, mid, elapsedMillis, worldWidth, worldHeight, grain),
+                    new MoveTask(mid, to, elapsedMillis, worldWidth, worldHeight, grain));
+        }
+    }
+
+    /**
+     * 清除已失效的子弹（与末尾交换删除），归还其槽位
+     */
+    public void compact() {
+        int i = 0;
+        while (i < size) {
+            if ((flags[i] & FLAG_VALID) == 0) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * 标记全部子弹失效，如炸弹爆炸时清屏
+     */
+    public void vanishAll() {
+        for (int i = 0; i < size; i++) {
+            flags[i] &= ~FLAG_VALID;
+        }
+    }
+
+    public void vanish(int index) {
+        flags[index] &= ~FLAG_VALID;
+    }
+
+    public boolean notValid(int index) {
+        return (flags[index] & FLAG_VALID) == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 将所有子弹本时刻扫过区域的包围盒依次写入 boxes，包围盒下标即子弹下标
+     */
+    public void fillBoxes(BoxList boxes) {
+        for (int i = 0; i < size; i++) {
+            boxes.addSwept(Fixed.toInt(prevX[i]), Fixed.toInt(prevY[i]), Fixed.toInt(x[i]), Fixed.toInt(y[i]),
+                    width, height);
+        }
+    }
+
+    /**
+     * 第 index 颗子弹是否击中飞行对象，判定规则同 {@link AbstractFlyingObject#crash(AbstractFlyingObject)}
+     * @return true: 飞行对象被击中
+     */
+    public boolean hits(int index, AbstractFlyingObject flyingObject) {
+        return flyingObject.crash(Fixed.toInt(prevX[index]), Fixed.toInt(prevY[index]),
+                Fixed.toInt(x[index]), Fixed.toInt(y[index]), width, height, mask);
+    }
+
+    private void removeAt(int index) {
+        int last = --size;
+        x[index] = x[last];
+        y[index] = y[last];
+        prevX[index] = prevX[last];
+        prevY[index] = prevY[last];
+        vx[index] = vx[last];
+        vy[index] = vy[last];
+        power[index] = power[last];
+        flags[index] = flags[last];
+        id[index] = id[last];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        power = Arrays.copyOf(power, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        id = Arrays.copyOf(id, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getLocationX(int index) {
+        return Fixed.toInt(x[index]);
+    }
+
+    public int getLocationY(int index) {
+        return Fixed.toInt(y[index]);
+    }
+
+    public int getSpeedX(int index) {
+        return Fixed.toInt(vx[index]);
+    }
+
+    public int getSpeedY(int index) {
+        return Fixed.toInt(vy[index]);
+    }
+
+    public int getFixedX(int index) {
+        return x[index];
+    }
+
+    public int getFixedY(int index) {
+        return y[index];
+    }
+
+    public int getFixedSpeedX(int index) {
+        return vx[index];
+    }
+
+    public int getFixedSpeedY(int index) {
+        return vy[index];
+    }
+
+    public int getPower(int index) {
+        return power[index];
+    }
+
+    public int getId(int index) {
+        return id[index];
+    }
+
+    public SpriteType getSpriteType() {
+        return spriteType;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,120 @@
+package edu.hitsz.collision;
+
+import edu.hitsz.basic.AbstractFlyingObject;
+
+import java.util.Arrays;
+
+/**
+ * 包围盒列表
+ * 以基本类型数组按下标存放一组轴对齐包围盒（AABB），供宽阶段碰撞检测使用。
+ * 下标与调用方实体列表中的下标一一对应，每个时刻清空后重新填充，稳定后不再分配内存
+ *
+ * @author hitsz
+ */
+public class BoxList {
+
+    private int[] left;
+    private int[] top;
+    private int[] right;
+    private int[] bottom;
+    private int size = 0;
+
+    public BoxList() {
+        this(64);
+    }
+
+    public BoxList(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        left = new int[capacity];
+        top = new int[capacity];
+        right = new int[capacity];
+        bottom = new int[capacity];
+    }
+
+    /**
+     * 添加包围盒（闭区间）
+     * @return 包围盒下标
+     */
+    public int add(int left, int top, int right, int bottom) {
+        if (size == this.left.length) {
+            grow();
+        }
+        this.left[size] = left;
+        this.top[size] = top;
+        this.right[size] = right;
+        this.bottom[size] = bottom;
+        return size++;
+    }
+
+    /**
+     * 按中心坐标与尺寸添加包围盒。
+     * 半宽、半高各多留 1 像素，保证 crash() 的整数除法判定结果一定落在包围盒之内
+     * @return 包围盒下标
+     */
+    public int addCentered(int centerX, int centerY, int width, int height) {
+        int halfWidth = width / 2 + 1;
+        int halfHeight = height / 2 + 1;
+        return add(centerX - halfWidth, centerY - halfHeight, centerX + halfWidth, centerY + halfHeight);
+    }
+
+    /**
+     * 按飞行对象图片尺寸添加包围盒，覆盖其本时刻从上一位置到当前位置扫过的全部区域
+     * @return 包围盒下标
+     */
+    public int add(AbstractFlyingObject flyingObject) {
+        return addSwept(flyingObject.getPrevLocationX(), flyingObject.getPrevLocationY(),
+                flyingObject.getLocationX(), flyingObject.getLocationY(),
+                flyingObject.getWidth(), flyingObject.getHeight());
+    }
+
+    /**
+     * 添加从 (fromX, fromY) 移动到 (toX, toY) 的对象扫过区域的包围盒
+     * @return 包围盒下标
+     */
+    public int addSwept(int fromX, int fromY, int toX, int toY, int width, int height) {
+        int halfWidth = width / 2 + 1;
+        int halfHeight = height / 2 + 1;
+        return add(Math.min(fromX, toX) - halfWidth, Math.min(fromY, toY) - halfHeight,
+                Math.max(fromX, toX) + halfWidth, Math.max(fromY, toY) + halfHeight);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int left(int index) {
+        return left[index];
+    }
+
+    public int top(int index) {
+        return top[index];
+    }
+
+    public int right(int index) {
+        return right[index];
+    }
+
+    public int bottom(int index) {
+        return bottom[index];
+    }
+
+    /**
+     * 两个包围盒是否相交（闭区间）
+     */
+    public static boolean overlaps(BoxList a, int i, BoxList b, int j) {
+        return a.left[i] <= b.right[j] && b.left[j] <= a.right[i]
+                && a.top[i] <= b.bottom[j] && b.top[j] <= a.bottom[i];
+    }
+
+    private void grow() {
+        int capacity = left.length * 2;
+        left = Arrays.copyOf(left, capacity);
+        top = Arrays.copyOf(top, capacity);
+        right = Arrays.copyOf(right, capacity);
+        bottom = Arrays.copyOf(bottom, capacity);
+    }
+}
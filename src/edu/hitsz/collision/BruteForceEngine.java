@@ -0,0 +1,22 @@
+package edu.hitsz.collision;
+
+/**
+ * 逐对检测引擎
+ * 探测方与目标方两两比较包围盒，作为其他引擎的对照基准
+ *
+ * @author hitsz
+ */
+public class BruteForceEngine implements CollisionEngine {
+
+    @Override
+    public void findPairs(BoxList probes, BoxList targets, PairBuffer out) {
+        out.clear();
+        for (int p = 0; p < probes.size(); p++) {
+            for (int t = 0; t < targets.size(); t++) {
+                if (BoxList.overlaps(probes, p, targets, t)) {
+                    out.add(p, t);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package edu.hitsz.collision;
+
+/**
+ * 碰撞检测引擎接口（宽阶段）
+ * 不同实现适用于不同的场景分布，由各难度的游戏选择
+ *
+ * @author hitsz
+ */
+public interface CollisionEngine {
+    /**
+     * 找出所有包围盒相交的 (探测方, 目标方) 候选对
+     * @param probes  探测方包围盒，如英雄机子弹
+     * @param targets 目标包围盒，如敌机
+     * @param out     输出缓冲区，调用前会被清空，结果按 (探测方, 目标方) 升序排列
+     */
+    void findPairs(BoxList probes, BoxList targets, PairBuffer out);
+}
@@ -0,0 +1,49 @@
+package edu.hitsz.collision;
+
+/**
+ * 碰撞检测引擎类型
+ * 各难度在初始化参数时选择，游戏按类型为每组检测分别创建引擎实例
+ *
+ * @author hitsz
+ */
+public enum CollisionEngineType {
+
+    /**
+     * 逐对检测
+     */
+    BRUTE_FORCE {
+        @Override
+        public CollisionEngine create(int worldWidth, int worldHeight, int cellSize) {
+            return new BruteForceEngine();
+        }
+    },
+
+    /**
+     * 均匀网格空间哈希，对象多且分散时占优
+     */
+    SPATIAL_HASH {
+        @Override
+        public CollisionEngine create(int worldWidth, int worldHeight, int cellSize) {
+            return new SpatialHashGrid(worldWidth, worldHeight, cellSize);
+        }
+    },
+
+    /**
+     * 扫描剪枝，对象少或成簇聚集时占优
+     */
+    SWEEP_AND_PRUNE {
+        @Override
+        public CollisionEngine create(int worldWidth, int worldHeight, int cellSize) {
+            return new SweepAndPrune();
+        }
+    };
+
+    /**
+     * 创建引擎实例
+     * @param worldWidth  世界宽度
+     * @param worldHeight 世界高度
+     * @param cellSize    网格边长（仅空间哈希使用）
+     * @return 新的引擎实例
+     */
+    public abstract CollisionEngine create(int worldWidth, int worldHeight, int cellSize);
+}
@@ -0,0 +1,174 @@
+package edu.hitsz.collision;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 像素级碰撞掩码
+ * 由图片的 alpha 通道生成，每个不透明像素对应一位，每行按 64 位打包成 long。
+ * 窄阶段判定时逐行按字做与运算，一次比较 64 个像素，只在包围盒判定通过后才调用
+ *
+ * @author hitsz
+ */
+public class CollisionMask {
+
+    /**
+     * alpha 不低于该值的像素视为实体，半透明的抗锯齿边缘不计入
+     */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    /**
+     * 扫掠判定最多采样的位置数，防止异常速度导致耗时失控
+     */
+    private static final int MAX_SWEEP_SAMPLES = 256;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    /**
+     * 每行实体像素的最左、最右位置，空行为 [width, -1]，用于快速跳过不可能重叠的行
+     */
+    private final int[] rowMin;
+    private final int[] rowMax;
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+        this.rowMin = new int[height];
+        this.rowMax = new int[height];
+    }
+
+    /**
+     * 由图片生成掩码
+     * @param image 带 alpha 通道的图片；无 alpha 通道时整张图视为实体
+     * @return 碰撞掩码
+     */
+    public static CollisionMask of(BufferedImage image) {
+        CollisionMask mask = new CollisionMask(image.getWidth(), image.getHeight());
+        boolean hasAlpha = image.getColorModel().hasAlpha();
+        int[] row = new int[mask.width];
+        for (int y = 0; y < mask.height; y++) {
+            image.getRGB(0, y, mask.width, 1, row, 0, mask.width);
+            int base = y * mask.wordsPerRow;
+            mask.rowMin[y] = mask.width;
+            mask.rowMax[y] = -1;
+            for (int x = 0; x < mask.width; x++) {
+                if (!hasAlpha || (row[x] >>> 24) >= ALPHA_THRESHOLD) {
+                    mask.bits[base + (x >>> 6)] |= 1L << (x & 63);
+                    mask.rowMin[y] = Math.min(mask.rowMin[y], x);
+                    mask.rowMax[y] = x;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 两个掩码在给定相对位置是否有重叠的实体像素
+     * @param a  掩码 a
+     * @param b  掩码 b
+     * @param dx b 左上角相对 a 左上角的 x 偏移
+     * @param dy b 左上角相对 a 左上角的 y 偏移
+     * @return true: 有像素重叠
+     */
+    public static boolean overlaps(CollisionMask a, CollisionMask b, int dx, int dy) {
+        int xStart = Math.max(0, dx);
+        int xEnd = Math.min(a.width, dx + b.width);
+        int yStart = Math.max(0, dy);
+        int yEnd = Math.min(a.height, dy + b.height);
+        if (xStart >= xEnd || yStart >= yEnd) {
+            return false;
+        }
+        for (int y = yStart; y < yEnd; y++) {
+            // 两行实体像素区间的交集为空时直接跳过
+            int from = Math.max(xStart, Math.max(a.rowMin[y], b.rowMin[y - dy] + dx));
+            int to = Math.min(xEnd, Math.min(a.rowMax[y], b.rowMax[y - dy] + dx) + 1);
+            if (from >= to) {
+                continue;
+            }
+            int rowA = y * a.wordsPerRow;
+            int rowB = (y - dy) * b.wordsPerRow;
+            for (int x = from; x < to; x += 64) {
+                long overlap = a.extract(rowA, x) & b.extract(rowB, x - dx);
+                int remaining = to - x;
+                if (remaining < 64) {
+                    overlap &= -1L >>> (64 - remaining);
+                }
+                if (overlap != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * b 相对 a 从起始偏移匀速移动到结束偏移的过程中是否有像素重叠。
+     * 按 1 像素步长采样，只对包围盒相交的采样位置做掩码比较
+     * @param a      掩码 a
+     * @param b      掩码 b
+     * @param startX 时刻开始时 b 左上角相对 a 左上角的 x 偏移
+     * @param startY 时刻开始时 b 左上角相对 a 左上角的 y 偏移
+     * @param endX   时刻结束时的 x 偏移
+     * @param endY   时刻结束时的 y 偏移
+     * @return true: 某一采样位置有像素重叠
+     */
+    public static boolean sweptOverlaps(CollisionMask a, CollisionMask b,
+                                        int startX, int startY, int endX, int endY) {
+        // 多数情况下时刻末尾已重叠，优先检查
+        if (overlaps(a, b, endX, endY)) {
+            return true;
+        }
+        int steps = Math.min(MAX_SWEEP_SAMPLES, Math.max(Math.abs(endX - startX), Math.abs(endY - startY)));
+        for (int k = 0; k < steps; k++) {
+            int dx = startX + (endX - startX) * k / steps;
+            int dy = startY + (endY - startY) * k / steps;
+            if (dx < a.width && dx + b.width > 0 && dy < a.height && dy + b.height > 0
+                    && overlaps(a, b, dx, dy)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 取出某行从 bitIndex 开始的 64 位，超出图片范围的部分为 0
+     */
+    private long extract(int rowBase, int bitIndex) {
+        int word = bitIndex >> 6;
+        int shift = bitIndex & 63;
+        long low = word(rowBase, word) >>> shift;
+        if (shift == 0) {
+            return low;
+        }
+        return low | (word(rowBase, word + 1) << (64 - shift));
+    }
+
+    private long word(int rowBase, int word) {
+        if (word < 0 || word >= wordsPerRow) {
+            return 0L;
+        }
+        return bits[rowBase + word];
+    }
+
+    /**
+     * 掩码中 (x, y) 处像素是否为实体
+     */
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.hitsz.collision;
+
+import java.util.Arrays;
+
+/**
+ * 候选碰撞对缓冲区
+ * 每个候选对以 long 存放：高 32 位为探测方下标，低 32 位为目标方下标。
+ * 排序后即按 (探测方, 目标方) 升序排列，与逐个遍历子弹、再逐个遍历敌机的顺序一致
+ *
+ * @author hitsz
+ */
+public class PairBuffer {
+
+    private long[] pairs;
+    private int size = 0;
+
+    public PairBuffer() {
+        this(256);
+    }
+
+    public PairBuffer(int initialCapacity) {
+        pairs = new long[Math.max(initialCapacity, 4)];
+    }
+
+    public void add(int probe, int target) {
+        if (size == pairs.length) {
+            pairs = Arrays.copyOf(pairs, size * 2);
+        }
+        pairs[size++] = ((long) probe << 32) | (target & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 按 (探测方, 目标方) 升序排序
+     */
+    public void sort() {
+        Arrays.sort(pairs, 0, size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int probe(int index) {
+        return (int) (pairs[index] >>> 32);
+    }
+
+    public int target(int index) {
+        return (int) pairs[index];
+    }
+}
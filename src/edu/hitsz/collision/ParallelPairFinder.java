@@ -0,0 +1,168 @@
+package edu.hitsz.collision;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 并行碰撞检测
+ * 按探测方下标把探测方包围盒切成若干段，每段在 ForkJoinPool 中独立完成宽阶段和窄阶段，
+ * 只保留窄阶段判定击中的碰撞对。各段使用自己的引擎实例与缓冲区，目标方包围盒只读共享。
+ * <br>
+ * 各段结果按段的顺序拼接，段内已按 (探测方, 目标方) 升序，因此合并结果与串行检测完全一致，
+ * 调用方随后按顺序串行结算击中，结果与分段方式、线程调度无关
+ *
+ * @author hitsz
+ */
+public class ParallelPairFinder {
+
+    /**
+     * 窄阶段判定，由多个线程同时调用，实现不得修改共享状态
+     */
+    @FunctionalInterface
+    public interface NarrowPhase {
+        /**
+         * @param probe  探测方下标
+         * @param target 目标方下标
+         * @return true: 确实相撞
+         */
+        boolean test(int probe, int target);
+    }
+
+    private final ForkJoinPool pool;
+    private final CollisionEngineType engineType;
+    private final int worldWidth;
+    private final int worldHeight;
+    private final int cellSize;
+
+    /**
+     * 每段最少的探测方数量，段太小时任务调度开销超过收益
+     */
+    private final int grain;
+
+    private Chunk[] chunks = new Chunk[0];
+
+    /**
+     * @param pool        执行任务的线程池
+     * @param engineType  各段使用的宽阶段引擎类型
+     * @param worldWidth  世界宽度
+     * @param worldHeight 世界高度
+     * @param cellSize    网格边长
+     * @param grain       每段最少的探测方数量
+     */
+    public ParallelPairFinder(ForkJoinPool pool, CollisionEngineType engineType,
+                              int worldWidth, int worldHeight, int cellSize, int grain) {
+        this.pool = pool;
+        this.engineType = engineType;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.cellSize = cellSize;
+        this.grain = Math.max(1, grain);
+    }
+
+    /**
+     * 找出所有窄阶段判定相撞的 (探测方, 目标方) 对，结果按升序写入 out
+     * @param probes  探测方包围盒
+     * @param targets 目标方包围盒
+     * @param narrow  窄阶段判定
+     * @param out     输出缓冲区，调用前会被清空
+     */
+    public void findHits(BoxList probes, BoxList targets, NarrowPhase narrow, PairBuffer out) {
+        out.clear();
+        int n = probes.size();
+        if (n == 0 || targets.size() == 0) {
+            return;
+        }
+        int chunkCount = Math.min((n + grain - 1) / grain, pool.getParallelism() * 4);
+        ensureChunks(chunkCount);
+        int step = (n + chunkCount - 1) / chunkCount;
+        for (int c = 0; c < chunkCount; c++) {
+            chunks[c].from = Math.min(n, c * step);
+            chunks[c].to = Math.min(n, (c + 1) * step);
+        }
+        pool.invoke(new ChunkTask(probes, targets, narrow, 0, chunkCount));
+
+        // 按段的顺序合并
+        for (int c = 0; c < chunkCount; c++) {
+            PairBuffer hits = chunks[c].hits;
+            for (int i = 0; i < hits.size(); i++) {
+                out.add(hits.probe(i), hits.target(i));
+            }
+        }
+    }
+
+    private void ensureChunks(int count) {
+        if (chunks.length >= count) {
+            return;
+        }
+        int old = chunks.length;
+        chunks = Arrays.copyOf(chunks, count);
+        for (int c = old; c < count; c++) {
+            chunks[c] = new Chunk(engineType.create(worldWidth, worldHeight, cellSize));
+        }
+    }
+
+    /**
+     * 一段探测方及其专用的引擎与缓冲区
+     */
+    private static class Chunk {
+        private final CollisionEngine engine;
+        private final BoxList probes = new BoxList();
+        private final PairBuffer candidates = new PairBuffer();
+        private final PairBuffer hits = new PairBuffer();
+        private int from;
+        private int to;
+
+        private Chunk(CollisionEngine engine) {
+            this.engine = engine;
+        }
+
+        private void run(BoxList allProbes, BoxList targets, NarrowPhase narrow) {
+            probes.clear();
+            for (int p = from; p < to; p++) {
+                probes.add(allProbes.left(p), allProbes.top(p), allProbes.right(p), allProbes.bottom(p));
+            }
+            hits.clear();
+            engine.findPairs(probes, targets, candidates);
+            for (int i = 0; i < candidates.size(); i++) {
+                int probe = candidates.probe(i) + from;
+                int target = candidates.target(i);
+                if (narrow.test(probe, target)) {
+                    hits.add(probe, target);
+                }
+            }
+        }
+    }
+
+    /**
+     * 二分段区间直到只剩一段，再在当前线程执行该段
+     */
+    private class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BoxList probes;
+        private final BoxList targets;
+        private final NarrowPhase narrow;
+        private final int lo;
+        private final int hi;
+
+        private ChunkTask(BoxList probes, BoxList targets, NarrowPhase narrow, int lo, int hi) {
+            this.probes = probes;
+            this.targets = targets;
+            this.narrow = narrow;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                chunks[lo].run(probes, targets, narrow);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(probes, targets, narrow, lo, mid),
+                    new ChunkTask(probes, targets, narrow, mid, hi));
+        }
+    }
+}
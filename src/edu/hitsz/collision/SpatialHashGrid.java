@@ -0,0 +1,174 @@
+package edu.hitsz.collision;
+
+import java.util.Arrays;
+
+/**
+ * 均匀网格空间哈希（宽阶段碰撞检测）
+ * 将目标包围盒按所覆盖的格子分桶，每个探测方只与其覆盖格子中的目标做包围盒比较，
+ * 把 O(探测方 × 目标) 的两两检测降为只检测同格子内的候选对。
+ * <br>
+ * 桶采用计数排序的压缩存储（cellStart / cellItems），每次构建两遍扫描，稳定后不再分配内存。
+ * 超出窗口范围的坐标被夹到边缘格子，不会漏检
+ *
+ * @author hitsz
+ */
+public class SpatialHashGrid implements CollisionEngine {
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+
+    /**
+     * 第 c 个格子的目标位于 cellItems[cellStart[c] .. cellStart[c + 1])
+     */
+    private final int[] cellStart;
+    private int[] cellItems = new int[256];
+
+    /**
+     * 去重标记：一个目标跨越多个格子时，同一探测方只报告一次
+     */
+    private int[] stamps = new int[64];
+    private int currentStamp = 0;
+
+    /**
+     * @param worldWidth  世界宽度
+     * @param worldHeight 世界高度
+     * @param cellSize    格子边长，一般取常见精灵图片的最大边长
+     */
+    public SpatialHashGrid(int worldWidth, int worldHeight, int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("格子边长必须为正数: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = (worldWidth + cellSize - 1) / cellSize;
+        this.rows = (worldHeight + cellSize - 1) / cellSize;
+        this.cellStart = new int[columns * rows + 1];
+    }
+
+    /**
+     * 找出所有包围盒相交的 (探测方, 目标方) 候选对，结果按 (探测方, 目标方) 升序写入 out
+     * @param probes  探测方包围盒，如英雄机子弹
+     * @param targets 目标包围盒，如敌机
+     * @param out     输出缓冲区，调用前会被清空
+     */
+    @Override
+    public void findPairs(BoxList probes, BoxList targets, PairBuffer out) {
+        out.clear();
+        if (probes.size() == 0 || targets.size() == 0) {
+            return;
+        }
+        build(targets);
+
+        for (int p = 0; p < probes.size(); p++) {
+            int minCol = column(probes.left(p));
+            int maxCol = column(probes.right(p));
+            int minRow = row(probes.top(p));
+            int maxRow = row(probes.bottom(p));
+            if (minCol == maxCol && minRow == maxRow) {
+                // 子弹等小对象通常只落在一个格子里，无需去重
+                int cell = minRow * columns + minCol;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int t = cellItems[k];
+                    if (BoxList.overlaps(probes, p, targets, t)) {
+                        out.add(p, t);
+                    }
+                }
+                continue;
+            }
+            nextStamp();
+            for (int r = minRow; r <= maxRow; r++) {
+                int base = r * columns;
+                for (int c = minCol; c <= maxCol; c++) {
+                    int cell = base + c;
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        int t = cellItems[k];
+                        if (stamps[t] == currentStamp) {
+                            continue;
+                        }
+                        stamps[t] = currentStamp;
+                        if (BoxList.overlaps(probes, p, targets, t)) {
+                            out.add(p, t);
+                        }
+                    }
+                }
+            }
+        }
+        out.sort();
+    }
+
+    /**
+     * 将目标分桶：第一遍统计每个格子的目标数，前缀和后第二遍填入下标
+     */
+    private void build(BoxList targets) {
+        int n = targets.size();
+        if (stamps.length < n) {
+            stamps = new int[Math.max(n, stamps.length * 2)];
+            currentStamp = 0;
+        }
+        Arrays.fill(cellStart, 0);
+
+        for (int t = 0; t < n; t++) {
+            forEachCell(targets, t, true);
+        }
+        int total = 0;
+        for (int c = 0; c < cellStart.length - 1; c++) {
+            total += cellStart[c];
+        }
+        if (cellItems.length < total) {
+            cellItems = new int[Math.max(total, cellItems.length * 2)];
+        }
+        // 前缀和：cellStart[c] 变为第 c 个格子的结束位置，填入时递减后即为起始位置
+        for (int c = 1; c < cellStart.length; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        // 逆序填入，使同一格子内的目标保持下标升序
+        for (int t = n - 1; t >= 0; t--) {
+            forEachCell(targets, t, false);
+        }
+    }
+
+    private void forEachCell(BoxList targets, int t, boolean counting) {
+        int minCol = column(targets.left(t));
+        int maxCol = column(targets.right(t));
+        int minRow = row(targets.top(t));
+        int maxRow = row(targets.bottom(t));
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                if (counting) {
+                    cellStart[cell]++;
+                } else {
+                    cellItems[--cellStart[cell]] = t;
+                }
+            }
+        }
+    }
+
+    private void nextStamp() {
+        currentStamp++;
+        if (currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+    }
+
+    private int column(int x) {
+        if (x <= 0) {
+            return 0;
+        }
+        int c = x / cellSize;
+        return c >= columns ? columns - 1 : c;
+    }
+
+    private int row(int y) {
+        if (y <= 0) {
+            return 0;
+        }
+        int r = y / cellSize;
+        return r >= rows ? rows - 1 : r;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,121 @@
+package edu.hitsz.collision;
+
+import java.util.Arrays;
+
+/**
+ * 扫描剪枝引擎（Sweep and Prune）
+ * 探测方与目标方各自按包围盒左边界排序，沿 x 轴合并扫描，
+ * 只有 x 区间重叠的活动对象之间才比较 y 区间。
+ * <br>
+ * 排序结果跨时刻保留：对象每个时刻只移动几个像素，上一时刻的顺序几乎有序，
+ * 插入排序接近 O(n)。因此同一实例应固定用于同一组检测。
+ * 实体被移除后下标会平移，此时保留的顺序只是较好的初始顺序，插入排序仍保证正确
+ *
+ * @author hitsz
+ */
+public class SweepAndPrune implements CollisionEngine {
+
+    private int[] probeOrder = new int[64];
+    private int probeCount = 0;
+    private int[] targetOrder = new int[16];
+    private int targetCount = 0;
+
+    private int[] activeProbes = new int[64];
+    private int[] activeTargets = new int[16];
+
+    @Override
+    public void findPairs(BoxList probes, BoxList targets, PairBuffer out) {
+        out.clear();
+        probeOrder = refreshOrder(probeOrder, probeCount, probes.size());
+        probeCount = probes.size();
+        targetOrder = refreshOrder(targetOrder, targetCount, targets.size());
+        targetCount = targets.size();
+        if (probeCount == 0 || targetCount == 0) {
+            return;
+        }
+        insertionSort(probeOrder, probeCount, probes);
+        insertionSort(targetOrder, targetCount, targets);
+        if (activeProbes.length < probeCount) {
+            activeProbes = new int[probeOrder.length];
+        }
+        if (activeTargets.length < targetCount) {
+            activeTargets = new int[targetOrder.length];
+        }
+
+        int activeProbeCount = 0;
+        int activeTargetCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < probeCount || j < targetCount) {
+            boolean takeProbe = j >= targetCount
+                    || (i < probeCount && probes.left(probeOrder[i]) <= targets.left(targetOrder[j]));
+            if (takeProbe) {
+                int p = probeOrder[i++];
+                int left = probes.left(p);
+                int kept = 0;
+                for (int k = 0; k < activeTargetCount; k++) {
+                    int t = activeTargets[k];
+                    if (targets.right(t) < left) {
+                        // 已在扫描线左侧，之后不会再与任何对象重叠
+                        continue;
+                    }
+                    activeTargets[kept++] = t;
+                    if (probes.top(p) <= targets.bottom(t) && targets.top(t) <= probes.bottom(p)) {
+                        out.add(p, t);
+                    }
+                }
+                activeTargetCount = kept;
+                activeProbes[activeProbeCount++] = p;
+            } else {
+                int t = targetOrder[j++];
+                int left = targets.left(t);
+                int kept = 0;
+                for (int k = 0; k < activeProbeCount; k++) {
+                    int p = activeProbes[k];
+                    if (probes.right(p) < left) {
+                        continue;
+                    }
+                    activeProbes[kept++] = p;
+                    if (probes.top(p) <= targets.bottom(t) && targets.top(t) <= probes.bottom(p)) {
+                        out.add(p, t);
+                    }
+                }
+                activeProbeCount = kept;
+                activeTargets[activeTargetCount++] = t;
+            }
+        }
+        out.sort();
+    }
+
+    /**
+     * 沿用上一时刻的顺序：去掉已不存在的下标，再把新增下标追加到末尾
+     */
+    private static int[] refreshOrder(int[] order, int oldCount, int newCount) {
+        if (order.length < newCount) {
+            order = Arrays.copyOf(order, Math.max(newCount, order.length * 2));
+        }
+        int kept = 0;
+        for (int k = 0; k < oldCount; k++) {
+            if (order[k] < newCount) {
+                order[kept++] = order[k];
+            }
+        }
+        for (int index = oldCount; index < newCount; index++) {
+            order[kept++] = index;
+        }
+        return order;
+    }
+
+    private static void insertionSort(int[] order, int count, BoxList boxes) {
+        for (int k = 1; k < count; k++) {
+            int index = order[k];
+            int key = boxes.left(index);
+            int m = k - 1;
+            while (m >= 0 && boxes.left(order[m]) > key) {
+                order[m + 1] = order[m];
+                m--;
+            }
+            order[m + 1] = index;
+        }
+    }
+}
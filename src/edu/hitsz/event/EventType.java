@@ -0,0 +1,49 @@
+package edu.hitsz.event;
+
+/**
+ * 游戏事件类型
+ * 事件记录只有几个 int 字段，各类型字段含义如下（未列出的字段为 0）
+ *
+ * @author hitsz
+ */
+public enum EventType {
+
+    /**
+     * 敌机被英雄机子弹击毁：subject 为敌机精灵类型序号，x/y 为位置，amount 为得分，total 为当前总分
+     */
+    ENEMY_DESTROYED,
+
+    /**
+     * 英雄机拾取道具：subject 为道具精灵类型序号，x/y 为位置
+     */
+    SUPPLY_COLLECTED,
+
+    /**
+     * 炸弹爆炸：x/y 为爆炸中心，amount 为炸毁敌机的得分，total 为当前总分
+     */
+    BOMB_EXPLODED,
+
+    /**
+     * Boss敌机出现：x/y 为位置，amount 为血量
+     */
+    BOSS_APPEARED,
+
+    /**
+     * 英雄机受到伤害：x/y 为英雄机位置，amount 为伤害，total 为剩余血量
+     */
+    HERO_DAMAGED,
+
+    /**
+     * 游戏结束：total 为最终得分
+     */
+    GAME_OVER;
+
+    private static final EventType[] VALUES = values();
+
+    /**
+     * 由序号取得事件类型
+     */
+    public static EventType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
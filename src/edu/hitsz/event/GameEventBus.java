@@ -0,0 +1,188 @@
+package edu.hitsz.event;
+
+import edu.hitsz.render.SpriteType;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 游戏事件总线
+ * 单个模拟线程写、多个读取方（音效、日志、统计等）各自读的无锁环形缓冲区。
+ * 事件记录按字段存放在预先分配的基本类型数组中，发布一个事件只是几次数组写入加一次有序写，不分配内存。
+ * <br>
+ * 每个读取方持有自己的读取序号，互不影响；写入方从不等待读取方。
+ * 写入方正在写的槽位是最后发布事件的下一个，因此读取方最多落后 容量-1 个事件；
+ * 落后更多时，已被覆盖或可能正被覆盖的事件计为丢失并跳过，读取后再次检查序号以丢弃读到一半被覆盖的记录
+ *
+ * @author hitsz
+ */
+public class GameEventBus {
+
+    private final int capacity;
+    private final int mask;
+
+    /**
+     * 读取方可读取的最大落后事件数
+     */
+    private final int window;
+
+    /**
+     * 事件记录字段，按 序号 & mask 存放
+     */
+    private final int[] type;
+    private final int[] subject;
+    private final int[] x;
+    private final int[] y;
+    private final int[] amount;
+    private final int[] total;
+
+    /**
+     * 最后发布的事件序号，-1 表示尚未发布
+     */
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    /**
+     * 下一个事件序号，只由写入方访问
+     */
+    private long next = 0;
+
+    /**
+     * @param capacity 缓冲区容量，向上取为 2 的幂
+     */
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.window = size - 1;
+        type = new int[size];
+        subject = new int[size];
+        x = new int[size];
+        y = new int[size];
+        amount = new int[size];
+        total = new int[size];
+    }
+
+    /**
+     * 写入方：发布事件，字段含义见 {@link EventType}
+     */
+    public void publish(EventType eventType, int eventSubject, int eventX, int eventY, int eventAmount, int eventTotal) {
+        long sequence = next++;
+        int slot = (int) sequence & mask;
+        // 上一事件的序号写入先于本事件的字段写入，读取方据此判断槽位是否可能正被覆盖
+        VarHandle.storeStoreFence();
+        type[slot] = eventType.ordinal();
+        subject[slot] = eventSubject;
+        x[slot] = eventX;
+        y[slot] = eventY;
+        amount[slot] = eventAmount;
+        total[slot] = eventTotal;
+        // 有序写：读取方看到新序号时，记录字段一定已写入
+        cursor.lazySet(sequence);
+    }
+
+    /**
+     * 创建读取方，从下一个发布的事件开始读取
+     */
+    public Reader newReader() {
+        return new Reader(cursor.get() + 1);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 读取方，只能由一个线程使用
+     */
+    public final class Reader {
+
+        private long sequence;
+        private long dropped = 0;
+
+        private Reader(long sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * 读取全部已发布的事件
+         * @return 读取的事件数
+         */
+        public int poll(GameEventHandler handler) {
+            return poll(handler, Integer.MAX_VALUE);
+        }
+
+        /**
+         * 读取已发布的事件，按类型回调处理器
+         * @param handler 处理器
+         * @param limit   最多读取的事件数
+         * @return 读取的事件数
+         */
+        public int poll(GameEventHandler handler, int limit) {
+            long available = cursor.get();
+            int count = 0;
+            while (sequence <= available && count < limit) {
+                if (available - sequence >= window) {
+                    // 落后过多，跳到不会被覆盖的最旧事件
+                    long oldest = available - window + 1;
+                    dropped += oldest - sequence;
+                    handler.onEventsDropped(oldest - sequence);
+                    sequence = oldest;
+                }
+                int slot = (int) sequence & mask;
+                int eventType = type[slot];
+                int eventSubject = subject[slot];
+                int eventX = x[slot];
+                int eventY = y[slot];
+                int eventAmount = amount[slot];
+                int eventTotal = total[slot];
+                // 确认读取期间记录未被写入方覆盖，否则重新按落后处理
+                VarHandle.loadLoadFence();
+                long latest = cursor.get();
+                if (latest - sequence >= window) {
+                    available = latest;
+                    continue;
+                }
+                dispatch(handler, eventType, eventSubject, eventX, eventY, eventAmount, eventTotal);
+                sequence++;
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * 因落后过多而丢失的事件数
+         */
+        public long getDropped() {
+            return dropped;
+        }
+    }
+
+    private static void dispatch(GameEventHandler handler, int eventType, int eventSubject,
+                                 int eventX, int eventY, int eventAmount, int eventTotal) {
+        switch (EventType.of(eventType)) {
+            case ENEMY_DESTROYED:
+                handler.onEnemyDestroyed(SpriteType.of(eventSubject), eventX, eventY, eventAmount, eventTotal);
+                break;
+            case SUPPLY_COLLECTED:
+                handler.onSupplyCollected(SpriteType.of(eventSubject), eventX, eventY);
+                break;
+            case BOMB_EXPLODED:
+                handler.onBombExploded(eventX, eventY, eventAmount, eventTotal);
+                break;
+            case BOSS_APPEARED:
+                handler.onBossAppeared(eventX, eventY, eventAmount);
+                break;
+            case HERO_DAMAGED:
+                handler.onHeroDamaged(eventX, eventY, eventAmount, eventTotal);
+                break;
+            case GAME_OVER:
+                handler.onGameOver(eventTotal);
+                break;
+            default:
+                break;
+        }
+    }
+}
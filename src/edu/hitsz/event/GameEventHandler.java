@@ -0,0 +1,66 @@
+package edu.hitsz.event;
+
+import edu.hitsz.render.SpriteType;
+
+/**
+ * 游戏事件处理器
+ * 由 {@link GameEventBus.Reader} 在读取方线程中按事件类型回调，参数均为基本类型或枚举，不产生对象。
+ * 所有方法默认不做任何事，实现类只需重写关心的事件
+ *
+ * @author hitsz
+ */
+public interface GameEventHandler {
+
+    /**
+     * 敌机被英雄机子弹击毁
+     * @param type   敌机精灵类型
+     * @param points 得分
+     * @param score  当前总分
+     */
+    default void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+    }
+
+    /**
+     * 英雄机拾取道具
+     * @param type 道具精灵类型
+     */
+    default void onSupplyCollected(SpriteType type, int x, int y) {
+    }
+
+    /**
+     * 炸弹爆炸
+     * @param points 炸毁敌机的得分
+     * @param score  当前总分
+     */
+    default void onBombExploded(int x, int y, int points, int score) {
+    }
+
+    /**
+     * Boss敌机出现
+     * @param hp Boss血量
+     */
+    default void onBossAppeared(int x, int y, int hp) {
+    }
+
+    /**
+     * 英雄机受到伤害
+     * @param damage 伤害
+     * @param hp     剩余血量
+     */
+    default void onHeroDamaged(int x, int y, int damage, int hp) {
+    }
+
+    /**
+     * 游戏结束
+     * @param score 最终得分
+     */
+    default void onGameOver(int score) {
+    }
+
+    /**
+     * 读取方落后过多、事件已被覆盖时回调
+     * @param count 丢失的事件数
+     */
+    default void onEventsDropped(long count) {
+    }
+}
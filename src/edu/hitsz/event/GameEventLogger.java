@@ -0,0 +1,57 @@
+package edu.hitsz.event;
+
+import edu.hitsz.render.SpriteType;
+
+/**
+ * 游戏事件日志
+ * 在读取方线程中输出击毁、炸弹等频繁发生的游戏状态信息，模拟线程不再拼接字符串、不再写控制台
+ *
+ * @author hitsz
+ */
+public class GameEventLogger implements GameEventHandler {
+
+    @Override
+    public void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+        switch (type) {
+            case BOSS_ENEMY:
+                System.out.println("击毁Boss！获得" + points + "分，当前得分: " + score);
+                break;
+            case ELITE_PLUS_ENEMY:
+                System.out.println("击毁超级精英敌机！获得" + points + "分，当前得分: " + score);
+                break;
+            case ELITE_ENEMY:
+                System.out.println("击毁精英敌机！获得" + points + "分，当前得分: " + score);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onSupplyCollected(SpriteType type, int x, int y) {
+        // 炸弹由爆炸事件报告
+        switch (type) {
+            case BLOOD_PROP:
+                System.out.println("BloodSupply active!");
+                break;
+            case FIRE_PROP:
+                System.out.println("FireSupply active! 英雄机切换为散射弹道");
+                break;
+            case SUPER_FIRE_PROP:
+                System.out.println("SuperFireSupply active! 英雄机切换为环射弹道");
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onBombExploded(int x, int y, int points, int score) {
+        System.out.println("炸弹爆炸！获得 " + points + " 分");
+    }
+
+    @Override
+    public void onEventsDropped(long count) {
+        System.out.println("日志落后过多，丢失 " + count + " 条游戏事件");
+    }
+}
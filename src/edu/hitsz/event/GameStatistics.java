@@ -0,0 +1,93 @@
+package edu.hitsz.event;
+
+import edu.hitsz.render.SpriteType;
+
+/**
+ * 游戏统计
+ * 由游戏事件累计各类敌机击毁数、道具拾取数、炸弹次数与英雄机所受伤害
+ *
+ * @author hitsz
+ */
+public class GameStatistics implements GameEventHandler {
+
+    private final int[] kills = new int[SpriteType.values().length];
+    private final int[] supplies = new int[SpriteType.values().length];
+    private int bombs = 0;
+    private int bombPoints = 0;
+    private int bossAppearances = 0;
+    private int hits = 0;
+    private int damageTaken = 0;
+    private long dropped = 0;
+
+    @Override
+    public void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+        kills[type.ordinal()]++;
+    }
+
+    @Override
+    public void onSupplyCollected(SpriteType type, int x, int y) {
+        supplies[type.ordinal()]++;
+    }
+
+    @Override
+    public void onBombExploded(int x, int y, int points, int score) {
+        bombs++;
+        bombPoints += points;
+    }
+
+    @Override
+    public void onBossAppeared(int x, int y, int hp) {
+        bossAppearances++;
+    }
+
+    @Override
+    public void onHeroDamaged(int x, int y, int damage, int hp) {
+        hits++;
+        damageTaken += damage;
+    }
+
+    @Override
+    public void onEventsDropped(long count) {
+        dropped += count;
+    }
+
+    public int getKills(SpriteType type) {
+        return kills[type.ordinal()];
+    }
+
+    public int getSupplies(SpriteType type) {
+        return supplies[type.ordinal()];
+    }
+
+    public int getBombs() {
+        return bombs;
+    }
+
+    public int getBossAppearances() {
+        return bossAppearances;
+    }
+
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * 统计摘要
+     */
+    public String summary() {
+        return "击毁: 普通 " + getKills(SpriteType.MOB_ENEMY)
+                + "，精英 " + getKills(SpriteType.ELITE_ENEMY)
+                + "，超级精英 " + getKills(SpriteType.ELITE_PLUS_ENEMY)
+                + "，Boss " + getKills(SpriteType.BOSS_ENEMY) + "/" + bossAppearances
+                + "；道具: 加血 " + getSupplies(SpriteType.BLOOD_PROP)
+                + "，火力 " + getSupplies(SpriteType.FIRE_PROP)
+                + "，超级火力 " + getSupplies(SpriteType.SUPER_FIRE_PROP)
+                + "，炸弹 " + getSupplies(SpriteType.BOMB_PROP) + "（" + bombs + " 次共 " + bombPoints + " 分）"
+                + "；受击 " + hits + " 次共 " + damageTaken + " 点"
+                + (dropped > 0 ? "；丢失事件 " + dropped : "");
+    }
+}
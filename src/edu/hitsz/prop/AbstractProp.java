@@ -3,6 +3,7 @@ package edu.hitsz.prop;
 import edu.hitsz.aircraft.HeroAircraft;
 import edu.hitsz.application.Main;
 import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.basic.TimingWheel;
 
 /**
  * 道具类抽象父类
@@ -17,10 +18,10 @@ public abstract class AbstractProp extends AbstractFlyingObject {
     }
 
     @Override
-    public void forward() {
-        super.forward();
+    public void forward(int elapsedMillis) {
+        super.forward(elapsedMillis);
         // 判定 y 轴向下飞行出界
-        if (locationY >= Main.WINDOW_HEIGHT) {
+        if (getLocationY() >= Main.WINDOW_HEIGHT) {
             vanish();
         }
     }
@@ -28,6 +29,7 @@ public abstract class AbstractProp extends AbstractFlyingObject {
     /**
      * 道具生效方法，不同道具有不同效果
      * @param heroAircraft 英雄机，道具作用对象
+     * @param timingWheel  游戏时间轮，限时效果在其上调度到期
      */
-    public abstract void activate(HeroAircraft heroAircraft);
+    public abstract void activate(HeroAircraft heroAircraft, TimingWheel timingWheel);
 }
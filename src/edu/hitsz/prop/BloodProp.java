@@ -1,6 +1,7 @@
 package edu.hitsz.prop;
 
 import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.basic.TimingWheel;
 import edu.hitsz.application.ImageManager;
 
 /**
@@ -18,12 +19,11 @@ public class BloodProp extends AbstractProp {
     }
 
     @Override
-    public void activate(HeroAircraft heroAircraft) {
+    public void activate(HeroAircraft heroAircraft, TimingWheel timingWheel) {
         // 恢复血量，但不超过最大血量
         int currentHp = heroAircraft.getHp();
         int maxHp = heroAircraft.getMaxHp();
         int newHp = Math.min(currentHp + bloodAmount, maxHp);
         heroAircraft.setHp(newHp);
-        System.out.println("BloodSupply active! HP restored to " + newHp);
     }
 }
@@ -1,92 +1,117 @@
 package edu.hitsz.prop;
 
-import edu.hitsz.aircraft.HeroAircraft;
 import edu.hitsz.aircraft.AbstractAircraft;
-import edu.hitsz.observer.Observer;
-
-import java.util.ArrayList;
-import java.util.List;
+import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.basic.TimingWheel;
+import edu.hitsz.collision.BoxList;
+import edu.hitsz.render.SpriteType;
 
 /**
  * 炸弹道具类
- * 清除屏幕上的所有敌机和敌机子弹
+ * 清除爆炸范围（默认为整个屏幕）内的敌机和敌机子弹。
+ * <br>
+ * 范围内的对象由游戏世界用空间索引查询，不再逐个注册为观察者；
+ * 各类敌机的炸弹效果按精灵类型在分派表中查找，得分由 {@link AbstractAircraft#getBombScore()} 给出
  *
  * @author hitsz
  */
 public class BombProp extends AbstractProp {
 
     /**
-     * 观察者列表
+     * 爆炸范围为整个屏幕（及屏幕外尚未进入的对象）
      */
-    private List<Observer> observers = new ArrayList<>();
+    public static final int FULL_SCREEN = -1;
 
-    public BombProp(int locationX, int locationY, int speedX, int speedY) {
-        super(locationX, locationY, speedX, speedY);
+    /**
+     * 炸弹对某类敌机的效果
+     */
+    @FunctionalInterface
+    public interface BombResponse {
+        void apply(AbstractAircraft enemyAircraft);
     }
 
     /**
-     * 注册观察者
-     * @param observer 观察者对象
+     * 炸弹对超级精英敌机造成的伤害
      */
-    public void registerObserver(Observer observer) {
-        observers.add(observer);
+    static final int ELITE_PLUS_DAMAGE = 30;
+
+    /**
+     * 分派表：精灵类型序号 -> 炸弹效果，没有效果的类型为 null
+     */
+    private static final BombResponse[] RESPONSES = new BombResponse[SpriteType.values().length];
+
+    static {
+        // 普通敌机、精英敌机直接消失，超级精英敌机减血，Boss 不受影响
+        RESPONSES[SpriteType.MOB_ENEMY.ordinal()] = AbstractAircraft::vanish;
+        RESPONSES[SpriteType.ELITE_ENEMY.ordinal()] = AbstractAircraft::vanish;
+        RESPONSES[SpriteType.ELITE_PLUS_ENEMY.ordinal()] = enemyAircraft -> enemyAircraft.decreaseHp(ELITE_PLUS_DAMAGE);
+        RESPONSES[SpriteType.BOSS_ENEMY.ordinal()] = null;
     }
 
     /**
-     * 移除观察者
-     * @param observer 观察者对象
+     * 爆炸半径，{@link #FULL_SCREEN} 表示整个屏幕
      */
-    public void removeObserver(Observer observer) {
-        observers.remove(observer);
+    private final int radius;
+
+    public BombProp(int locationX, int locationY, int speedX, int speedY) {
+        this(locationX, locationY, speedX, speedY, FULL_SCREEN);
+    }
+
+    public BombProp(int locationX, int locationY, int speedX, int speedY, int radius) {
+        super(locationX, locationY, speedX, speedY);
+        this.radius = radius;
+    }
+
+    /**
+     * 添加爆炸范围的包围盒，供空间索引查询候选对象
+     * @return 包围盒下标
+     */
+    public int addBlastBox(BoxList boxes) {
+        if (radius == FULL_SCREEN) {
+            return boxes.add(Integer.MIN_VALUE / 4, Integer.MIN_VALUE / 4, Integer.MAX_VALUE / 4, Integer.MAX_VALUE / 4);
+        }
+        return boxes.addCentered(getLocationX(), getLocationY(), radius * 2, radius * 2);
     }
 
     /**
-     * 通知所有观察者并返回被炸毁的敌机分数总和
-     * @return 被炸毁的敌机分数总和
+     * 宽为 width、高为 height、中心在 (centerX, centerY) 的区域是否与爆炸圆相交
      */
-    public int notifyObservers() {
-        int totalScore = 0;
-        for (Observer observer : observers) {
-            // 在通知前，如果是敌机，先获取分数
-            if (observer instanceof AbstractAircraft) {
-                AbstractAircraft aircraft = (AbstractAircraft) observer;
-                // 只有在敌机还有效时才计算分数
-                if (!aircraft.notValid()) {
-                    totalScore += getAircraftScore(aircraft);
-                }
-            }
-            observer.update();
+    public boolean inBlast(int centerX, int centerY, int width, int height) {
+        if (radius == FULL_SCREEN) {
+            return true;
         }
-        return totalScore;
+        // 圆心到矩形的最近点
+        int dx = Math.max(Math.abs(centerX - getLocationX()) - width / 2, 0);
+        int dy = Math.max(Math.abs(centerY - getLocationY()) - height / 2, 0);
+        return (long) dx * dx + (long) dy * dy <= (long) radius * radius;
+    }
+
+    public boolean inBlast(AbstractAircraft enemyAircraft) {
+        return inBlast(enemyAircraft.getLocationX(), enemyAircraft.getLocationY(),
+                enemyAircraft.getWidth(), enemyAircraft.getHeight());
     }
 
     /**
-     * 获取敌机分数
-     * @param aircraft 敌机对象
-     * @return 敌机分数
+     * 按分派表对敌机施加炸弹效果
+     * @return 炸弹击毁该敌机获得的分数，不受影响的敌机为 0
      */
-    private int getAircraftScore(AbstractAircraft aircraft) {
-        String className = aircraft.getClass().getSimpleName();
-        switch (className) {
-            case "MobEnemy":
-                return 10;
-            case "EliteEnemy":
-                return 50;
-            case "ElitePlusEnemy":
-                // 超级精英敌机可能只是减血，不一定消失，暂不计分
-                return 0;
-            case "BossEnemy":
-                // Boss不受影响
-                return 0;
-            default:
-                return 0;
+    public int blast(AbstractAircraft enemyAircraft) {
+        SpriteType type = enemyAircraft.getSpriteType();
+        BombResponse response = type == null ? null : RESPONSES[type.ordinal()];
+        if (response == null || enemyAircraft.notValid()) {
+            return 0;
         }
+        int score = enemyAircraft.getBombScore();
+        response.apply(enemyAircraft);
+        return score;
+    }
+
+    public int getRadius() {
+        return radius;
     }
 
     @Override
-    public void activate(HeroAircraft heroAircraft) {
-        System.out.println("BombSupply active!");
-        // 通知所有观察者，炸弹爆炸
-        notifyObservers();
+    public void activate(HeroAircraft heroAircraft, TimingWheel timingWheel) {
+        // 爆炸需要查询游戏世界中的敌机和子弹，由游戏世界调用 blast() 完成，游戏世界不调用本方法
     }
 }
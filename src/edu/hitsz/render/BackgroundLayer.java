@@ -0,0 +1,102 @@
+package edu.hitsz.render;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * 背景图层
+ * 背景每帧整屏绘制两次，为其保留一份显存中的 {@link VolatileImage} 副本，绘制时由显卡直接复制。
+ * <br>
+ * 显存内容可能随时丢失（切换显示模式、锁屏等），每次绘制前校验副本，丢失后由原图重新写入；
+ * 副本无法创建或多次重试仍丢失时直接绘制原图
+ *
+ * @author hitsz
+ */
+public class BackgroundLayer {
+
+    /**
+     * 一次绘制中副本丢失后的最多重试次数
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BufferedImage image;
+    private VolatileImage volatileImage;
+
+    /**
+     * 副本由原图重新写入的次数（含首次创建）
+     */
+    private int restoreCount = 0;
+
+    public BackgroundLayer(BufferedImage image) {
+        this.image = image;
+    }
+
+    /**
+     * 在 (x, y) 处绘制背景
+     */
+    public void draw(Graphics g, int x, int y) {
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (!validate(gc)) {
+                break;
+            }
+            g.drawImage(volatileImage, x, y, null);
+            if (!volatileImage.contentsLost()) {
+                return;
+            }
+        }
+        g.drawImage(image, x, y, null);
+    }
+
+    /**
+     * 确保副本与目标设备兼容且内容有效
+     * @return 副本是否可用
+     */
+    private boolean validate(GraphicsConfiguration gc) {
+        int status = volatileImage == null ? VolatileImage.IMAGE_INCOMPATIBLE : volatileImage.validate(gc);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            flush();
+            try {
+                volatileImage = gc.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), Transparency.OPAQUE);
+            } catch (RuntimeException e) {
+                volatileImage = null;
+            }
+            if (volatileImage == null) {
+                return false;
+            }
+            // 新建的副本首次校验总是报告已恢复，在此消化，写入一次内容即可
+            volatileImage.validate(gc);
+            restore();
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            restore();
+        }
+        return true;
+    }
+
+    private void restore() {
+        Graphics2D g = volatileImage.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        restoreCount++;
+    }
+
+    /**
+     * 释放显存副本，下次绘制时重新创建
+     */
+    public void flush() {
+        if (volatileImage != null) {
+            volatileImage.flush();
+            volatileImage = null;
+        }
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    int getRestoreCount() {
+        return restoreCount;
+    }
+}
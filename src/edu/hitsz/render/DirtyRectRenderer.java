@@ -0,0 +1,292 @@
+package edu.hitsz.render;
+
+import edu.hitsz.application.ImageManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * 脏矩形渲染器
+ * 为低功耗显示设备准备的可选渲染方式：画面保存在常驻的后台图片中，每帧只重绘发生变化的区域——
+ * 位置或图片改变的精灵上一帧与本帧的包围盒，以及调用方标记的区域（如内容变化的 HUD），再只把这些区域复制到屏幕。
+ * 相交或相邻的区域合并后逐个裁剪重绘，区域数超过上限时并入扩张最小的区域。
+ * <br>
+ * 滚动背景每次移动都会改变整屏像素，因此背景滚动位置按步长量化，为 0 时背景静止：
+ * 背景每移动一步整屏重绘一次，其余帧只重绘移动的精灵。
+ * 渲染器只能由一个线程使用，{@link #invalidate()} 除外
+ *
+ * @author hitsz
+ */
+public class DirtyRectRenderer {
+
+    /**
+     * 合并后保留的最多脏矩形数
+     */
+    private static final int MAX_RECTS = 32;
+
+    /**
+     * 每个精灵记录的字段数：包围盒 left, top, right, bottom 与区域编号
+     */
+    private static final int STRIDE = 5;
+
+    private final SnapshotRenderer interpolation;
+    private final SpriteAtlas atlas;
+    private final int width;
+    private final int height;
+    private final int scrollStep;
+
+    /**
+     * 常驻后台图片，首次绘制时创建
+     */
+    private BufferedImage buffer;
+    private Graphics2D bufferGraphics;
+
+    /**
+     * 已绘制到后台图片中的背景位置
+     */
+    private int drawnBackgroundTop;
+
+    /**
+     * 是否需要整屏重绘，可由其他线程（如窗口被遮挡后重新显示时）设置
+     */
+    private volatile boolean invalid = true;
+
+    /**
+     * 上一帧与本帧各精灵的包围盒与区域编号，按 {@link #STRIDE} 排列
+     */
+    private int[] previousBounds = new int[256 * STRIDE];
+    private int previousCount = 0;
+    private int[] currentBounds = new int[256 * STRIDE];
+
+    /**
+     * 本帧的脏矩形 [left, top, right, bottom]
+     */
+    private final int[] dirty = new int[MAX_RECTS * 4];
+    private int dirtyCount = 0;
+
+    /**
+     * 上一帧重绘的像素数
+     */
+    private long repaintedPixels = 0;
+
+    /**
+     * @param interpolation 计算插值位置的快照渲染器，使用其精灵图集绘制
+     * @param width         画面宽度
+     * @param height        画面高度，背景按该高度循环滚动
+     * @param scrollStep    背景滚动步长(像素)，0 表示背景静止
+     */
+    public DirtyRectRenderer(SnapshotRenderer interpolation, int width, int height, int scrollStep) {
+        this.interpolation = interpolation;
+        this.atlas = interpolation.getAtlas();
+        this.width = width;
+        this.height = height;
+        this.scrollStep = Math.max(0, scrollStep);
+    }
+
+    /**
+     * 把变化的区域重绘到后台图片中，之后可用 {@link #drawOverlay} 叠加绘制，
+     * 再用 {@link #present(Graphics)} 复制到屏幕
+     * @param background 背景图层
+     * @param previous   上一帧
+     * @param current    当前帧
+     * @param alpha      插值比例
+     */
+    public void render(BackgroundLayer background, RenderSnapshot previous, RenderSnapshot current, double alpha) {
+        if (buffer == null) {
+            buffer = ImageManager.createCompatibleImage(width, height, Transparency.OPAQUE);
+            bufferGraphics = buffer.createGraphics();
+        }
+        int backgroundTop = scrollStep == 0 ? 0
+                : SnapshotRenderer.backgroundTop(previous, current, alpha, height) / scrollStep * scrollStep;
+
+        interpolation.interpolate(previous, current, alpha);
+        int n = current.size();
+        if (currentBounds.length < n * STRIDE) {
+            currentBounds = new int[n * 2 * STRIDE];
+        }
+        for (int i = 0; i < n; i++) {
+            int region = current.getRegion(i);
+            int regionWidth = atlas.getRegionWidth(region);
+            int regionHeight = atlas.getRegionHeight(region);
+            int left = interpolation.getX(i) - regionWidth / 2;
+            int top = interpolation.getY(i) - regionHeight / 2;
+            int k = i * STRIDE;
+            currentBounds[k] = left;
+            currentBounds[k + 1] = top;
+            currentBounds[k + 2] = left + regionWidth;
+            currentBounds[k + 3] = top + regionHeight;
+            currentBounds[k + 4] = region;
+        }
+
+        if (invalid || backgroundTop != drawnBackgroundTop) {
+            invalid = false;
+            drawnBackgroundTop = backgroundTop;
+            dirtyCount = 0;
+            addDirty(0, 0, width, height);
+        } else {
+            // 同一下标的精灵位置与图片都未变化时后台图片中的像素仍然正确，其余精灵的新旧位置都需要重绘
+            for (int i = 0; i < Math.max(previousCount, n); i++) {
+                int k = i * STRIDE;
+                if (i < previousCount && i < n && Arrays.equals(previousBounds, k, k + STRIDE, currentBounds, k, k + STRIDE)) {
+                    continue;
+                }
+                if (i < previousCount) {
+                    addDirty(previousBounds[k], previousBounds[k + 1], previousBounds[k + 2], previousBounds[k + 3]);
+                }
+                if (i < n) {
+                    addDirty(currentBounds[k], currentBounds[k + 1], currentBounds[k + 2], currentBounds[k + 3]);
+                }
+            }
+        }
+
+        repaintedPixels = 0;
+        for (int r = 0; r < dirtyCount; r++) {
+            int left = dirty[r * 4];
+            int top = dirty[r * 4 + 1];
+            int right = dirty[r * 4 + 2];
+            int bottom = dirty[r * 4 + 3];
+            bufferGraphics.setClip(left, top, right - left, bottom - top);
+            background.draw(bufferGraphics, 0, backgroundTop - height);
+            background.draw(bufferGraphics, 0, backgroundTop);
+            for (int i = 0; i < n; i++) {
+                int k = i * STRIDE;
+                if (currentBounds[k] < right && left < currentBounds[k + 2]
+                        && currentBounds[k + 1] < bottom && top < currentBounds[k + 3]) {
+                    atlas.draw(bufferGraphics, currentBounds[k + 4], interpolation.getX(i), interpolation.getY(i));
+                }
+            }
+            repaintedPixels += (long) (right - left) * (bottom - top);
+        }
+        bufferGraphics.setClip(null);
+
+        int[] swap = previousBounds;
+        previousBounds = currentBounds;
+        currentBounds = swap;
+        previousCount = n;
+    }
+
+    /**
+     * 标记下一次 {@link #render} 需要重绘的区域
+     */
+    public void markDirty(int x, int y, int width, int height) {
+        addDirty(x, y, x + width, y + height);
+    }
+
+    /**
+     * 下一帧整屏重绘
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * 在本帧重绘的区域内叠加绘制图片（如 HUD），区域外的像素保持不变，半透明像素不会重复叠加
+     */
+    public void drawOverlay(Image overlay, int x, int y) {
+        int overlayRight = x + overlay.getWidth(null);
+        int overlayBottom = y + overlay.getHeight(null);
+        for (int r = 0; r < dirtyCount; r++) {
+            int left = Math.max(dirty[r * 4], x);
+            int top = Math.max(dirty[r * 4 + 1], y);
+            int right = Math.min(dirty[r * 4 + 2], overlayRight);
+            int bottom = Math.min(dirty[r * 4 + 3], overlayBottom);
+            if (left < right && top < bottom) {
+                bufferGraphics.drawImage(overlay, left, top, right, bottom,
+                        left - x, top - y, right - x, bottom - y, null);
+            }
+        }
+    }
+
+    /**
+     * 把本帧重绘的区域复制到屏幕
+     */
+    public void present(Graphics g) {
+        for (int r = 0; r < dirtyCount; r++) {
+            int left = dirty[r * 4];
+            int top = dirty[r * 4 + 1];
+            int right = dirty[r * 4 + 2];
+            int bottom = dirty[r * 4 + 3];
+            g.drawImage(buffer, left, top, right, bottom, left, top, right, bottom, null);
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * 上一帧重绘的像素数，重叠区域重复计算
+     */
+    public long getRepaintedPixels() {
+        return repaintedPixels;
+    }
+
+    BufferedImage getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * 加入脏矩形：先裁剪到画面内，与已有矩形合并后面积不大于两者之和时合并，
+     * 超过上限时并入合并后扩张最小的矩形
+     */
+    private void addDirty(int left, int top, int right, int bottom) {
+        left = Math.max(left, 0);
+        top = Math.max(top, 0);
+        right = Math.min(right, width);
+        bottom = Math.min(bottom, height);
+        if (left >= right || top >= bottom) {
+            return;
+        }
+        int r = 0;
+        while (r < dirtyCount) {
+            int unionLeft = Math.min(left, dirty[r * 4]);
+            int unionTop = Math.min(top, dirty[r * 4 + 1]);
+            int unionRight = Math.max(right, dirty[r * 4 + 2]);
+            int unionBottom = Math.max(bottom, dirty[r * 4 + 3]);
+            if (area(unionLeft, unionTop, unionRight, unionBottom) <= area(left, top, right, bottom) + area(r)) {
+                // 合并后从头检查，合并后的矩形可能又能与其他矩形合并
+                removeDirty(r);
+                left = unionLeft;
+                top = unionTop;
+                right = unionRight;
+                bottom = unionBottom;
+                r = 0;
+            } else {
+                r++;
+            }
+        }
+        if (dirtyCount == MAX_RECTS) {
+            int best = 0;
+            long bestGrowth = Long.MAX_VALUE;
+            for (r = 0; r < dirtyCount; r++) {
+                long growth = area(Math.min(left, dirty[r * 4]), Math.min(top, dirty[r * 4 + 1]),
+                        Math.max(right, dirty[r * 4 + 2]), Math.max(bottom, dirty[r * 4 + 3])) - area(r);
+                if (growth < bestGrowth) {
+                    bestGrowth = growth;
+                    best = r;
+                }
+            }
+            left = Math.min(left, dirty[best * 4]);
+            top = Math.min(top, dirty[best * 4 + 1]);
+            right = Math.max(right, dirty[best * 4 + 2]);
+            bottom = Math.max(bottom, dirty[best * 4 + 3]);
+            removeDirty(best);
+        }
+        dirty[dirtyCount * 4] = left;
+        dirty[dirtyCount * 4 + 1] = top;
+        dirty[dirtyCount * 4 + 2] = right;
+        dirty[dirtyCount * 4 + 3] = bottom;
+        dirtyCount++;
+    }
+
+    private void removeDirty(int r) {
+        dirtyCount--;
+        System.arraycopy(dirty, dirtyCount * 4, dirty, r * 4, 4);
+    }
+
+    private long area(int r) {
+        return area(dirty[r * 4], dirty[r * 4 + 1], dirty[r * 4 + 2], dirty[r * 4 + 3]);
+    }
+
+    private static long area(int left, int top, int right, int bottom) {
+        return (long) (right - left) * (bottom - top);
+    }
+}
@@ -0,0 +1,185 @@
+package edu.hitsz.render;
+
+import edu.hitsz.application.ImageManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 得分与生命值显示层
+ * 创建时把数字、负号和两个标签用同一字体一次性绘制进一张小图集，
+ * 得分或生命值变化时才用图集中的字形重新拼出显示层图片，每帧只绘制这张图片，
+ * 绘制过程不创建颜色、字体和字符串，也不再排版文字。
+ * 文字不做抗锯齿，像素只有全透明与不透明两种，显示层使用位掩码透明的图片，每帧只绘制文字实际占用的宽度
+ *
+ * @author hitsz
+ */
+public class HudLayer {
+
+    private static final String GLYPHS = "0123456789-";
+    private static final String SCORE_LABEL = "SCORE:";
+    private static final String LIFE_LABEL = "LIFE:";
+
+    /**
+     * 文字左端与两行基线的位置
+     */
+    private static final int LEFT = 10;
+    private static final int SCORE_BASELINE = 25;
+    private static final int LIFE_BASELINE = 45;
+
+    /**
+     * 最长的数值：负号加 10 位数字
+     */
+    private static final int MAX_CHARS = 11;
+
+    /**
+     * 字形图集：数字、负号，之后是两个标签，每个字形一列，上沿对齐
+     */
+    private final BufferedImage glyphs;
+    private final int[] glyphX = new int[GLYPHS.length() + 2];
+    private final int[] glyphWidth = new int[GLYPHS.length() + 2];
+    private final int ascent;
+    private final int glyphHeight;
+
+    private final BufferedImage image;
+    private final Graphics2D imageGraphics;
+
+    /**
+     * 文字实际占用的宽度
+     */
+    private int usedWidth = 0;
+
+    /**
+     * 当前显示的数值，drawn 为 false 时尚未绘制
+     */
+    private int score;
+    private int life;
+    private boolean drawn = false;
+
+    /**
+     * 拼数值时按从低到高位存放字形下标
+     */
+    private final int[] digits = new int[MAX_CHARS];
+
+    private int redrawCount = 0;
+
+    public HudLayer() {
+        this(new Font("SansSerif", Font.BOLD, 22), new Color(16711680));
+    }
+
+    public HudLayer(Font font, Color color) {
+        // 用临时画笔量出字形尺寸
+        Graphics2D probe = ImageManager.createCompatibleImage(1, 1, Transparency.TRANSLUCENT).createGraphics();
+        FontMetrics metrics = probe.getFontMetrics(font);
+        probe.dispose();
+        ascent = metrics.getAscent();
+        glyphHeight = ascent + metrics.getDescent();
+
+        String[] texts = new String[glyphX.length];
+        for (int i = 0; i < GLYPHS.length(); i++) {
+            texts[i] = GLYPHS.substring(i, i + 1);
+        }
+        texts[GLYPHS.length()] = SCORE_LABEL;
+        texts[GLYPHS.length() + 1] = LIFE_LABEL;
+        int atlasWidth = 0;
+        int maxDigitWidth = 0;
+        for (int i = 0; i < texts.length; i++) {
+            glyphX[i] = atlasWidth;
+            glyphWidth[i] = metrics.stringWidth(texts[i]);
+            atlasWidth += glyphWidth[i];
+            if (i < GLYPHS.length()) {
+                maxDigitWidth = Math.max(maxDigitWidth, glyphWidth[i]);
+            }
+        }
+
+        glyphs = ImageManager.createCompatibleImage(atlasWidth, glyphHeight, Transparency.TRANSLUCENT);
+        Graphics2D g = glyphs.createGraphics();
+        g.setFont(font);
+        g.setColor(color);
+        for (int i = 0; i < texts.length; i++) {
+            g.drawString(texts[i], glyphX[i], ascent);
+        }
+        g.dispose();
+
+        int labelWidth = Math.max(glyphWidth[GLYPHS.length()], glyphWidth[GLYPHS.length() + 1]);
+        image = ImageManager.createCompatibleImage(LEFT + labelWidth + MAX_CHARS * maxDigitWidth,
+                LIFE_BASELINE - ascent + glyphHeight, Transparency.BITMASK);
+        imageGraphics = image.createGraphics();
+    }
+
+    /**
+     * 数值变化时重新拼出显示层图片
+     * @return 是否重新绘制
+     */
+    public boolean update(int newScore, int newLife) {
+        if (drawn && newScore == score && newLife == life) {
+            return false;
+        }
+        drawn = true;
+        score = newScore;
+        life = newLife;
+        imageGraphics.setComposite(AlphaComposite.Clear);
+        imageGraphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        imageGraphics.setComposite(AlphaComposite.SrcOver);
+        int x = drawGlyph(GLYPHS.length(), LEFT, SCORE_BASELINE);
+        usedWidth = drawNumber(newScore, x, SCORE_BASELINE);
+        x = drawGlyph(GLYPHS.length() + 1, LEFT, LIFE_BASELINE);
+        usedWidth = Math.max(usedWidth, drawNumber(newLife, x, LIFE_BASELINE));
+        redrawCount++;
+        return true;
+    }
+
+    /**
+     * 在画面左上角绘制显示层
+     */
+    public void draw(Graphics g) {
+        g.drawImage(image, 0, 0, usedWidth, image.getHeight(), 0, 0, usedWidth, image.getHeight(), null);
+    }
+
+    /**
+     * @return 数值右端
+     */
+    private int drawNumber(int value, int x, int baseline) {
+        long remaining = Math.abs((long) value);
+        int count = 0;
+        do {
+            digits[count++] = (int) (remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            x = drawGlyph(GLYPHS.indexOf('-'), x, baseline);
+        }
+        while (count > 0) {
+            x = drawGlyph(digits[--count], x, baseline);
+        }
+        return x;
+    }
+
+    /**
+     * 从图集中绘制一个字形
+     * @return 下一个字形的左端
+     */
+    private int drawGlyph(int glyph, int x, int baseline) {
+        int top = baseline - ascent;
+        int width = glyphWidth[glyph];
+        imageGraphics.drawImage(glyphs, x, top, x + width, top + glyphHeight,
+                glyphX[glyph], 0, glyphX[glyph] + width, glyphHeight, null);
+        return x + width;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    int getRedrawCount() {
+        return redrawCount;
+    }
+}
@@ -0,0 +1,64 @@
+package edu.hitsz.render;
+
+import java.util.Arrays;
+
+/**
+ * 矩形装箱
+ * 天际线左下算法：按高度从大到小依次放置，每个矩形放在使其顶边最低的位置（相同时取最左），
+ * 天际线以每列已占用的高度表示。用于把全部精灵图片排进一张图集
+ *
+ * @author hitsz
+ */
+public final class RectPacker {
+
+    private RectPacker() {
+    }
+
+    /**
+     * 装箱
+     * @param binWidth 箱宽，每个矩形的宽都不能超过箱宽
+     * @param widths   矩形宽
+     * @param heights  矩形高
+     * @param outX     输出：矩形左上角横坐标
+     * @param outY     输出：矩形左上角纵坐标
+     * @return 装箱后占用的高度
+     */
+    public static int pack(int binWidth, int[] widths, int[] heights, int[] outX, int[] outY) {
+        int n = widths.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            if (widths[i] > binWidth) {
+                throw new IllegalArgumentException("矩形宽度 " + widths[i] + " 超过箱宽 " + binWidth);
+            }
+            order[i] = i;
+        }
+        // 高的先放，等高时宽的先放，结果只取决于尺寸
+        Arrays.sort(order, (a, b) -> heights[a] != heights[b] ? heights[b] - heights[a]
+                : widths[a] != widths[b] ? widths[b] - widths[a] : a - b);
+
+        int[] skyline = new int[binWidth];
+        int usedHeight = 0;
+        for (int i : order) {
+            int width = widths[i];
+            int bestX = 0;
+            int bestY = Integer.MAX_VALUE;
+            for (int x = 0; x + width <= binWidth; x++) {
+                int y = 0;
+                for (int c = x; c < x + width; c++) {
+                    y = Math.max(y, skyline[c]);
+                }
+                if (y < bestY) {
+                    bestY = y;
+                    bestX = x;
+                }
+            }
+            outX[i] = bestX;
+            outY[i] = bestY;
+            for (int c = bestX; c < bestX + width; c++) {
+                skyline[c] = bestY + heights[i];
+            }
+            usedHeight = Math.max(usedHeight, bestY + heights[i]);
+        }
+        return usedHeight;
+    }
+}
@@ -0,0 +1,125 @@
+package edu.hitsz.render;
+
+import java.util.Arrays;
+
+/**
+ * 渲染快照
+ * 模拟线程在每个时刻末尾把需要绘制的内容写成基本类型数组：每个精灵的图集区域、编号与中心坐标（定点数），
+ * 以及背景滚动位置、得分和生命值。快照发布后直到被渲染方归还都不会再被修改，
+ * 渲染方只读快照，不接触游戏对象和游戏集合
+ *
+ * @author hitsz
+ */
+public class RenderSnapshot {
+
+    /**
+     * 发布序号，从 1 开始递增；0 表示尚未写入
+     */
+    long sequence = 0;
+
+    /**
+     * 发布时间(ns)，用于插值
+     */
+    long publishNanos;
+
+    private int backgroundTop;
+    private int score;
+    private int heroHp;
+
+    private int[] region;
+    private int[] id;
+    private int[] x;
+    private int[] y;
+    private int size = 0;
+
+    public RenderSnapshot() {
+        this(256);
+    }
+
+    public RenderSnapshot(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        region = new int[capacity];
+        id = new int[capacity];
+        x = new int[capacity];
+        y = new int[capacity];
+    }
+
+    /**
+     * 开始写入新的一帧
+     */
+    public void reset(int backgroundTop, int score, int heroHp) {
+        this.backgroundTop = backgroundTop;
+        this.score = score;
+        this.heroHp = heroHp;
+        size = 0;
+    }
+
+    /**
+     * 添加一个精灵，按添加顺序绘制
+     * @param type    精灵类型
+     * @param spriteId 对象编号，用于与上一帧中的同一对象对应
+     * @param centerX 中心 x 坐标（定点数）
+     * @param centerY 中心 y 坐标（定点数）
+     */
+    public void add(SpriteType type, int spriteId, int centerX, int centerY) {
+        if (size == region.length) {
+            int capacity = size * 2;
+            region = Arrays.copyOf(region, capacity);
+            id = Arrays.copyOf(id, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+        region[size] = type.getRegion();
+        id[size] = spriteId;
+        x[size] = centerX;
+        y[size] = centerY;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SpriteType getSprite(int index) {
+        return SpriteType.of(region[index]);
+    }
+
+    /**
+     * 精灵在 {@link SpriteAtlas} 中的区域编号
+     */
+    public int getRegion(int index) {
+        return region[index];
+    }
+
+    public int getId(int index) {
+        return id[index];
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+
+    public int getBackgroundTop() {
+        return backgroundTop;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHeroHp() {
+        return heroHp;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+}
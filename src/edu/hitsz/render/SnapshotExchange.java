@@ -0,0 +1,74 @@
+package edu.hitsz.render;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 渲染快照交换
+ * 单个模拟线程写、单个渲染线程读的无锁多缓冲：共四个快照，
+ * 模拟线程独占一个用于写入，渲染线程独占两个（上一帧与当前帧）用于插值，
+ * 剩下一个放在原子引用中作为最新发布的快照。双方只通过一次 getAndSet 交换缓冲，
+ * 不加锁、不分配内存；渲染较慢时中间的快照会被直接覆盖
+ *
+ * @author hitsz
+ */
+public class SnapshotExchange {
+
+    private final AtomicReference<RenderSnapshot> latest = new AtomicReference<>(new RenderSnapshot());
+
+    /**
+     * 模拟线程独占
+     */
+    private RenderSnapshot back = new RenderSnapshot();
+    private long nextSequence = 1;
+
+    /**
+     * 渲染线程独占
+     */
+    private RenderSnapshot previous = new RenderSnapshot();
+    private RenderSnapshot current = new RenderSnapshot();
+
+    /**
+     * 模拟线程：取得用于写入的快照
+     */
+    public RenderSnapshot beginWrite() {
+        return back;
+    }
+
+    /**
+     * 模拟线程：发布写好的快照，换回一个可重用的缓冲
+     */
+    public void publish() {
+        back.sequence = nextSequence++;
+        back.publishNanos = System.nanoTime();
+        back = latest.getAndSet(back);
+    }
+
+    /**
+     * 渲染线程：若有更新的快照则取得它，原当前帧变为上一帧
+     * @return true: 取得了新快照
+     */
+    public boolean poll() {
+        if (latest.get().sequence <= current.sequence) {
+            return false;
+        }
+        // 交出最旧的缓冲，取得最新发布的快照
+        RenderSnapshot incoming = latest.getAndSet(previous);
+        previous = current;
+        current = incoming;
+        return true;
+    }
+
+    /**
+     * 渲染线程：当前帧
+     */
+    public RenderSnapshot current() {
+        return current;
+    }
+
+    /**
+     * 渲染线程：上一帧，与当前帧一起用于插值
+     */
+    public RenderSnapshot previous() {
+        return previous;
+    }
+}
@@ -0,0 +1,168 @@
+package edu.hitsz.render;
+
+import edu.hitsz.basic.Fixed;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * 快照渲染器
+ * 在渲染线程中绘制最近两帧快照之间的插值画面：按对象编号找到上一帧中的同一对象，
+ * 按发布时间的比例在两帧的定点数坐标之间线性插值，绘制时才取整为像素。画面比模拟滞后至多一个时刻，
+ * 但渲染帧率可以高于模拟频率，移动依然平滑。新出现的对象直接画在当前帧位置。
+ * 全部精灵按区域编号从同一张 {@link SpriteAtlas} 图片中绘制
+ *
+ * @author hitsz
+ */
+public class SnapshotRenderer {
+
+    private final SpriteAtlas atlas;
+
+    /**
+     * 编号 -> 上一帧下标 的开放寻址哈希表，每帧重建，稳定后不再分配内存
+     */
+    private int[] keys = new int[512];
+    private int[] values = new int[512];
+    private int[] stamps = new int[512];
+    private int currentStamp = 0;
+
+    /**
+     * 插值后的精灵中心像素坐标
+     */
+    private int[] x = new int[256];
+    private int[] y = new int[256];
+
+    public SnapshotRenderer() {
+        this(SpriteAtlas.getInstance());
+    }
+
+    public SnapshotRenderer(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * 插值比例：0 为上一帧，1 为当前帧
+     * @param previous 上一帧
+     * @param current  当前帧
+     * @param nowNanos 当前时间(ns)
+     */
+    public static double alpha(RenderSnapshot previous, RenderSnapshot current, long nowNanos) {
+        long interval = current.publishNanos - previous.publishNanos;
+        if (previous.sequence == 0 || interval <= 0) {
+            return 1.0;
+        }
+        double alpha = (double) (nowNanos - current.publishNanos) / interval;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * 绘制背景与全部精灵
+     * @param g          画笔
+     * @param background 背景图层
+     * @param worldHeight 世界高度，背景按该高度循环滚动
+     * @param previous   上一帧
+     * @param current    当前帧
+     * @param alpha      插值比例
+     */
+    public void paint(Graphics g, BackgroundLayer background, int worldHeight,
+                      RenderSnapshot previous, RenderSnapshot current, double alpha) {
+        int backGroundTop = backgroundTop(previous, current, alpha, worldHeight);
+        background.draw(g, 0, backGroundTop - worldHeight);
+        background.draw(g, 0, backGroundTop);
+
+        interpolate(previous, current, alpha);
+        for (int i = 0; i < current.size(); i++) {
+            atlas.draw(g, current.getRegion(i), x[i], y[i]);
+        }
+    }
+
+    /**
+     * 插值后的背景滚动位置。滚动位置循环变化，按循环距离插值
+     */
+    static int backgroundTop(RenderSnapshot previous, RenderSnapshot current, double alpha, int worldHeight) {
+        int fromTop = previous.sequence == 0 ? current.getBackgroundTop() : previous.getBackgroundTop();
+        int delta = Math.floorMod(current.getBackgroundTop() - fromTop, worldHeight);
+        return (fromTop + (int) Math.round(delta * alpha)) % worldHeight;
+    }
+
+    /**
+     * 计算当前帧每个精灵插值后的中心像素坐标，结果由 {@link #getX(int)}、{@link #getY(int)} 读取
+     */
+    void interpolate(RenderSnapshot previous, RenderSnapshot current, double alpha) {
+        int n = current.size();
+        if (x.length < n) {
+            x = new int[n * 2];
+            y = new int[n * 2];
+        }
+        indexPrevious(previous);
+        for (int i = 0; i < n; i++) {
+            int fixedX = current.getX(i);
+            int fixedY = current.getY(i);
+            int p = find(current.getId(i));
+            if (p >= 0) {
+                fixedX = previous.getX(p) + (int) Math.round((fixedX - previous.getX(p)) * alpha);
+                fixedY = previous.getY(p) + (int) Math.round((fixedY - previous.getY(p)) * alpha);
+            }
+            x[i] = Fixed.toInt(fixedX);
+            y[i] = Fixed.toInt(fixedY);
+        }
+    }
+
+    int getX(int index) {
+        return x[index];
+    }
+
+    int getY(int index) {
+        return y[index];
+    }
+
+    SpriteAtlas getAtlas() {
+        return atlas;
+    }
+
+    private void indexPrevious(RenderSnapshot previous) {
+        int n = previous.size();
+        if (keys.length < n * 2) {
+            int capacity = Integer.highestOneBit(n * 2) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            stamps = new int[capacity];
+            currentStamp = 0;
+        }
+        currentStamp++;
+        if (currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+        if (previous.sequence == 0) {
+            return;
+        }
+        int mask = keys.length - 1;
+        for (int i = 0; i < n; i++) {
+            int slot = hash(previous.getId(i)) & mask;
+            while (stamps[slot] == currentStamp) {
+                slot = (slot + 1) & mask;
+            }
+            stamps[slot] = currentStamp;
+            keys[slot] = previous.getId(i);
+            values[slot] = i;
+        }
+    }
+
+    private int find(int id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (stamps[slot] == currentStamp) {
+            if (keys[slot] == id) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,215 @@
+package edu.hitsz.render;
+
+import edu.hitsz.application.ImageManager;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 精灵图集
+ * 启动时用 {@link RectPacker} 把全部精灵图片排进一张兼容格式的图片，每个精灵对应一个整数区域编号
+ * （即 {@link SpriteType#getRegion()}），绘制时按区域从同一张源图片中截取，
+ * 新增精灵类型只增加一个区域而不增加图片对象。
+ * <br>
+ * 布局只由 {@link SpriteType} 中记录的尺寸决定，可选地把拼好的图集缓存为 PNG 文件（系统属性 aircraftwar.atlasCache），
+ * 缓存比全部精灵图片都新且尺寸一致时直接读取缓存
+ *
+ * @author hitsz
+ */
+public final class SpriteAtlas {
+
+    /**
+     * 区域之间的间隔（像素），避免缩放绘制时采样到相邻精灵
+     */
+    static final int PADDING = 1;
+
+    private final BufferedImage image;
+    private final int[] regionX;
+    private final int[] regionY;
+    private final int[] regionWidth;
+    private final int[] regionHeight;
+
+    private SpriteAtlas(BufferedImage image, Layout layout) {
+        this.image = image;
+        this.regionX = layout.x;
+        this.regionY = layout.y;
+        this.regionWidth = layout.width;
+        this.regionHeight = layout.height;
+    }
+
+    /**
+     * 全部精灵类型的图集，首次调用时创建
+     */
+    public static SpriteAtlas getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 把图片按下标依次作为区域 0, 1, 2... 拼成图集
+     */
+    public static SpriteAtlas build(BufferedImage[] sprites) {
+        int[] widths = new int[sprites.length];
+        int[] heights = new int[sprites.length];
+        for (int i = 0; i < sprites.length; i++) {
+            widths[i] = sprites[i].getWidth();
+            heights[i] = sprites[i].getHeight();
+        }
+        Layout layout = new Layout(widths, heights);
+        BufferedImage atlas = ImageManager.createCompatibleImage(layout.atlasWidth, layout.atlasHeight,
+                Transparency.TRANSLUCENT);
+        Graphics2D g = atlas.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        for (int i = 0; i < sprites.length; i++) {
+            g.drawImage(sprites[i], layout.x[i], layout.y[i], null);
+        }
+        g.dispose();
+        return new SpriteAtlas(atlas, layout);
+    }
+
+    /**
+     * 创建全部精灵类型的图集
+     * @param cacheFile 缓存文件，为 null 时不使用缓存
+     */
+    public static SpriteAtlas create(File cacheFile) {
+        SpriteType[] types = SpriteType.values();
+        int[] widths = new int[types.length];
+        int[] heights = new int[types.length];
+        long newestSprite = 0;
+        for (SpriteType type : types) {
+            widths[type.getRegion()] = type.getWidth();
+            heights[type.getRegion()] = type.getHeight();
+            newestSprite = Math.max(newestSprite, new File(type.getImagePath()).lastModified());
+        }
+
+        if (cacheFile != null && cacheFile.isFile() && cacheFile.lastModified() >= newestSprite) {
+            Layout layout = new Layout(widths, heights);
+            try {
+                BufferedImage cached = ImageIO.read(cacheFile);
+                if (cached != null && cached.getWidth() == layout.atlasWidth && cached.getHeight() == layout.atlasHeight) {
+                    return new SpriteAtlas(ImageManager.toCompatibleImage(cached, Transparency.TRANSLUCENT), layout);
+                }
+            } catch (IOException e) {
+                System.err.println("图集缓存读取失败，重新生成：" + e.getMessage());
+            }
+        }
+
+        BufferedImage[] sprites = new BufferedImage[types.length];
+        for (SpriteType type : types) {
+            sprites[type.getRegion()] = type.getImage();
+        }
+        SpriteAtlas atlas = build(sprites);
+        if (cacheFile != null) {
+            try {
+                atlas.write(cacheFile);
+            } catch (IOException e) {
+                System.err.println("图集缓存写入失败：" + e.getMessage());
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * 以 PNG 格式写出图集
+     */
+    void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("无法创建目录 " + parent);
+        }
+        // PNG 不支持预乘透明度，转换为普通 ARGB 后写出
+        BufferedImage argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = argb.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        if (!ImageIO.write(argb, "png", file)) {
+            throw new IOException("不支持的图片格式");
+        }
+    }
+
+    /**
+     * 以 (centerX, centerY) 为中心绘制区域
+     */
+    public void draw(Graphics g, int region, int centerX, int centerY) {
+        int width = regionWidth[region];
+        int height = regionHeight[region];
+        int left = centerX - width / 2;
+        int top = centerY - height / 2;
+        int sourceX = regionX[region];
+        int sourceY = regionY[region];
+        g.drawImage(image, left, top, left + width, top + height,
+                sourceX, sourceY, sourceX + width, sourceY + height, null);
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int getRegionCount() {
+        return regionX.length;
+    }
+
+    public int getRegionX(int region) {
+        return regionX[region];
+    }
+
+    public int getRegionY(int region) {
+        return regionY[region];
+    }
+
+    public int getRegionWidth(int region) {
+        return regionWidth[region];
+    }
+
+    public int getRegionHeight(int region) {
+        return regionHeight[region];
+    }
+
+    /**
+     * 图集布局：宽度取不小于最宽精灵和总面积平方根的 2 的幂，高度取装箱实际占用的高度
+     */
+    private static final class Layout {
+        private final int[] x;
+        private final int[] y;
+        private final int[] width;
+        private final int[] height;
+        private final int atlasWidth;
+        private final int atlasHeight;
+
+        private Layout(int[] widths, int[] heights) {
+            int n = widths.length;
+            int[] paddedWidths = new int[n];
+            int[] paddedHeights = new int[n];
+            int maxWidth = 1;
+            long area = 0;
+            for (int i = 0; i < n; i++) {
+                paddedWidths[i] = widths[i] + PADDING;
+                paddedHeights[i] = heights[i] + PADDING;
+                maxWidth = Math.max(maxWidth, paddedWidths[i]);
+                area += (long) paddedWidths[i] * paddedHeights[i];
+            }
+            int binWidth = Integer.highestOneBit(Math.max(maxWidth, (int) Math.ceil(Math.sqrt(area))));
+            if (binWidth < maxWidth || binWidth * (long) binWidth < area) {
+                binWidth <<= 1;
+            }
+            this.x = new int[n];
+            this.y = new int[n];
+            this.width = widths.clone();
+            this.height = heights.clone();
+            this.atlasWidth = binWidth;
+            this.atlasHeight = Math.max(RectPacker.pack(binWidth, paddedWidths, paddedHeights, x, y), 1);
+        }
+    }
+
+    private static class Holder {
+        private static final SpriteAtlas INSTANCE = create(cacheFile());
+
+        private static File cacheFile() {
+            String path = System.getProperty("aircraftwar.atlasCache");
+            return path == null || path.isEmpty() ? null : new File(path);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package edu.hitsz.render;
+
+import edu.hitsz.aircraft.BossEnemy;
+import edu.hitsz.aircraft.EliteEnemy;
+import edu.hitsz.aircraft.ElitePlusEnemy;
+import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.aircraft.MobEnemy;
+import edu.hitsz.application.ImageManager;
+import edu.hitsz.bullet.EnemyBullet;
+import edu.hitsz.bullet.HeroBullet;
+import edu.hitsz.collision.CollisionMask;
+import edu.hitsz.prop.BloodProp;
+import edu.hitsz.prop.BombProp;
+import edu.hitsz.prop.FireProp;
+import edu.hitsz.prop.SuperFireProp;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 精灵类型
+ * 渲染快照中只记录精灵类型的序号，绘制时再由类型取得图片，快照本身不引用游戏对象。
+ * <br>
+ * 同时作为精灵元数据表：图片尺寸直接记录在表中，游戏逻辑（碰撞、出生位置等）只查表，
+ * 不依赖 {@link ImageManager} 解码图片，因此无显示环境时也能运行模拟。
+ * 碰撞掩码在首次使用时由图片文件生成，绘制时按区域编号从 {@link SpriteAtlas} 中截取图片
+ *
+ * @author hitsz
+ */
+public enum SpriteType {
+
+    HERO(HeroAircraft.class, "src/images/hero.png", 100, 83),
+    MOB_ENEMY(MobEnemy.class, "src/images/mob.png", 75, 50),
+    ELITE_ENEMY(EliteEnemy.class, "src/images/elite.png", 105, 68),
+    ELITE_PLUS_ENEMY(ElitePlusEnemy.class, "src/images/elitePlus.png", 105, 68),
+    BOSS_ENEMY(BossEnemy.class, "src/images/boss.png", 300, 200),
+    HERO_BULLET(HeroBullet.class, "src/images/bullet_hero.png", 10, 25),
+    ENEMY_BULLET(EnemyBullet.class, "src/images/bullet_enemy.png", 10, 18),
+    BLOOD_PROP(BloodProp.class, "src/images/prop_blood.png", 33, 30),
+    BOMB_PROP(BombProp.class, "src/images/prop_bomb.png", 35, 27),
+    FIRE_PROP(FireProp.class, "src/images/prop_bullet.png", 35, 33),
+    SUPER_FIRE_PROP(SuperFireProp.class, "src/images/prop_bulletPlus.png", 55, 39);
+
+    private static final SpriteType[] VALUES = values();
+
+    private static final Map<String, SpriteType> CLASSNAME_TYPE_MAP = new HashMap<>();
+
+    static {
+        for (SpriteType type : VALUES) {
+            CLASSNAME_TYPE_MAP.put(type.className, type);
+        }
+    }
+
+    private final String className;
+    private final String imagePath;
+    private final int width;
+    private final int height;
+
+    SpriteType(Class<?> objectClass, String imagePath, int width, int height) {
+        this.className = objectClass.getName();
+        this.imagePath = imagePath;
+        this.width = width;
+        this.height = height;
+    }
+
+    public BufferedImage getImage() {
+        return ImageManager.get(className);
+    }
+
+    /**
+     * 在 {@link SpriteAtlas} 中的区域编号，与序号相同
+     */
+    public int getRegion() {
+        return ordinal();
+    }
+
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * 碰撞掩码，首次调用时一次性生成全部类型的掩码
+     */
+    public CollisionMask getMask() {
+        return MaskHolder.MASKS[ordinal()];
+    }
+
+    /**
+     * 由序号取得精灵类型
+     */
+    public static SpriteType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * 由游戏对象的类取得精灵类型
+     * @return 精灵类型，没有对应图片的类返回 null
+     */
+    public static SpriteType of(Class<?> objectClass) {
+        return CLASSNAME_TYPE_MAP.get(objectClass.getName());
+    }
+
+    /**
+     * 延迟加载的碰撞掩码，由类加载机制保证只生成一次且线程安全
+     */
+    private static class MaskHolder {
+        private static final CollisionMask[] MASKS = new CollisionMask[VALUES.length];
+
+        static {
+            try {
+                for (SpriteType type : VALUES) {
+                    try (InputStream in = new FileInputStream(type.imagePath)) {
+                        MASKS[type.ordinal()] = CollisionMask.of(ImageIO.read(in));
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.exit(-1);
+            }
+        }
+    }
+}
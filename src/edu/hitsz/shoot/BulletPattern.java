@@ -0,0 +1,259 @@
+package edu.hitsz.shoot;
+
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 弹幕图案
+ * 由 {@link Builder} 声明图案（环形、扇形、螺旋、瞄准、逐轮旋转），构造时一次性编译为
+ * 每颗子弹的发射偏移与速度表，发射一轮子弹只是按表依次写入子弹接收方，不做三角函数运算，也不产生对象。
+ * <br>
+ * 图案可以有多个相位，每个相位是整组子弹旋转一定角度后的结果：
+ * 逐轮旋转的图案（螺旋、旋转环）每轮取下一个相位；瞄准图案按目标方向取最接近的相位。
+ * 图案坐标系中 +y 为前方（屏幕向下），角度从前方起算；表中偏移与速度均为 16.16 定点数，
+ * 因此低速子弹也保留准确的方向
+ *
+ * @author hitsz
+ */
+public final class BulletPattern {
+
+    /**
+     * 每颗子弹的发射偏移与速度（定点数），按 相位 * 子弹数 + 子弹序号 存放
+     */
+    private final int[] offsetX;
+    private final int[] offsetY;
+    private final int[] speedX;
+    private final int[] speedY;
+
+    /**
+     * 每轮子弹数
+     */
+    private final int count;
+
+    /**
+     * 相位数
+     */
+    private final int phases;
+
+    /**
+     * 是否为瞄准图案
+     */
+    private final boolean aimed;
+
+    /**
+     * 瞄准图案每个象限内相邻相位之间的中线方向，用于不做三角函数地量化目标方向
+     */
+    private final double[] midCos;
+    private final double[] midSin;
+
+    private BulletPattern(List<double[]> bullets, int phases, double phaseStep, boolean aimed, int direction) {
+        this.count = bullets.size();
+        this.phases = phases;
+        this.aimed = aimed;
+        offsetX = new int[count * phases];
+        offsetY = new int[count * phases];
+        speedX = new int[count * phases];
+        speedY = new int[count * phases];
+        for (int p = 0; p < phases; p++) {
+            double cos = Math.cos(p * phaseStep);
+            double sin = Math.sin(p * phaseStep);
+            for (int i = 0; i < count; i++) {
+                double[] bullet = bullets.get(i);
+                int slot = p * count + i;
+                offsetX[slot] = Fixed.of(bullet[0] * cos - bullet[1] * sin);
+                offsetY[slot] = Fixed.of((bullet[0] * sin + bullet[1] * cos) * direction);
+                speedX[slot] = Fixed.of(bullet[2] * cos - bullet[3] * sin);
+                speedY[slot] = Fixed.of((bullet[2] * sin + bullet[3] * cos) * direction);
+            }
+        }
+        int quarter = aimed ? phases / 4 : 0;
+        midCos = new double[quarter];
+        midSin = new double[quarter];
+        for (int j = 0; j < quarter; j++) {
+            midCos[j] = Math.cos((j + 0.5) * phaseStep);
+            midSin[j] = Math.sin((j + 0.5) * phaseStep);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 按指定相位发射一轮子弹
+     * @param sink       子弹接收方
+     * @param x          发射中心 x 坐标（定点数）
+     * @param y          发射中心 y 坐标（定点数）
+     * @param baseSpeedX 叠加在每颗子弹上的 x 方向速度（定点数），如发射者自身速度
+     * @param baseSpeedY 叠加在每颗子弹上的 y 方向速度（定点数）
+     * @param power      子弹伤害
+     * @param phase      相位，超出相位数时取模
+     */
+    public void emit(BulletSink sink, int x, int y, int baseSpeedX, int baseSpeedY, int power, int phase) {
+        int from = Math.floorMod(phase, phases) * count;
+        int to = from + count;
+        for (int slot = from; slot < to; slot++) {
+            sink.emit(x + offsetX[slot], y + offsetY[slot],
+                    baseSpeedX + speedX[slot], baseSpeedY + speedY[slot], power);
+        }
+    }
+
+    /**
+     * 瞄准图案中最接近目标方向的相位。
+     * 先按坐标符号确定象限，再在象限内对相邻相位的中线做二分查找，只用乘法与比较
+     * @param dx 目标相对发射中心的 x 偏移
+     * @param dy 目标相对发射中心的 y 偏移
+     * @return 相位，目标与发射中心重合时为 0
+     */
+    public int phaseToward(int dx, int dy) {
+        if (!aimed) {
+            throw new IllegalStateException("不是瞄准图案");
+        }
+        // 图案坐标系中前方为 +y：a 为前方分量，b 为沿旋转方向的分量
+        double a = dy;
+        double b = -dx;
+        int quadrant = 0;
+        // 旋转 -90 度直到落入第一象限 (a > 0, b >= 0)
+        while (!(a > 0 && b >= 0) && quadrant < 4) {
+            double t = a;
+            a = b;
+            b = -t;
+            quadrant++;
+        }
+        if (quadrant == 4) {
+            return 0;
+        }
+        // 统计目标方向已越过的中线数，即最接近的相位在象限内的序号
+        int lo = 0;
+        int hi = midCos.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (midCos[mid] * b - midSin[mid] * a >= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return (quadrant * midCos.length + lo) % phases;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getPhases() {
+        return phases;
+    }
+
+    public boolean isAimed() {
+        return aimed;
+    }
+
+    /**
+     * 弹幕图案声明，可组合多组子弹，{@link #build()} 时编译为速度表
+     */
+    public static final class Builder {
+
+        /**
+         * 每颗子弹：{发射偏移 x, 发射偏移 y, 速度 x, 速度 y}，前方为 +y
+         */
+        private final List<double[]> bullets = new ArrayList<>();
+        private int phases = 1;
+        private double phaseStep = 0;
+        private boolean aimed = false;
+        private int direction = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * 环形：子弹均匀分布在 360 度圆周上，第一颗沿 +x 方向
+         * @param count 子弹数
+         * @param speed 子弹速度
+         */
+        public Builder ring(int count, double speed) {
+            for (int i = 0; i < count; i++) {
+                double angle = 2 * Math.PI * i / count;
+                bullets.add(new double[]{0, 0, speed * Math.cos(angle), speed * Math.sin(angle)});
+            }
+            return this;
+        }
+
+        /**
+         * 扇形：子弹前向速度相同，相邻子弹的偏角相差 angle 度，发射点横向间隔 spacing，左右对称
+         * @param count   子弹数
+         * @param speed   前向速度
+         * @param angle   相邻子弹的偏角（度）
+         * @param spacing 相邻子弹发射点的横向间隔
+         * @throws IllegalArgumentException 最外侧子弹的偏角达到 90 度，前向速度不变时横向速度无穷大
+         */
+        public Builder fan(int count, double speed, double angle, double spacing) {
+            if ((count - 1) / 2.0 * Math.abs(angle) >= 90) {
+                throw new IllegalArgumentException("扇形最外侧偏角须小于 90 度: " + count + " 颗, 间隔 " + angle + " 度");
+            }
+            for (int i = 0; i < count; i++) {
+                double k = i - (count - 1) / 2.0;
+                double tan = Math.tan(Math.toRadians(k * angle));
+                bullets.add(new double[]{k * spacing, 0, speed * tan, speed});
+            }
+            return this;
+        }
+
+        /**
+         * 每轮整组旋转 degrees 度，共 volleys 个相位后回到初始状态，如旋转环、螺旋
+         * @param degrees 每轮旋转角度（度）
+         * @param volleys 相位数
+         */
+        public Builder rotateEachVolley(double degrees, int volleys) {
+            if (aimed) {
+                throw new IllegalStateException("瞄准图案不能逐轮旋转");
+            }
+            this.phases = Math.max(1, volleys);
+            this.phaseStep = Math.toRadians(degrees);
+            return this;
+        }
+
+        /**
+         * 螺旋：arms 条旋臂，每轮旋转 degrees 度
+         */
+        public Builder spiral(int arms, double speed, double degrees, int volleys) {
+            return ring(arms, speed).rotateEachVolley(degrees, volleys);
+        }
+
+        /**
+         * 瞄准：整组旋转到图案前方（+y）朝向目标，方向量化为 directions 个相位。
+         * 单颗瞄准弹可声明为 fan(1, speed, 0, 0)
+         * @param directions 方向数，须为 4 的倍数
+         */
+        public Builder aimed(int directions) {
+            if (directions <= 0 || directions % 4 != 0) {
+                throw new IllegalArgumentException("方向数须为 4 的正整数倍: " + directions);
+            }
+            if (phases > 1) {
+                throw new IllegalStateException("逐轮旋转的图案不能瞄准");
+            }
+            this.aimed = true;
+            this.phases = directions;
+            this.phaseStep = 2 * Math.PI / directions;
+            return this;
+        }
+
+        /**
+         * 发射方向，1 为向下（默认），-1 为向上，只翻转 y 方向
+         */
+        public Builder direction(int direction) {
+            this.direction = direction;
+            return this;
+        }
+
+        public BulletPattern build() {
+            if (aimed && direction != 1) {
+                throw new IllegalStateException("瞄准图案的方向由目标决定，不能翻转");
+            }
+            return new BulletPattern(bullets, phases, phaseStep, aimed, direction);
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package edu.hitsz.shoot;
 
 import edu.hitsz.aircraft.AbstractAircraft;
-import edu.hitsz.bullet.BaseBullet;
-
-import java.util.LinkedList;
-import java.util.List;
+import edu.hitsz.bullet.BulletSink;
 
 /**
  * 不射击策略
@@ -15,9 +12,7 @@ import java.util.List;
 public class NoShootStrategy implements ShootStrategy {
 
     @Override
-    public List<BaseBullet> shoot(AbstractAircraft aircraft) {
-        // 返回空列表，不发射子弹
-        return new LinkedList<>();
+    public void shootInto(AbstractAircraft aircraft, BulletSink sink) {
+        // 不发射子弹
     }
 }
-
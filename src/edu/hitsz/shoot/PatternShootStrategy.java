@@ -0,0 +1,64 @@
+package edu.hitsz.shoot;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.basic.AbstractFlyingObject;
+import edu.hitsz.bullet.BulletSink;
+
+/**
+ * 弹幕图案射击策略
+ * 按预先编译的弹幕图案发射，用于Boss敌机等大规模弹幕：
+ * 逐轮旋转的图案每次射击前进一个相位；瞄准图案朝向目标的当前位置
+ *
+ * @author hitsz
+ */
+public class PatternShootStrategy implements ShootStrategy {
+
+    private final BulletPattern pattern;
+
+    /**
+     * 子弹伤害
+     */
+    private final int power;
+
+    /**
+     * 瞄准目标，非瞄准图案为 null
+     */
+    private final AbstractFlyingObject target;
+
+    /**
+     * 下一轮的相位
+     */
+    private int phase = 0;
+
+    public PatternShootStrategy(BulletPattern pattern, int power) {
+        this(pattern, power, null);
+    }
+
+    /**
+     * @param pattern 弹幕图案
+     * @param power   子弹伤害
+     * @param target  瞄准目标，图案为瞄准图案时必须提供
+     */
+    public PatternShootStrategy(BulletPattern pattern, int power, AbstractFlyingObject target) {
+        if (pattern.isAimed() && target == null) {
+            throw new IllegalArgumentException("瞄准图案需要目标");
+        }
+        this.pattern = pattern;
+        this.power = power;
+        this.target = target;
+    }
+
+    @Override
+    public void shootInto(AbstractAircraft aircraft, BulletSink sink) {
+        int x = aircraft.getFixedX();
+        int y = aircraft.getFixedY();
+        if (pattern.isAimed()) {
+            phase = pattern.phaseToward(target.getLocationX() - aircraft.getLocationX(),
+                    target.getLocationY() - aircraft.getLocationY());
+            pattern.emit(sink, x, y, 0, 0, power, phase);
+        } else {
+            pattern.emit(sink, x, y, 0, 0, power, phase);
+            phase = (phase + 1) % pattern.getPhases();
+        }
+    }
+}
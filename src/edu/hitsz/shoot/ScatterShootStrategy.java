@@ -1,26 +1,27 @@
 package edu.hitsz.shoot;
 
 import edu.hitsz.aircraft.AbstractAircraft;
-import edu.hitsz.bullet.BaseBullet;
-import edu.hitsz.bullet.EnemyBullet;
-import edu.hitsz.bullet.HeroBullet;
-
-import java.util.LinkedList;
-import java.util.List;
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletSink;
 
 /**
  * 散射策略
  * 用于超级精英敌机、英雄机拾取火力道具后
- * 子弹呈扇形散开发射
+ * 子弹呈扇形散开发射，相邻子弹偏角为散射角度，弹道在构造时编译为弹幕图案
  *
  * @author hitsz
  */
 public class ScatterShootStrategy implements ShootStrategy {
 
     /**
-     * 子弹一次发射数量
+     * 子弹前向速度
+     */
+    private static final int BULLET_SPEED = 5;
+
+    /**
+     * 相邻子弹发射点的横向间隔
      */
-    private final int shootNum;
+    private static final int BULLET_SPACING = 10;
 
     /**
      * 子弹伤害
@@ -33,53 +34,29 @@ public class ScatterShootStrategy implements ShootStrategy {
     private final int direction;
 
     /**
-     * 散射角度（度数）- 暂未使用，保留兼容性
+     * 扇形弹幕图案
      */
-    private final int scatterAngle;
+    private final BulletPattern pattern;
 
+    /**
+     * @param shootNum     子弹一次发射数量
+     * @param power        子弹伤害
+     * @param direction    子弹射击方向
+     * @param scatterAngle 相邻子弹的偏角（度），3颗子弹、30度时两侧子弹横向速度约为 ±2.9
+     */
     public ScatterShootStrategy(int shootNum, int power, int direction, int scatterAngle) {
-        this.shootNum = shootNum;
         this.power = power;
         this.direction = direction;
-        this.scatterAngle = scatterAngle;
+        this.pattern = BulletPattern.builder()
+                .fan(shootNum, BULLET_SPEED, scatterAngle, BULLET_SPACING)
+                .direction(direction)
+                .build();
     }
 
     @Override
-    public List<BaseBullet> shoot(AbstractAircraft aircraft) {
-        List<BaseBullet> res = new LinkedList<>();
-        int x = aircraft.getLocationX();
-        int y = aircraft.getLocationY() + direction * 2;
-        int speedY = aircraft.getSpeedY() + direction * 5;
-
-        BaseBullet bullet;
-
-        // 散射弹道：3颗子弹，呈扇形分布
-        // 中间子弹：垂直发射
-        if (direction == -1) {
-            // 英雄机向上射击
-            bullet = new HeroBullet(x, y, 0, speedY, power);
-        } else {
-            // 敌机向下射击
-            bullet = new EnemyBullet(x, y, 0, speedY, power);
-        }
-        res.add(bullet);
-
-        // 左侧子弹：向左侧散射
-        if (direction == -1) {
-            bullet = new HeroBullet(x - 10, y, -3, speedY, power);
-        } else {
-            bullet = new EnemyBullet(x - 10, y, -3, speedY, power);
-        }
-        res.add(bullet);
-
-        // 右侧子弹：向右侧散射
-        if (direction == -1) {
-            bullet = new HeroBullet(x + 10, y, 3, speedY, power);
-        } else {
-            bullet = new EnemyBullet(x + 10, y, 3, speedY, power);
-        }
-        res.add(bullet);
-
-        return res;
+    public void shootInto(AbstractAircraft aircraft, BulletSink sink) {
+        // 发射位置相对飞机位置向前偏移，子弹叠加飞机自身的纵向速度
+        pattern.emit(sink, aircraft.getFixedX(), aircraft.getFixedY() + Fixed.of(direction * 2),
+                0, aircraft.getFixedSpeedY(), power, 0);
     }
 }
@@ -1,8 +1,13 @@
 package edu.hitsz.shoot;
 
 import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.HeroAircraft;
 import edu.hitsz.bullet.BaseBullet;
+import edu.hitsz.bullet.BulletSink;
+import edu.hitsz.bullet.EnemyBullet;
+import edu.hitsz.bullet.HeroBullet;
 
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -12,11 +17,27 @@ import java.util.List;
  * @author hitsz
  */
 public interface ShootStrategy {
+    /**
+     * 射击方法，将产生的子弹写入调用方提供的接收方，不产生新对象
+     * @param aircraft 执行射击的飞机对象
+     * @param sink     子弹接收方，如游戏中的子弹仓库
+     */
+    void shootInto(AbstractAircraft aircraft, BulletSink sink);
+
     /**
      * 射击方法
      * @param aircraft 执行射击的飞机对象
-     * @return 射击产生的子弹列表
+     * @return 射击产生的子弹列表，英雄机发射英雄子弹，敌机发射敌机子弹
      */
-    List<BaseBullet> shoot(AbstractAircraft aircraft);
+    default List<BaseBullet> shoot(AbstractAircraft aircraft) {
+        List<BaseBullet> res = new LinkedList<>();
+        boolean isHero = aircraft instanceof HeroAircraft;
+        shootInto(aircraft, (fixedX, fixedY, fixedSpeedX, fixedSpeedY, power) -> {
+            BaseBullet bullet = isHero ? new HeroBullet(0, 0, 0, 0, power) : new EnemyBullet(0, 0, 0, 0, power);
+            bullet.setFixedLocation(fixedX, fixedY);
+            bullet.setFixedSpeed(fixedSpeedX, fixedSpeedY);
+            res.add(bullet);
+        });
+        return res;
+    }
 }
-
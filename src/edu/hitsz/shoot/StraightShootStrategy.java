@@ -1,12 +1,8 @@
 package edu.hitsz.shoot;
 
 import edu.hitsz.aircraft.AbstractAircraft;
-import edu.hitsz.bullet.BaseBullet;
-import edu.hitsz.bullet.EnemyBullet;
-import edu.hitsz.bullet.HeroBullet;
-
-import java.util.LinkedList;
-import java.util.List;
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletSink;
 
 /**
  * 直线射击策略
@@ -38,27 +34,16 @@ public class StraightShootStrategy implements ShootStrategy {
     }
 
     @Override
-    public List<BaseBullet> shoot(AbstractAircraft aircraft) {
-        List<BaseBullet> res = new LinkedList<>();
-        int x = aircraft.getLocationX();
-        int y = aircraft.getLocationY() + direction * 2;
+    public void shootInto(AbstractAircraft aircraft, BulletSink sink) {
+        int x = aircraft.getFixedX();
+        int y = aircraft.getFixedY() + Fixed.of(direction * 2);
         int speedX = 0;
-        int speedY = aircraft.getSpeedY() + direction * 5;
+        int speedY = aircraft.getFixedSpeedY() + Fixed.of(direction * 5);
 
-        BaseBullet bullet;
         for (int i = 0; i < shootNum; i++) {
             // 子弹发射位置相对飞机位置向前偏移
             // 多个子弹横向分散
-            if (direction == -1) {
-                // 英雄机向上射击
-                bullet = new HeroBullet(x + (i * 2 - shootNum + 1) * 10, y, speedX, speedY, power);
-            } else {
-                // 敌机向下射击
-                bullet = new EnemyBullet(x + (i * 2 - shootNum + 1) * 10, y, speedX, speedY, power);
-            }
-            res.add(bullet);
+            sink.emit(x + Fixed.of((i * 2 - shootNum + 1) * 10), y, speedX, speedY, power);
         }
-        return res;
     }
 }
-
@@ -0,0 +1,102 @@
+package edu.hitsz.aircraft;
+
+import edu.hitsz.basic.TimingWheel;
+import edu.hitsz.prop.FireProp;
+import edu.hitsz.prop.SuperFireProp;
+import edu.hitsz.shoot.CircleShootStrategy;
+import edu.hitsz.shoot.ScatterShootStrategy;
+import edu.hitsz.shoot.ShootStrategy;
+import edu.hitsz.shoot.StraightShootStrategy;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BuffStack Unit Test Class
+ * Verifying priority and expiry handling of stacked buffs and the fire props built on them
+ */
+class BuffStackTest {
+
+    /**
+     * Test Case ID: BS001
+     * Method Under Test: BuffStack.add(), BuffStack.expire()
+     * Description: Over random additions and expiries, the effective strategy always
+     * equals the highest-priority live buff (latest wins ties) found by a linear scan
+     */
+    @Test
+    @DisplayName("Test expire() - Effective strategy matches a linear scan")
+    void testMatchesLinearScan() {
+        ShootStrategy base = new StraightShootStrategy(1, 30, -1);
+        BuffStack stack = new BuffStack(base);
+        List<Buff> buffs = new ArrayList<>();
+        List<Long> expiries = new ArrayList<>();
+        Random random = new Random(5);
+        for (long now = 0; now < 200_000; now += 40) {
+            stack.expire(now);
+            if (random.nextInt(8) == 0) {
+                Buff buff = new Buff(new StraightShootStrategy(1, 30, -1), random.nextInt(4), 40 * (1 + random.nextInt(200)));
+                stack.add(buff, now);
+                buffs.add(buff);
+                expiries.add(now + buff.getDurationMillis());
+            }
+            ShootStrategy expected = base;
+            int best = Integer.MIN_VALUE;
+            int live = 0;
+            for (int i = 0; i < buffs.size(); i++) {
+                if (expiries.get(i) > now) {
+                    live++;
+                    if (buffs.get(i).getPriority() >= best) {
+                        best = buffs.get(i).getPriority();
+                        expected = buffs.get(i).getShootStrategy();
+                    }
+                }
+            }
+            assertSame(expected, stack.getEffectiveStrategy(), "At " + now + "ms");
+            assertEquals(live, stack.size());
+        }
+    }
+
+    /**
+     * Test Case ID: BS002
+     * Method Under Test: FireProp.activate(), SuperFireProp.activate()
+     * Description: The super fire buff outranks the fire buff while both are active,
+     * the remaining buff takes over when its expiry task on the timing wheel runs,
+     * and the hero returns to straight shooting when none is left
+     */
+    @Test
+    @DisplayName("Test activate() - Fire buffs stack by priority")
+    void testFireBuffsStack() {
+        HeroAircraft.resetInstance();
+        HeroAircraft heroAircraft = HeroAircraft.getInstance(256, 700, 0, 0, 1000);
+        TimingWheel wheel = new TimingWheel(40, 128);
+        try {
+            new SuperFireProp(0, 0, 0, 0).activate(heroAircraft, wheel);
+            assertEquals(1, wheel.size(), "The buff expiry is scheduled on the wheel");
+            wheel.advance(1000);
+            new FireProp(0, 0, 0, 0).activate(heroAircraft, wheel);
+            assertTrue(heroAircraft.getShootStrategy() instanceof CircleShootStrategy,
+                "The lower-priority fire buff must not replace super fire");
+            wheel.advance(2000);
+            assertTrue(heroAircraft.getShootStrategy() instanceof ScatterShootStrategy,
+                "Fire takes over once super fire expires");
+            wheel.advance(1000);
+            assertTrue(heroAircraft.getShootStrategy() instanceof StraightShootStrategy);
+            assertEquals(0, heroAircraft.getBuffs().size());
+            assertEquals(0, wheel.size());
+
+            // A base strategy set during a buff applies once the buff ends
+            new FireProp(0, 0, 0, 0).activate(heroAircraft, wheel);
+            ShootStrategy base = new StraightShootStrategy(2, 30, -1);
+            heroAircraft.setShootStrategy(base);
+            assertTrue(heroAircraft.getShootStrategy() instanceof ScatterShootStrategy);
+            wheel.advance(3000);
+            assertSame(base, heroAircraft.getShootStrategy());
+        } finally {
+            HeroAircraft.resetInstance();
+        }
+    }
+}
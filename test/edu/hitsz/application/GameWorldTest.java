@@ -0,0 +1,164 @@
+package edu.hitsz.application;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.event.GameEventHandler;
+import edu.hitsz.render.SpriteType;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameWorld Unit Test Class
+ * Verifying that the headless world can be stepped without a display and that a
+ * run is fully determined by its seed
+ */
+class GameWorldTest {
+
+    /**
+     * Test Case ID: GW001
+     * Method Under Test: GameWorld.step(), HeadlessMain.run()
+     * Description: Two bot-driven runs with the same seed end in exactly the same
+     * state for every difficulty, and the run actually advances simulated time
+     */
+    @Test
+    @DisplayName("Test step() - Same seed gives the same game")
+    void testSameSeedSameGame() {
+        for (String difficulty : new String[]{"EASY", "NORMAL", "HARD"}) {
+            String first = play(difficulty, 42);
+            String second = play(difficulty, 42);
+            assertEquals(first, second, "Runs differ for " + difficulty);
+        }
+    }
+
+    /**
+     * Test Case ID: GW002
+     * Method Under Test: HeadlessMain.run()
+     * Description: The bot keeps clear of enemy aircraft, so seeded runs survive a
+     * minimum number of ticks on every difficulty instead of ending in an early crash
+     */
+    @Test
+    @DisplayName("Test run() - Bot survives a minimum number of ticks")
+    void testBotSurvives() {
+        String[] difficulties = {"EASY", "NORMAL", "HARD"};
+        int[] minimumTicks = {10000, 1000, 500};
+        for (int i = 0; i < difficulties.length; i++) {
+            for (long seed = 0; seed < 4; seed++) {
+                GameWorld world = GameWorld.create(difficulties[i], seed, false);
+                int ticks = HeadlessMain.run(world, minimumTicks[i]);
+                assertEquals(minimumTicks[i], ticks, difficulties[i] + " seed " + seed + " ended early");
+            }
+        }
+    }
+
+    /**
+     * Test Case ID: GW003
+     * Method Under Test: GameWorld.GameWorld()
+     * Description: Worlds built at the same time on different threads each own a
+     * separate hero, and stepping one world leaves the others identical to a world
+     * that was never shared
+     */
+    @Test
+    @DisplayName("Test GameWorld() - Each world owns its hero")
+    void testWorldsOwnTheirHeroes() throws Exception {
+        String expected = play("NORMAL", 7);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameWorld>> worlds = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                worlds.add(executor.submit(() -> GameWorld.create("NORMAL", 7, false)));
+            }
+            Set<HeroAircraft> heroes = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Future<String>> results = new ArrayList<>();
+            for (Future<GameWorld> world : worlds) {
+                heroes.add(world.get().getHeroAircraft());
+                results.add(executor.submit(() -> {
+                    HeadlessMain.run(world.get(), 1500);
+                    return describe(world.get());
+                }));
+            }
+            assertEquals(threads, heroes.size(), "Every world should have its own hero");
+            assertFalse(heroes.contains(HeroAircraft.getInstance()), "Worlds should not use the singleton");
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+            HeroAircraft.resetInstance();
+        }
+    }
+
+    /**
+     * Test Case ID: GW004
+     * Method Under Test: GameWorld.create(), GameWorld.step()
+     * Description: A world created quietly prints nothing for a whole game in which
+     * every prop type is collected and the hero is finally shot down, not even the
+     * start banner, while a verbose world still prints the banner
+     */
+    @Test
+    @DisplayName("Test create() - Quiet worlds print nothing")
+    void testQuietWorldPrintsNothing() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            GameWorld world = GameWorld.create("NORMAL", 0, false);
+            Set<SpriteType> collected = EnumSet.noneOf(SpriteType.class);
+            HeadlessMain.run(world, 5000, new GameEventHandler() {
+                @Override
+                public void onSupplyCollected(SpriteType type, int x, int y) {
+                    collected.add(type);
+                }
+            });
+            assertEquals(EnumSet.of(SpriteType.BLOOD_PROP, SpriteType.BOMB_PROP, SpriteType.FIRE_PROP,
+                    SpriteType.SUPER_FIRE_PROP), collected, "The run should collect every prop type");
+            assertTrue(world.isGameOver(), "The run should reach the end of the game");
+            assertEquals("", output.toString(), "A quiet world should print nothing");
+            GameWorld.create("HARD", 3);
+            assertTrue(output.size() > 0, "A verbose world should print the start banner");
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    private static String play(String difficulty, long seed) {
+        GameWorld world = GameWorld.create(difficulty, seed, false);
+        int ticks = HeadlessMain.run(world, 1500);
+        assertTrue(ticks > 0);
+        assertEquals(ticks * world.getTimeInterval(), world.getTime());
+        return describe(world);
+    }
+
+    private static String describe(GameWorld world) {
+        StringBuilder state = new StringBuilder();
+        state.append("time=").append(world.getTime())
+            .append(" score=").append(world.getScore())
+            .append(" hp=").append(world.getHeroAircraft().getHp())
+            .append(" over=").append(world.isGameOver());
+        for (AbstractAircraft enemy : world.getEnemyAircrafts()) {
+            state.append(" ").append(enemy.getClass().getSimpleName())
+                .append('(').append(enemy.getLocationX()).append(',').append(enemy.getLocationY())
+                .append(',').append(enemy.getHp()).append(')');
+        }
+        describe(state, world.getHeroBullets());
+        describe(state, world.getEnemyBullets());
+        state.append(" props=").append(world.getProps().size());
+        return state.toString();
+    }
+
+    private static void describe(StringBuilder state, BulletStore bullets) {
+        state.append(" bullets");
+        for (int i = 0; i < bullets.size(); i++) {
+            state.append(' ').append(bullets.getLocationX(i)).append(',').append(bullets.getLocationY(i));
+        }
+    }
+}
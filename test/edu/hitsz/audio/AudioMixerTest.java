@@ -0,0 +1,298 @@
+package edu.hitsz.audio;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ShortBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AudioMixer Unit Test Class
+ * Verifying format conversion at load time, voice mixing and allocation-free triggering
+ */
+class AudioMixerTest {
+
+    /**
+     * Test Case ID: AM001
+     * Method Under Test: PcmClip.decode()
+     * Description: 8-bit unsigned mono at 22.05kHz and 16-bit big-endian stereo at
+     * 44.1kHz both decode to 16-bit stereo at the mixer rate with the same levels,
+     * and every sound shipped in src/videos decodes
+     */
+    @Test
+    @DisplayName("Test decode() - Conversion to the mixer format")
+    void testDecode() throws IOException {
+        // 8-bit unsigned mono: 0x80 is silence, 0xC0 is half scale
+        byte[] mono = {(byte) 0x80, (byte) 0xC0, (byte) 0xC0, (byte) 0x80};
+        PcmClip clip = PcmClip.decode(stream(mono, new AudioFormat(AudioFormat.Encoding.PCM_UNSIGNED,
+            22050f, 8, 1, 1, 22050f, false), 4));
+        assertEquals(8, clip.frames(), "22.05kHz doubles to 44.1kHz");
+        ShortBuffer samples = clip.samples();
+        assertEquals(0, samples.get(0));
+        assertEquals(0x4000, samples.get(2 * 2), "Both channels carry the mono sample");
+        assertEquals(0x4000, samples.get(2 * 2 + 1));
+        assertEquals(0x2000, samples.get(1 * 2), "Interpolated halfway between silence and half scale");
+
+        byte[] stereo = {0x40, 0x00, (byte) 0xC0, 0x00};
+        PcmClip big = PcmClip.decode(stream(stereo, new AudioFormat(44100f, 16, 2, true, true), 1));
+        assertEquals(1, big.frames());
+        assertEquals(0x4000, big.samples().get(0));
+        assertEquals(-0x4000, big.samples().get(1));
+
+        for (Sound sound : Sound.values()) {
+            PcmClip shipped = PcmClip.load(sound.getPath());
+            assertNotNull(shipped, sound.name());
+            assertTrue(shipped.frames() > 0, sound.name());
+        }
+    }
+
+    /**
+     * Test Case ID: AM002
+     * Method Under Test: AudioMixer.play(), AudioMixer.mix()
+     * Description: Triggered sounds start on the next buffer and are summed with
+     * clipping, finished voices are released, the voice pool never grows, and
+     * triggering allocates nothing on the calling thread
+     */
+    @Test
+    @DisplayName("Test mix() - Voices are summed, clipped and released")
+    void testMix() {
+        PcmClip[] clips = new PcmClip[Sound.values().length];
+        clips[Sound.BULLET_HIT.ordinal()] = constant(600, 20_000);
+        clips[Sound.BOMB_EXPLOSION.ordinal()] = constant(300, 1000);
+        AudioMixer mixer = new AudioMixer(clips, new PcmClip[Music.values().length], 4);
+        byte[] out = new byte[AudioMixer.BUFFER_FRAMES * 4];
+
+        mixer.play(Sound.BULLET_HIT);
+        mixer.play(Sound.BOMB_EXPLOSION);
+        mixer.play(Sound.GAME_OVER);
+        mixer.mix(out, 256);
+        assertEquals(2, mixer.activeVoices(), "A sound without a clip is ignored");
+        assertEquals(21_000, sample(out, 0));
+        assertEquals(21_000, sample(out, 255 * 2 + 1));
+        mixer.mix(out, 256);
+        assertEquals(21_000, sample(out, 43 * 2), "Bomb clip ends after 300 frames");
+        assertEquals(20_000, sample(out, 44 * 2));
+        assertEquals(1, mixer.activeVoices());
+
+        mixer.play(Sound.BULLET_HIT);
+        mixer.play(Sound.BULLET_HIT);
+        mixer.mix(out, 16);
+        assertEquals(Short.MAX_VALUE, sample(out, 0), "Sums beyond 16 bits are clipped");
+        for (int i = 0; i < 10; i++) {
+            mixer.play(Sound.BULLET_HIT);
+        }
+        mixer.mix(out, 16);
+        assertEquals(4, mixer.activeVoices(), "The pool never grows");
+        mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        assertEquals(0, mixer.activeVoices());
+        assertEquals(0, sample(out, AudioMixer.BUFFER_FRAMES * 2 - 1), "Silence once every voice has ended");
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 50_000; i++) {
+            mixer.play(Sound.BULLET_HIT);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rounds = 100_000;
+        for (int i = 0; i < rounds; i++) {
+            mixer.play(Sound.BULLET_HIT);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < rounds,
+            "Triggering should not allocate, but " + allocated + " bytes were allocated");
+    }
+
+    /**
+     * Test Case ID: AM003
+     * Method Under Test: AudioMixer.mix()
+     * Description: Each sound stays within its own voice cap by restarting its
+     * oldest voice, a full pool gives way to higher-priority sounds by stealing
+     * the oldest lowest-priority voice, and lower-priority sounds never steal
+     */
+    @Test
+    @DisplayName("Test mix() - Voice caps and priority stealing")
+    void testVoiceStealing() {
+        PcmClip[] clips = new PcmClip[Sound.values().length];
+        for (Sound sound : Sound.values()) {
+            clips[sound.ordinal()] = constant(100_000, 1);
+        }
+        AudioMixer mixer = new AudioMixer(clips, new PcmClip[Music.values().length], 8);
+        byte[] out = new byte[AudioMixer.BUFFER_FRAMES * 4];
+
+        // A burst of hits within one buffer is capped
+        for (int i = 0; i < 50; i++) {
+            mixer.play(Sound.BULLET_HIT);
+        }
+        mixer.mix(out, 64);
+        assertEquals(Sound.BULLET_HIT.getMaxVoices(), mixer.playing(Sound.BULLET_HIT));
+        assertEquals(50 - Sound.BULLET_HIT.getMaxVoices(), mixer.getDropped());
+
+        // Retriggering a capped sound restarts its own voices
+        mixer.play(Sound.BULLET_HIT);
+        mixer.mix(out, 64);
+        assertEquals(Sound.BULLET_HIT.getMaxVoices(), mixer.playing(Sound.BULLET_HIT));
+        assertEquals(1, mixer.getStolen());
+
+        // Fill the pool, then explosions steal hits rather than the other way round
+        mixer.play(Sound.GET_SUPPLY);
+        mixer.play(Sound.GET_SUPPLY);
+        mixer.mix(out, 64);
+        assertEquals(8, mixer.activeVoices());
+        for (int i = 0; i < 3; i++) {
+            mixer.play(Sound.BOMB_EXPLOSION);
+            mixer.mix(out, 64);
+        }
+        assertEquals(3, mixer.playing(Sound.BOMB_EXPLOSION));
+        assertEquals(3, mixer.playing(Sound.BULLET_HIT), "Oldest low-priority voices are stolen first");
+        assertEquals(2, mixer.playing(Sound.GET_SUPPLY));
+
+        mixer.play(Sound.GAME_OVER);
+        mixer.play(Sound.GET_SUPPLY);
+        mixer.mix(out, 64);
+        assertEquals(1, mixer.playing(Sound.GAME_OVER));
+        assertEquals(3, mixer.playing(Sound.GET_SUPPLY));
+        assertEquals(1, mixer.playing(Sound.BULLET_HIT));
+        assertEquals(3, mixer.playing(Sound.BOMB_EXPLOSION));
+        assertEquals(8, mixer.activeVoices());
+
+        // Once only higher-priority voices remain, a hit is dropped instead
+        AudioMixer small = new AudioMixer(clips, new PcmClip[Music.values().length], 2);
+        small.play(Sound.GAME_OVER);
+        small.play(Sound.BOMB_EXPLOSION);
+        small.mix(out, 64);
+        small.play(Sound.BULLET_HIT);
+        small.mix(out, 64);
+        assertEquals(0, small.playing(Sound.BULLET_HIT));
+        assertEquals(1, small.getDropped());
+        assertEquals(2, small.activeVoices());
+    }
+
+    /**
+     * Test Case ID: AM004
+     * Method Under Test: AudioMixer.playMusic(), AudioMixer.stopMusic()
+     * Description: A music track loops without a gap, switching tracks crossfades
+     * with the two gains always summing to unity, a missing track falls back to
+     * the normal music, and stopping fades the music out to silence
+     */
+    @Test
+    @DisplayName("Test playMusic() - Gapless loop and crossfade")
+    void testMusic() {
+        // The normal track counts frames so a gap or repeat at the loop point shows up
+        short[] counting = new short[1000 * 2];
+        for (int i = 0; i < 1000; i++) {
+            counting[i * 2] = (short) i;
+            counting[i * 2 + 1] = (short) i;
+        }
+        PcmClip[] tracks = new PcmClip[Music.values().length];
+        tracks[Music.NORMAL.ordinal()] = new PcmClip(counting);
+        AudioMixer mixer = new AudioMixer(new PcmClip[Sound.values().length], tracks, 4);
+        byte[] out = new byte[AudioMixer.BUFFER_FRAMES * 4];
+
+        mixer.playMusic(Music.NORMAL);
+        int frames = 0;
+        while (mixer.musicGain(Music.NORMAL) < 1 << 16) {
+            mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+            frames += AudioMixer.BUFFER_FRAMES;
+        }
+        assertTrue(frames <= AudioMixer.CROSSFADE_FRAMES + AudioMixer.BUFFER_FRAMES);
+        mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        frames += AudioMixer.BUFFER_FRAMES;
+        for (int i = 0; i < AudioMixer.BUFFER_FRAMES; i++) {
+            int expected = (frames - AudioMixer.BUFFER_FRAMES + i) % 1000;
+            assertEquals(expected, sample(out, i * 2), "Frame " + i);
+        }
+
+        // The boss track is missing, so the normal music keeps playing
+        mixer.playMusic(Music.BOSS);
+        mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        assertEquals(1 << 16, mixer.musicGain(Music.NORMAL));
+
+        tracks[Music.BOSS.ordinal()] = constant(500, 2000);
+        mixer.playMusic(Music.BOSS);
+        int boss = 0;
+        while (mixer.musicGain(Music.NORMAL) > 0) {
+            mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+            boss += AudioMixer.BUFFER_FRAMES;
+            assertEquals(1 << 16, mixer.musicGain(Music.NORMAL) + mixer.musicGain(Music.BOSS),
+                "Crossfade keeps the total gain constant");
+        }
+        assertTrue(boss <= AudioMixer.CROSSFADE_FRAMES + AudioMixer.BUFFER_FRAMES);
+        mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        assertEquals(2000, sample(out, 0));
+
+        mixer.stopMusic();
+        for (int i = 0; i <= AudioMixer.CROSSFADE_FRAMES / AudioMixer.BUFFER_FRAMES + 1; i++) {
+            mixer.mix(out, AudioMixer.BUFFER_FRAMES);
+        }
+        assertEquals(0, mixer.musicGain(Music.BOSS));
+        assertEquals(0, sample(out, 0));
+    }
+
+    /**
+     * Test Case ID: AM005
+     * Method Under Test: PcmClip.map()
+     * Description: A long track is converted once into a memory-mapped cache with
+     * the same samples as a resident load, and mapping it again for another
+     * session reuses the cache without copying the samples onto the heap
+     */
+    @Test
+    @DisplayName("Test map() - Memory-mapped music shares one cache")
+    void testMap(@TempDir Path dir) throws IOException {
+        int frames = 22050 * 4;
+        byte[] data = new byte[frames * 2];
+        for (int i = 0; i < frames; i++) {
+            short value = (short) (Math.sin(i / 20.0) * 12_000);
+            data[i * 2] = (byte) value;
+            data[i * 2 + 1] = (byte) (value >> 8);
+        }
+        File wav = dir.resolve("long_track.wav").toFile();
+        AudioSystem.write(stream(data, new AudioFormat(22050f, 16, 1, true, false), frames),
+            AudioFileFormat.Type.WAVE, wav);
+
+        PcmClip resident = PcmClip.load(wav.getPath());
+        PcmClip mapped = PcmClip.map(wav.getPath(), dir.resolve("cache"));
+        assertFalse(resident.isMapped());
+        assertTrue(mapped.isMapped());
+        assertEquals(resident.frames(), mapped.frames());
+        assertEquals(resident.samples(), mapped.samples());
+        assertEquals(1, dir.resolve("cache").toFile().list().length);
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        PcmClip again = PcmClip.map(wav.getPath(), dir.resolve("cache"));
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(again.isMapped());
+        assertEquals(resident.samples(), again.samples());
+        long pcmBytes = resident.frames() * 4L;
+        assertTrue(allocated < pcmBytes / 10,
+            "Mapping a cached track should not copy it, but " + allocated + " of " + pcmBytes + " bytes were allocated");
+    }
+
+    private static AudioInputStream stream(byte[] data, AudioFormat format, int frames) {
+        return new AudioInputStream(new ByteArrayInputStream(data), format, frames);
+    }
+
+    private static PcmClip constant(int frames, int value) {
+        short[] samples = new short[frames * 2];
+        java.util.Arrays.fill(samples, (short) value);
+        return new PcmClip(samples);
+    }
+
+    private static int sample(byte[] out, int index) {
+        return (short) ((out[index * 2] & 0xFF) | (out[index * 2 + 1] << 8));
+    }
+}
@@ -0,0 +1,84 @@
+package edu.hitsz.basic;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.BossEnemy;
+import edu.hitsz.aircraft.MobEnemy;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EntityList Unit Test Class
+ * Verifying order-preserving single-pass compaction and removal callbacks
+ */
+class EntityListTest {
+
+    /**
+     * Test Case ID: EL001
+     * Method Under Test: EntityList.compact()
+     * Description: Compaction drops exactly the invalid objects (first, last and
+     * consecutive ones), keeps the survivors in their original order and reports
+     * every removed object to the listener once
+     */
+    @Test
+    @DisplayName("Test compact() - Keeps order and reports removed objects")
+    void testCompact() {
+        EntityList<AbstractAircraft> list = new EntityList<>(4);
+        List<AbstractAircraft> all = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            AbstractAircraft enemy = new MobEnemy(i * 10, 0, 0, 5, 30);
+            all.add(enemy);
+            list.add(enemy);
+        }
+        List<AbstractAircraft> removed = new ArrayList<>();
+        list.setRemovalListener(removed::add);
+        for (int i : new int[]{0, 4, 5, 9}) {
+            all.get(i).vanish();
+        }
+
+        assertEquals(4, list.compact());
+        assertEquals(6, list.size());
+        int[] expected = {1, 2, 3, 6, 7, 8};
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(all.get(expected[i]), list.get(i), "Survivor order changed at index " + i);
+        }
+        assertEquals(List.of(all.get(0), all.get(4), all.get(5), all.get(9)), removed);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+
+        assertEquals(0, list.compact(), "A second compaction should remove nothing");
+    }
+
+    /**
+     * Test Case ID: EL002
+     * Method Under Test: EntityList.setRemovalListener()
+     * Description: A listener tracking boss liveness is only told about the boss
+     * once it has actually been removed, not while it is merely invalid
+     */
+    @Test
+    @DisplayName("Test setRemovalListener() - Boss liveness via removal callback")
+    void testBossRemovalCallback() {
+        EntityList<AbstractAircraft> list = new EntityList<>();
+        boolean[] bossExists = {true};
+        list.setRemovalListener(aircraft -> {
+            if (aircraft instanceof BossEnemy) {
+                bossExists[0] = false;
+            }
+        });
+        BossEnemy boss = new BossEnemy(256, 100, 5, 0, 500);
+        list.add(new MobEnemy(100, 0, 0, 5, 30));
+        list.add(boss);
+
+        list.get(0).vanish();
+        list.compact();
+        assertTrue(bossExists[0], "Removing a mob must not clear the boss flag");
+
+        boss.vanish();
+        assertTrue(bossExists[0], "The flag changes only when the boss is compacted away");
+        list.compact();
+        assertFalse(bossExists[0]);
+        assertTrue(list.isEmpty());
+    }
+}
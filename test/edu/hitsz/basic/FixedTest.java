@@ -0,0 +1,77 @@
+package edu.hitsz.basic;
+
+import edu.hitsz.aircraft.MobEnemy;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.bullet.EnemyBullet;
+import edu.hitsz.shoot.BulletPattern;
+import org.junit.jupiter.api.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fixed Unit Test Class
+ * Verifying 16.16 fixed-point conversions and sub-pixel motion of flying objects
+ */
+class FixedTest {
+
+    /**
+     * Test Case ID: FX001
+     * Method Under Test: Fixed.toInt(), Fixed.mulDiv()
+     * Description: Conversion to pixels rounds half up for both signs, and
+     * scaling by the elapsed time does not overflow near the coordinate limit
+     */
+    @Test
+    @DisplayName("Test toInt() and mulDiv() - Rounding and overflow")
+    void testConversions() {
+        assertEquals(3, Fixed.toInt(Fixed.of(2.5)));
+        assertEquals(2, Fixed.toInt(Fixed.of(2.49)));
+        assertEquals(-2, Fixed.toInt(Fixed.of(-2.5)));
+        assertEquals(-3, Fixed.toInt(Fixed.of(-2.51)));
+        assertEquals(7, Fixed.toInt(Fixed.of(7)));
+        assertEquals(Fixed.of(30000), Fixed.mulDiv(Fixed.of(30000), 40, 40));
+        assertEquals(Fixed.of(15000), Fixed.mulDiv(Fixed.of(30000), 20, 40));
+    }
+
+    /**
+     * Test Case ID: FX002
+     * Method Under Test: AbstractFlyingObject.forward()
+     * Description: An object slower than one pixel per tick accumulates its
+     * sub-pixel steps instead of standing still
+     */
+    @Test
+    @DisplayName("Test forward() - Sub-pixel speeds accumulate")
+    void testSubPixelMotion() {
+        MobEnemy enemy = new MobEnemy(100, 100, 0, 0, 30);
+        enemy.setFixedSpeed(0, Fixed.ONE / 4);
+        for (int i = 0; i < 8; i++) {
+            enemy.forward();
+        }
+        assertEquals(102, enemy.getLocationY());
+        assertEquals(Fixed.of(102), enemy.getFixedY());
+    }
+
+    /**
+     * Test Case ID: FX003
+     * Method Under Test: BulletPattern.emit()
+     * Description: A 64-bullet ring at speed 6 keeps 64 distinct directions in fixed
+     * point, whereas rounding the speeds to whole pixels collapses them
+     */
+    @Test
+    @DisplayName("Test emit() - Dense rings keep every direction")
+    void testRingDirections() {
+        BulletPattern pattern = BulletPattern.builder().ring(64, 6).build();
+        BulletStore store = new BulletStore(EnemyBullet.class, 64);
+        pattern.emit(store, Fixed.of(200), Fixed.of(200), 0, 0, 10, 0);
+        Set<Long> fixedDirections = new HashSet<>();
+        Set<Long> pixelDirections = new HashSet<>();
+        for (int i = 0; i < store.size(); i++) {
+            fixedDirections.add(((long) store.getFixedSpeedX(i) << 32) | (store.getFixedSpeedY(i) & 0xFFFFFFFFL));
+            pixelDirections.add(((long) store.getSpeedX(i) << 32) | (store.getSpeedY(i) & 0xFFFFFFFFL));
+        }
+        assertEquals(64, fixedDirections.size());
+        assertTrue(pixelDirections.size() < 64, "Whole-pixel speeds should lose directions");
+    }
+}
@@ -0,0 +1,73 @@
+package edu.hitsz.basic;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimingWheel Unit Test Class
+ * Verifying game-clock scheduling and cancellation
+ */
+class TimingWheelTest {
+
+    /**
+     * Test Case ID: TW001
+     * Method Under Test: TimingWheel.schedule(), TimingWheel.advance()
+     * Description: Tasks fire exactly at the first tick at or after their delay (but
+     * never in the current tick), including delays spanning several revolutions
+     * and advances shorter than a tick
+     */
+    @Test
+    @DisplayName("Test advance() - Tasks fire on time across revolutions")
+    void testScheduleAndAdvance() {
+        TimingWheel wheel = new TimingWheel(40, 8);
+        List<String> fired = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        int[] now = {0};
+        for (int delay : new int[]{0, 40, 41, 120, 320, 1000, 3000}) {
+            wheel.schedule(() -> fired.add(delay + "@" + now[0]), delay);
+            expected.add(delay + "@" + Math.max(40, (delay + 39) / 40 * 40));
+        }
+        assertEquals(7, wheel.size());
+        for (int i = 0; i < 200; i++) {
+            // Two half ticks per tick
+            now[0] += 20;
+            wheel.advance(20);
+        }
+        assertEquals(0, wheel.size());
+        assertEquals(expected, fired);
+    }
+
+    /**
+     * Test Case ID: TW002
+     * Method Under Test: TimingWheel.Timeout.cancel()
+     * Description: Cancelled tasks never run, including one cancelled by an earlier
+     * task of the same tick, and tasks can schedule new tasks
+     */
+    @Test
+    @DisplayName("Test cancel() - Cancelled tasks never run")
+    void testCancel() {
+        TimingWheel wheel = new TimingWheel(40, 4);
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timeout a = wheel.schedule(() -> fired.add("a"), 80);
+        TimingWheel.Timeout[] b = new TimingWheel.Timeout[1];
+        TimingWheel.Timeout c = wheel.schedule(() -> {
+            fired.add("c");
+            b[0].cancel();
+            wheel.schedule(() -> fired.add("d"), 40);
+        }, 120);
+        b[0] = wheel.schedule(() -> fired.add("b"), 120);
+        assertTrue(a.cancel());
+        assertFalse(a.cancel());
+        assertTrue(a.isCancelled());
+        wheel.advance(400);
+        assertTrue(c.isExpired());
+        // b shares c's tick and was scheduled after it, so c cancels it before it runs
+        assertTrue(b[0].isCancelled());
+        assertEquals(List.of("c", "d"), fired);
+        assertEquals(0, wheel.size());
+    }
+}
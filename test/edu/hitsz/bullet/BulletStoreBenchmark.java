@@ -0,0 +1,93 @@
+package edu.hitsz.bullet;
+
+import edu.hitsz.application.Main;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bullet storage benchmark
+ * Keeps a bullet-heavy scene at a steady population (bullets leaving the window are
+ * replaced every tick) and times move + cull + cleanup for the old list of BaseBullet
+ * objects against BulletStore, together with the bytes allocated per tick.
+ * <br>
+ * Run from the project root: java edu.hitsz.bullet.BulletStoreBenchmark
+ */
+public class BulletStoreBenchmark {
+
+    private static final int TICK = 40;
+    private static final int TICKS = 2000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        for (int live : new int[]{1_000, 10_000, 50_000}) {
+            System.out.println("live bullets " + live);
+            runList(live);
+            runStore(live);
+        }
+    }
+
+    private static void runList(int live) {
+        long best = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            Random random = new Random(3);
+            List<BaseBullet> bullets = new ArrayList<>();
+            long startBytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int tick = 0; tick < TICKS; tick++) {
+                while (bullets.size() < live) {
+                    bullets.add(new HeroBullet(random.nextInt(Main.WINDOW_WIDTH - 2) + 1, Main.WINDOW_HEIGHT - 1,
+                        random.nextInt(7) - 3, -5 - random.nextInt(10), 30));
+                }
+                for (BaseBullet bullet : bullets) {
+                    bullet.forward(TICK);
+                }
+                bullets.removeIf(BaseBullet::notValid);
+            }
+            // Round 0 only warms up the JIT
+            if (round > 0 && System.nanoTime() - start < best) {
+                best = System.nanoTime() - start;
+                bytes = allocatedBytes() - startBytes;
+            }
+        }
+        print("List<BaseBullet>", best, bytes);
+    }
+
+    private static void runStore(int live) {
+        long best = Long.MAX_VALUE;
+        long bytes = 0;
+        BulletStore store = new BulletStore(HeroBullet.class, live);
+        for (int round = 0; round <= ROUNDS; round++) {
+            Random random = new Random(3);
+            store.clear();
+            long startBytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int tick = 0; tick < TICKS; tick++) {
+                while (store.size() < live) {
+                    store.add(random.nextInt(Main.WINDOW_WIDTH - 2) + 1, Main.WINDOW_HEIGHT - 1,
+                        random.nextInt(7) - 3, -5 - random.nextInt(10), 30);
+                }
+                store.integrate(TICK, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT);
+                store.compact();
+            }
+            if (round > 0 && System.nanoTime() - start < best) {
+                best = System.nanoTime() - start;
+                bytes = allocatedBytes() - startBytes;
+            }
+        }
+        print("BulletStore", best, bytes);
+    }
+
+    private static void print(String name, long nanos, long bytes) {
+        System.out.printf("  %-18s %9.1f us/tick %10d bytes allocated/tick%n",
+            name, nanos / 1000.0 / TICKS, bytes / TICKS);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,161 @@
+package edu.hitsz.bullet;
+
+import edu.hitsz.aircraft.MobEnemy;
+import edu.hitsz.application.Main;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulletStore Unit Test Class
+ * Verifying that the structure-of-arrays store behaves like the BaseBullet objects it replaces
+ */
+class BulletStoreTest {
+
+    private static final int TICK = 40;
+
+    /**
+     * Test Case ID: BS001
+     * Method Under Test: BulletStore.integrate()
+     * Description: After several ticks the store holds exactly the bullets that
+     * BaseBullet.forward() keeps alive, at the same positions
+     */
+    @Test
+    @DisplayName("Test integrate() - Same movement and culling as BaseBullet.forward()")
+    void testIntegrateMatchesBaseBullet() {
+        Random random = new Random(5);
+        BulletStore store = new BulletStore(HeroBullet.class, 4);
+        List<BaseBullet> bullets = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            BaseBullet bullet = new HeroBullet(random.nextInt(Main.WINDOW_WIDTH), random.nextInt(Main.WINDOW_HEIGHT),
+                random.nextInt(21) - 10, random.nextInt(21) - 10, i);
+            bullets.add(bullet);
+            store.add(bullet);
+        }
+        for (int tick = 0; tick < 20; tick++) {
+            store.integrate(TICK, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT);
+            for (BaseBullet bullet : bullets) {
+                bullet.forward(TICK);
+            }
+            bullets.removeIf(BaseBullet::notValid);
+            // Power is unique per bullet, so it identifies bullets after swap-removal
+            assertEquals(describe(bullets), describe(store), "Live bullets differ after tick " + tick);
+        }
+    }
+
+    /**
+     * Test Case ID: BS002
+     * Method Under Test: BulletStore.vanish(), BulletStore.compact()
+     * Description: Compaction removes exactly the vanished bullets (including the
+     * last slot and consecutive runs) and keeps the remaining fields intact
+     */
+    @Test
+    @DisplayName("Test compact() - Removes only vanished bullets")
+    void testCompact() {
+        BulletStore store = new BulletStore(EnemyBullet.class, 4);
+        for (int i = 0; i < 10; i++) {
+            store.add(100 + i, 200 + i, 1, 5, i);
+        }
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            if (i == 2 || i == 3 || i == 9) {
+                store.vanish(i);
+            } else {
+                expected.add((100 + i) + "," + (200 + i) + "," + i);
+            }
+        }
+        store.compact();
+        assertEquals(7, store.size());
+        assertEquals(expected, describe(store));
+
+        store.vanishAll();
+        store.compact();
+        assertEquals(0, store.size(), "vanishAll() should empty the store after compaction");
+    }
+
+    /**
+     * Test Case ID: BS003
+     * Method Under Test: BulletStore.hits()
+     * Description: The primitive narrow phase gives the same result as crash()
+     * against an equivalent bullet object
+     */
+    @Test
+    @DisplayName("Test hits() - Agrees with AbstractFlyingObject.crash()")
+    void testHitsMatchesCrash() {
+        Random random = new Random(9);
+        MobEnemy enemy = new MobEnemy(256, 300, 0, 0, 30);
+        BulletStore store = new BulletStore(HeroBullet.class, 4);
+        int hits = 0;
+        for (int i = 0; i < 2000; i++) {
+            int x = 256 + random.nextInt(121) - 60;
+            int y = 300 + random.nextInt(101) - 50;
+            BaseBullet bullet = new HeroBullet(x, y, 0, -10, 30);
+            store.clear();
+            int index = store.add(bullet);
+            boolean expected = enemy.crash(bullet);
+            assertEquals(expected, store.hits(index, enemy), "Mismatch at (" + x + ", " + y + ")");
+            hits += expected ? 1 : 0;
+        }
+        assertTrue(hits > 0 && hits < 2000, "Samples should cover both hits and misses");
+    }
+
+    /**
+     * Test Case ID: BS004
+     * Method Under Test: BulletStore.integrateParallel()
+     * Description: Moving bullets in parallel ranges leaves the store in exactly the
+     * same state and index order as the serial integrate-and-cull pass
+     */
+    @Test
+    @DisplayName("Test integrateParallel() - Identical to serial integrate()")
+    void testIntegrateParallelMatchesSerial() {
+        Random random = new Random(21);
+        BulletStore serial = new BulletStore(EnemyBullet.class, 4);
+        BulletStore parallel = new BulletStore(EnemyBullet.class, 4);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int tick = 0; tick < 50; tick++) {
+                for (int i = 0; i < 200; i++) {
+                    int x = random.nextInt(Main.WINDOW_WIDTH);
+                    int y = random.nextInt(Main.WINDOW_HEIGHT);
+                    int vx = random.nextInt(21) - 10;
+                    int vy = random.nextInt(41) - 20;
+                    serial.add(x, y, vx, vy, i);
+                    parallel.add(x, y, vx, vy, i);
+                }
+                serial.integrate(TICK, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT);
+                parallel.integrateParallel(pool, TICK, Main.WINDOW_WIDTH, Main.WINDOW_HEIGHT, 64);
+                assertEquals(serial.size(), parallel.size(), "Size differs after tick " + tick);
+                for (int i = 0; i < serial.size(); i++) {
+                    assertEquals(serial.getLocationX(i), parallel.getLocationX(i));
+                    assertEquals(serial.getLocationY(i), parallel.getLocationY(i));
+                    assertEquals(serial.getPower(i), parallel.getPower(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Set<String> describe(List<BaseBullet> bullets) {
+        Set<String> result = new HashSet<>();
+        for (BaseBullet bullet : bullets) {
+            result.add(bullet.getLocationX() + "," + bullet.getLocationY() + "," + bullet.getPower());
+        }
+        return result;
+    }
+
+    private static Set<String> describe(BulletStore store) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < store.size(); i++) {
+            result.add(store.getLocationX(i) + "," + store.getLocationY(i) + "," + store.getPower(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,172 @@
+package edu.hitsz.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Collision engine benchmark
+ * Records several kinds of scenes tick by tick (hero bullets vs enemies), then replays
+ * the very same recorded frames through every engine, checking that all engines report
+ * identical pairs and printing the average time per frame.
+ * <br>
+ * clustered: the boss hovers at the top firing 20-bullet rings while hero bullets
+ * stream up in tight columns, so most boxes crowd around a few points.
+ * spread: several hero columns sweep across the window against scattered enemies.
+ * stress: the spread scene with ten times as many enemies, as in bullet-heavy stress modes.
+ * <br>
+ * Run from the project root: java edu.hitsz.collision.CollisionEngineBenchmark
+ */
+public class CollisionEngineBenchmark {
+
+    private static final int WIDTH = 512;
+    private static final int HEIGHT = 768;
+    private static final int CELL_SIZE = 105;
+    private static final int TICKS = 2000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        run("clustered", recordClustered(new Random(1)));
+        run("spread", recordSpread(new Random(2), 12));
+        run("stress", recordSpread(new Random(3), 120));
+    }
+
+    private static void run(String sceneName, List<int[][]> frames) {
+        long expectedChecksum = replay(CollisionEngineType.BRUTE_FORCE.create(WIDTH, HEIGHT, CELL_SIZE), frames);
+        System.out.println("scene " + sceneName + " (" + frames.size() + " frames)");
+        for (CollisionEngineType type : CollisionEngineType.values()) {
+            CollisionEngine engine = type.create(WIDTH, HEIGHT, CELL_SIZE);
+            // Warm up so the JIT has compiled the engine before timing
+            replay(engine, frames);
+            long best = Long.MAX_VALUE;
+            long checksum = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                checksum = replay(engine, frames);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            if (checksum != expectedChecksum) {
+                throw new IllegalStateException(type + " reported different pairs on scene " + sceneName);
+            }
+            System.out.printf("  %-16s %8.2f us/frame%n", type, best / 1000.0 / frames.size());
+        }
+    }
+
+    /**
+     * Replays recorded frames and returns a checksum over all reported pairs
+     */
+    private static long replay(CollisionEngine engine, List<int[][]> frames) {
+        BoxList probes = new BoxList();
+        BoxList targets = new BoxList();
+        PairBuffer pairs = new PairBuffer();
+        long checksum = 0;
+        for (int[][] frame : frames) {
+            load(probes, frame[0]);
+            load(targets, frame[1]);
+            engine.findPairs(probes, targets, pairs);
+            for (int i = 0; i < pairs.size(); i++) {
+                checksum = checksum * 31 + ((long) pairs.probe(i) << 20) + pairs.target(i);
+            }
+        }
+        return checksum;
+    }
+
+    private static void load(BoxList boxes, int[] centers) {
+        boxes.clear();
+        for (int i = 0; i < centers.length; i += 4) {
+            boxes.addCentered(centers[i], centers[i + 1], centers[i + 2], centers[i + 3]);
+        }
+    }
+
+    private static List<int[][]> recordClustered(Random random) {
+        List<int[][]> frames = new ArrayList<>();
+        List<int[]> bullets = new ArrayList<>();
+        List<int[]> enemies = new ArrayList<>();
+        int bossX = WIDTH / 2;
+        int bossSpeed = 5;
+        for (int tick = 0; tick < TICKS; tick++) {
+            bossX += bossSpeed;
+            if (bossX <= 0 || bossX >= WIDTH) {
+                bossSpeed = -bossSpeed;
+            }
+            int heroX = WIDTH / 2 + (int) (120 * Math.sin(tick / 40.0));
+            if (tick % 5 == 0) {
+                // Hero ring volleys while the super fire buff is active
+                for (int k = 0; k < 20; k++) {
+                    double angle = 2 * Math.PI * k / 20;
+                    bullets.add(new int[]{heroX, 680, (int) (6 * Math.cos(angle)), (int) (6 * Math.sin(angle)) - 4});
+                }
+            }
+            while (enemies.size() < 6) {
+                enemies.add(new int[]{bossX + random.nextInt(160) - 80, 100 + random.nextInt(120), 105, 68});
+            }
+            moveBullets(bullets);
+            int[] targetFrame = new int[(enemies.size() + 1) * 4];
+            targetFrame[0] = bossX;
+            targetFrame[1] = 200;
+            targetFrame[2] = 300;
+            targetFrame[3] = 200;
+            for (int i = 0; i < enemies.size(); i++) {
+                System.arraycopy(enemies.get(i), 0, targetFrame, (i + 1) * 4, 4);
+            }
+            if (tick % 50 == 0) {
+                enemies.remove(0);
+            }
+            frames.add(new int[][]{bulletFrame(bullets), targetFrame});
+        }
+        return frames;
+    }
+
+    private static List<int[][]> recordSpread(Random random, int enemyCount) {
+        List<int[][]> frames = new ArrayList<>();
+        List<int[]> bullets = new ArrayList<>();
+        List<int[]> enemies = new ArrayList<>();
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick % 3 == 0) {
+                for (int column = 0; column < 8; column++) {
+                    bullets.add(new int[]{random.nextInt(WIDTH), HEIGHT - 60, random.nextInt(7) - 3, -10});
+                }
+            }
+            while (enemies.size() < enemyCount) {
+                enemies.add(new int[]{random.nextInt(WIDTH), 0, random.nextInt(5) - 2, 4 + random.nextInt(6)});
+            }
+            moveBullets(bullets);
+            for (int i = enemies.size() - 1; i >= 0; i--) {
+                int[] enemy = enemies.get(i);
+                enemy[0] += enemy[2];
+                enemy[1] += enemy[3];
+                if (enemy[1] >= HEIGHT) {
+                    enemies.remove(i);
+                }
+            }
+            int[] targetFrame = new int[enemies.size() * 4];
+            for (int i = 0; i < enemies.size(); i++) {
+                targetFrame[i * 4] = enemies.get(i)[0];
+                targetFrame[i * 4 + 1] = enemies.get(i)[1];
+                targetFrame[i * 4 + 2] = 105;
+                targetFrame[i * 4 + 3] = 68;
+            }
+            frames.add(new int[][]{bulletFrame(bullets), targetFrame});
+        }
+        return frames;
+    }
+
+    private static void moveBullets(List<int[]> bullets) {
+        bullets.removeIf(b -> {
+            b[0] += b[2];
+            b[1] += b[3];
+            return b[0] <= 0 || b[0] >= WIDTH || b[1] <= 0 || b[1] >= HEIGHT;
+        });
+    }
+
+    private static int[] bulletFrame(List<int[]> bullets) {
+        int[] frame = new int[bullets.size() * 4];
+        for (int i = 0; i < bullets.size(); i++) {
+            frame[i * 4] = bullets.get(i)[0];
+            frame[i * 4 + 1] = bullets.get(i)[1];
+            frame[i * 4 + 2] = 10;
+            frame[i * 4 + 3] = 25;
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,94 @@
+package edu.hitsz.collision;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CollisionEngine Unit Test Class
+ * Verifying that every broadphase engine reports exactly the box-overlapping pairs
+ * that an exhaustive pairwise check would report, in the same order
+ */
+class CollisionEngineTest {
+
+    private static final int WIDTH = 512;
+    private static final int HEIGHT = 768;
+
+    /**
+     * Test Case ID: CE001
+     * Method Under Test: CollisionEngine.findPairs()
+     * Description: Random scenes, including boxes partly outside the window and
+     * boxes spanning many cells, must yield the same pairs as the brute-force check.
+     * Each engine instance is reused across scenes of varying size, so the ordering
+     * kept between calls by sweep and prune is exercised as well
+     */
+    @Test
+    @DisplayName("Test findPairs() - Same pairs as brute force on random scenes")
+    void testMatchesBruteForce() {
+        for (CollisionEngineType type : CollisionEngineType.values()) {
+            assertMatchesBruteForce(type.create(WIDTH, HEIGHT, 105));
+        }
+    }
+
+    private void assertMatchesBruteForce(CollisionEngine engine) {
+        Random random = new Random(42);
+        BoxList probes = new BoxList();
+        BoxList targets = new BoxList();
+        PairBuffer actual = new PairBuffer();
+        PairBuffer expected = new PairBuffer();
+
+        for (int scene = 0; scene < 200; scene++) {
+            fill(probes, random, 1 + random.nextInt(300), 12);
+            fill(targets, random, 1 + random.nextInt(12), 300);
+
+            engine.findPairs(probes, targets, actual);
+
+            expected.clear();
+            for (int p = 0; p < probes.size(); p++) {
+                for (int t = 0; t < targets.size(); t++) {
+                    if (BoxList.overlaps(probes, p, targets, t)) {
+                        expected.add(p, t);
+                    }
+                }
+            }
+
+            String name = engine.getClass().getSimpleName();
+            assertEquals(expected.size(), actual.size(), name + ": pair count should match brute force");
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.probe(i), actual.probe(i), name + ": probe order should match brute force");
+                assertEquals(expected.target(i), actual.target(i), name + ": target order should match brute force");
+            }
+        }
+    }
+
+    /**
+     * Test Case ID: CE002
+     * Method Under Test: CollisionEngine.findPairs()
+     * Description: Empty inputs produce no pairs and clear stale output
+     */
+    @Test
+    @DisplayName("Test findPairs() - Empty inputs")
+    void testEmptyInputs() {
+        for (CollisionEngineType type : CollisionEngineType.values()) {
+            BoxList probes = new BoxList();
+            BoxList targets = new BoxList();
+            PairBuffer out = new PairBuffer();
+            out.add(1, 1);
+
+            type.create(WIDTH, HEIGHT, 105).findPairs(probes, targets, out);
+
+            assertEquals(0, out.size(), type + ": no pairs should be reported for empty inputs");
+        }
+    }
+
+    private static void fill(BoxList boxes, Random random, int count, int maxSize) {
+        boxes.clear();
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(WIDTH + 200) - 100;
+            int y = random.nextInt(HEIGHT + 200) - 100;
+            boxes.addCentered(x, y, 1 + random.nextInt(maxSize), 1 + random.nextInt(maxSize));
+        }
+    }
+}
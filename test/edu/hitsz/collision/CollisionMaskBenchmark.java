@@ -0,0 +1,77 @@
+package edu.hitsz.collision;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Pixel mask narrow-phase benchmark
+ * Generates sprite pairs whose bounding boxes overlap (the only pairs that reach the
+ * mask test in game), then times the plain box test against box test + mask test and
+ * reports how many box hits the masks reject as transparent-only contacts.
+ * <br>
+ * Run from the project root: java edu.hitsz.collision.CollisionMaskBenchmark
+ */
+public class CollisionMaskBenchmark {
+
+    private static final int PAIRS = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        run("hero bullet vs elite", mask("bullet_hero.png"), mask("elite.png"));
+        run("enemy bullet vs hero", mask("bullet_enemy.png"), mask("hero.png"));
+        run("hero vs boss", mask("hero.png"), mask("boss.png"));
+    }
+
+    private static void run(String name, CollisionMask probe, CollisionMask target) {
+        Random random = new Random(11);
+        int[] dx = new int[PAIRS];
+        int[] dy = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            // Offsets of the probe relative to the target whose boxes overlap
+            dx[i] = random.nextInt(target.getWidth() + probe.getWidth() - 1) - probe.getWidth() + 1;
+            dy[i] = random.nextInt(target.getHeight() + probe.getHeight() - 1) - probe.getHeight() + 1;
+        }
+
+        long boxBest = Long.MAX_VALUE;
+        long maskBest = Long.MAX_VALUE;
+        int boxHits = 0;
+        int maskHits = 0;
+        for (int round = 0; round < ROUNDS + 1; round++) {
+            long start = System.nanoTime();
+            boxHits = 0;
+            for (int i = 0; i < PAIRS; i++) {
+                if (boxOverlaps(target, probe, dx[i], dy[i])) {
+                    boxHits++;
+                }
+            }
+            long boxTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            maskHits = 0;
+            for (int i = 0; i < PAIRS; i++) {
+                if (boxOverlaps(target, probe, dx[i], dy[i]) && CollisionMask.overlaps(target, probe, dx[i], dy[i])) {
+                    maskHits++;
+                }
+            }
+            long maskTime = System.nanoTime() - start;
+            // The first round only warms up the JIT
+            if (round > 0) {
+                boxBest = Math.min(boxBest, boxTime);
+                maskBest = Math.min(maskBest, maskTime);
+            }
+        }
+        System.out.printf("%-22s box %6.1f ns/pair, box+mask %6.1f ns/pair, %5.1f%% of box hits rejected%n",
+                name, (double) boxBest / PAIRS, (double) maskBest / PAIRS,
+                100.0 * (boxHits - maskHits) / boxHits);
+    }
+
+    private static boolean boxOverlaps(CollisionMask a, CollisionMask b, int dx, int dy) {
+        return dx < a.getWidth() && dx + b.getWidth() > 0 && dy < a.getHeight() && dy + b.getHeight() > 0;
+    }
+
+    private static CollisionMask mask(String name) throws IOException {
+        return CollisionMask.of(ImageIO.read(new File("src/images/" + name)));
+    }
+}
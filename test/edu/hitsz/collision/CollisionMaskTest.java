@@ -0,0 +1,87 @@
+package edu.hitsz.collision;
+
+import org.junit.jupiter.api.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CollisionMask Unit Test Class
+ * Verifying the word-wide mask test against a pixel-by-pixel reference on real sprites
+ */
+class CollisionMaskTest {
+
+    private static CollisionMask hero;
+    private static CollisionMask boss;
+    private static CollisionMask bullet;
+
+    @BeforeAll
+    static void loadMasks() throws IOException {
+        hero = CollisionMask.of(read("hero.png"));
+        boss = CollisionMask.of(read("boss.png"));
+        bullet = CollisionMask.of(read("bullet_enemy.png"));
+    }
+
+    /**
+     * Test Case ID: CM001
+     * Method Under Test: CollisionMask.overlaps()
+     * Description: For random offsets around the sprites (including negative offsets
+     * and offsets that cross 64-bit word boundaries) the packed test must agree with
+     * a per-pixel comparison
+     */
+    @Test
+    @DisplayName("Test overlaps() - Agrees with per-pixel reference")
+    void testMatchesPixelReference() {
+        Random random = new Random(7);
+        CollisionMask[][] pairs = {{hero, bullet}, {boss, hero}, {bullet, boss}, {boss, boss}};
+        for (CollisionMask[] pair : pairs) {
+            CollisionMask a = pair[0];
+            CollisionMask b = pair[1];
+            for (int i = 0; i < 500; i++) {
+                int dx = random.nextInt(a.getWidth() + b.getWidth()) - b.getWidth();
+                int dy = random.nextInt(a.getHeight() + b.getHeight()) - b.getHeight();
+                assertEquals(reference(a, b, dx, dy), CollisionMask.overlaps(a, b, dx, dy),
+                    "Mismatch at offset (" + dx + ", " + dy + ")");
+            }
+        }
+    }
+
+    /**
+     * Test Case ID: CM002
+     * Method Under Test: CollisionMask.sweptOverlaps()
+     * Description: A bullet crossing the hero sprite within one tick is detected even
+     * though neither end position overlaps; a bullet passing through a transparent
+     * corner of the bounding box is not
+     */
+    @Test
+    @DisplayName("Test sweptOverlaps() - Crossing and transparent-corner paths")
+    void testSweptOverlaps() {
+        int centerX = hero.getWidth() / 2 - bullet.getWidth() / 2;
+        assertTrue(CollisionMask.sweptOverlaps(hero, bullet, centerX, -40, centerX, hero.getHeight() + 20),
+            "A bullet crossing the middle of the hero should hit");
+        assertFalse(hero.isSolid(0, 0), "Precondition: the hero sprite corner is transparent");
+        assertFalse(CollisionMask.sweptOverlaps(hero, bullet, -bullet.getWidth() - 20, -bullet.getHeight() - 20,
+                -bullet.getWidth() + 3, -bullet.getHeight() + 3),
+            "A bullet clipping only the transparent corner should miss");
+    }
+
+    private static boolean reference(CollisionMask a, CollisionMask b, int dx, int dy) {
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                if (a.isSolid(x, y) && b.isSolid(x - dx, y - dy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static BufferedImage read(String name) throws IOException {
+        return ImageIO.read(new File("src/images/" + name));
+    }
+}
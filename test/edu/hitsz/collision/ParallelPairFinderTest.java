@@ -0,0 +1,77 @@
+package edu.hitsz.collision;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelPairFinder Unit Test Class
+ * Verifying that chunked parallel pair finding reports exactly the serial result
+ */
+class ParallelPairFinderTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        // A dedicated pool so the test runs in parallel even on single-core machines
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Test Case ID: PP001
+     * Method Under Test: ParallelPairFinder.findHits()
+     * Description: For every engine type and several chunk sizes (including one
+     * probe per chunk and a single chunk), the merged parallel output equals the
+     * serial engine output filtered by the same narrow phase, in the same order
+     */
+    @Test
+    @DisplayName("Test findHits() - Same pairs in the same order as serial")
+    void testMatchesSerial() {
+        Random random = new Random(13);
+        BoxList probes = new BoxList();
+        BoxList targets = new BoxList();
+        for (int i = 0; i < 3000; i++) {
+            probes.addCentered(random.nextInt(512), random.nextInt(768), 10, 25);
+        }
+        for (int i = 0; i < 60; i++) {
+            targets.addCentered(random.nextInt(512), random.nextInt(768), 105, 68);
+        }
+        // Stand-in for the pixel test: deterministic and rejects about a third of candidates
+        ParallelPairFinder.NarrowPhase narrow = (p, t) -> (p * 31 + t) % 3 != 0;
+
+        for (CollisionEngineType type : CollisionEngineType.values()) {
+            PairBuffer serial = new PairBuffer();
+            type.create(512, 768, 105).findPairs(probes, targets, serial);
+            PairBuffer expected = new PairBuffer();
+            for (int i = 0; i < serial.size(); i++) {
+                if (narrow.test(serial.probe(i), serial.target(i))) {
+                    expected.add(serial.probe(i), serial.target(i));
+                }
+            }
+            assertTrue(expected.size() > 100, "Precondition: the scene should produce many hits");
+
+            for (int grain : new int[]{1, 7, 256, 5000}) {
+                ParallelPairFinder finder = new ParallelPairFinder(pool, type, 512, 768, 105, grain);
+                PairBuffer actual = new PairBuffer();
+                // Run twice so reused chunks and engines are covered as well
+                for (int round = 0; round < 2; round++) {
+                    finder.findHits(probes, targets, narrow, actual);
+                    assertEquals(expected.size(), actual.size(), type + " grain " + grain);
+                    for (int i = 0; i < expected.size(); i++) {
+                        assertEquals(expected.probe(i), actual.probe(i), type + " grain " + grain + " pair " + i);
+                        assertEquals(expected.target(i), actual.target(i), type + " grain " + grain + " pair " + i);
+                    }
+                }
+            }
+        }
+    }
+}
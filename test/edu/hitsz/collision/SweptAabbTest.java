@@ -0,0 +1,57 @@
+package edu.hitsz.collision;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SweptAabb Unit Test Class
+ * Verifying continuous collision between two boxes moving during one tick
+ */
+class SweptAabbTest {
+
+    /**
+     * Test Case ID: SA001
+     * Method Under Test: SweptAabb.overlaps()
+     * Description: A fast bullet that starts below a thin target and ends above it
+     * never overlaps at either end of the tick, but must still be reported
+     */
+    @Test
+    @DisplayName("Test overlaps() - Fast bullet does not tunnel through a thin target")
+    void testNoTunnelling() {
+        // Relative y goes from +60 to -60 in one tick; combined half height is 20
+        assertTrue(SweptAabb.overlaps(0, 60, 0, -60, 50, 20),
+            "A bullet passing straight through the target should hit");
+    }
+
+    /**
+     * Test Case ID: SA002
+     * Method Under Test: SweptAabb.overlaps()
+     * Description: Paths that pass beside the target, or where the x and y overlap
+     * intervals do not intersect in time, must not be reported
+     */
+    @Test
+    @DisplayName("Test overlaps() - Near misses are not hits")
+    void testNearMiss() {
+        // Passes 60 px to the side of a target with half width 50
+        assertFalse(SweptAabb.overlaps(60, 60, 60, -60, 50, 20),
+            "A path beside the target should miss");
+        // Diagonal path that crosses the x slab and the y slab at different times
+        assertFalse(SweptAabb.overlaps(-100, -30, 100, -230, 20, 20),
+            "Slabs crossed at disjoint times should miss");
+    }
+
+    /**
+     * Test Case ID: SA003
+     * Method Under Test: SweptAabb.overlaps()
+     * Description: Boundary values - objects that stay still behave like the
+     * discrete check, and exactly touching edges do not count as overlapping
+     */
+    @Test
+    @DisplayName("Test overlaps() - Stationary objects and touching edges")
+    void testStationary() {
+        assertTrue(SweptAabb.overlaps(10, 10, 10, 10, 50, 20), "Overlapping still objects should hit");
+        assertFalse(SweptAabb.overlaps(50, 0, 50, 0, 50, 20), "Touching edges should not hit");
+        assertFalse(SweptAabb.overlaps(0, 40, 0, 20, 50, 20), "Stopping exactly at the edge should not hit");
+    }
+}
@@ -0,0 +1,188 @@
+package edu.hitsz.event;
+
+import edu.hitsz.render.SpriteType;
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameEventBus Unit Test Class
+ * Verifying typed dispatch, independent readers, lapped readers and allocation-free publishing
+ */
+class GameEventBusTest {
+
+    /**
+     * Test Case ID: EB001
+     * Method Under Test: GameEventBus.publish(), GameEventBus.Reader.poll()
+     * Description: Each reader receives every event once with its typed fields,
+     * independently of other readers, and a reader that falls too far behind
+     * skips the overwritten events and reports them as dropped
+     */
+    @Test
+    @DisplayName("Test poll() - Typed dispatch, independent readers and drops")
+    void testPoll() {
+        GameEventBus bus = new GameEventBus(6);
+        assertEquals(8, bus.getCapacity());
+        GameEventBus.Reader first = bus.newReader();
+        GameEventBus.Reader second = bus.newReader();
+        bus.publish(EventType.ENEMY_DESTROYED, SpriteType.ELITE_ENEMY.ordinal(), 10, 20, 50, 60);
+        bus.publish(EventType.SUPPLY_COLLECTED, SpriteType.BOMB_PROP.ordinal(), 30, 40, 0, 0);
+        bus.publish(EventType.BOMB_EXPLODED, 0, 30, 40, 120, 180);
+        bus.publish(EventType.BOSS_APPEARED, SpriteType.BOSS_ENEMY.ordinal(), 256, 200, 500, 0);
+        bus.publish(EventType.HERO_DAMAGED, 0, 256, 700, 20, 980);
+        bus.publish(EventType.GAME_OVER, 0, 256, 700, 0, 180);
+
+        List<String> expected = List.of(
+            "destroyed ELITE_ENEMY 10,20 +50=60",
+            "supply BOMB_PROP 30,40",
+            "bomb 30,40 +120=180",
+            "boss 256,200 hp500",
+            "damaged 256,700 -20=980",
+            "over 180");
+        Recorder recorder = new Recorder();
+        assertEquals(2, first.poll(recorder, 2));
+        assertEquals(4, first.poll(recorder));
+        assertEquals(0, first.poll(recorder));
+        assertEquals(expected, recorder.events);
+        Recorder other = new Recorder();
+        assertEquals(6, second.poll(other));
+        assertEquals(expected, other.events);
+
+        // A reader created later only sees later events
+        GameEventBus.Reader late = bus.newReader();
+        for (int i = 0; i < 20; i++) {
+            bus.publish(EventType.HERO_DAMAGED, 0, 0, 0, i, 0);
+        }
+        Recorder lapped = new Recorder();
+        assertEquals(7, late.poll(lapped), "A reader can trail the producer by capacity - 1 events");
+        assertEquals(13, late.getDropped());
+        assertEquals("dropped 13", lapped.events.get(0));
+        assertEquals("damaged 0,0 -13=0", lapped.events.get(1));
+        assertEquals("damaged 0,0 -19=0", lapped.events.get(7));
+    }
+
+    /**
+     * Test Case ID: EB002
+     * Method Under Test: GameEventBus.publish(), GameEventBus.Reader.poll()
+     * Description: With the producer on its own thread, a consumer thread sees
+     * every event it did not drop exactly once, in order and with consistent fields
+     */
+    @Test
+    @DisplayName("Test poll() - Concurrent producer and consumer")
+    void testConcurrent() throws InterruptedException {
+        GameEventBus bus = new GameEventBus(64);
+        GameEventBus.Reader reader = bus.newReader();
+        int count = 200_000;
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                bus.publish(EventType.ENEMY_DESTROYED, SpriteType.MOB_ENEMY.ordinal(), i, -i, i * 3, i ^ 0x5555);
+            }
+            done.set(true);
+        });
+        long[] received = new long[2];
+        List<String> errors = new ArrayList<>();
+        GameEventHandler checker = new GameEventHandler() {
+            private int last = -1;
+
+            @Override
+            public void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+                if (type != SpriteType.MOB_ENEMY || y != -x || points != x * 3 || score != (x ^ 0x5555) || x <= last) {
+                    errors.add("Inconsistent event " + x + " after " + last);
+                }
+                last = x;
+                received[0]++;
+            }
+
+            @Override
+            public void onEventsDropped(long dropped) {
+                received[1] += dropped;
+            }
+        };
+        producer.start();
+        while (!done.get()) {
+            reader.poll(checker);
+        }
+        producer.join();
+        reader.poll(checker);
+
+        assertEquals(List.of(), errors);
+        assertEquals(count, received[0] + received[1], "Every event is either delivered or reported dropped");
+        assertEquals(received[1], reader.getDropped());
+    }
+
+    /**
+     * Test Case ID: EB003
+     * Method Under Test: GameEventBus.publish()
+     * Description: Publishing events allocates nothing on the simulation thread
+     */
+    @Test
+    @DisplayName("Test publish() - No allocation per event")
+    void testNoAllocation() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        GameEventBus bus = new GameEventBus(1024);
+
+        // Warm up so class loading and JIT compilation are not measured
+        publish(bus, 50_000);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rounds = 100_000;
+        publish(bus, rounds);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < rounds,
+            "Publishing should not allocate, but " + allocated + " bytes were allocated");
+    }
+
+    private static void publish(GameEventBus bus, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            bus.publish(EventType.ENEMY_DESTROYED, SpriteType.MOB_ENEMY.ordinal(), i, i, 10, i * 10);
+        }
+    }
+
+    private static class Recorder implements GameEventHandler {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onEnemyDestroyed(SpriteType type, int x, int y, int points, int score) {
+            events.add("destroyed " + type + " " + x + "," + y + " +" + points + "=" + score);
+        }
+
+        @Override
+        public void onSupplyCollected(SpriteType type, int x, int y) {
+            events.add("supply " + type + " " + x + "," + y);
+        }
+
+        @Override
+        public void onBombExploded(int x, int y, int points, int score) {
+            events.add("bomb " + x + "," + y + " +" + points + "=" + score);
+        }
+
+        @Override
+        public void onBossAppeared(int x, int y, int hp) {
+            events.add("boss " + x + "," + y + " hp" + hp);
+        }
+
+        @Override
+        public void onHeroDamaged(int x, int y, int damage, int hp) {
+            events.add("damaged " + x + "," + y + " -" + damage + "=" + hp);
+        }
+
+        @Override
+        public void onGameOver(int score) {
+            events.add("over " + score);
+        }
+
+        @Override
+        public void onEventsDropped(long count) {
+            events.add("dropped " + count);
+        }
+    }
+}
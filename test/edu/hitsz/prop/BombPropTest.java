@@ -0,0 +1,103 @@
+package edu.hitsz.prop;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.BossEnemy;
+import edu.hitsz.aircraft.EliteEnemy;
+import edu.hitsz.aircraft.ElitePlusEnemy;
+import edu.hitsz.aircraft.MobEnemy;
+import edu.hitsz.collision.BoxList;
+import edu.hitsz.collision.CollisionEngineType;
+import edu.hitsz.collision.PairBuffer;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BombProp Unit Test Class
+ * Verifying per-type bomb responses, bomb scores and the blast-radius query
+ */
+class BombPropTest {
+
+    /**
+     * Test Case ID: BB001
+     * Method Under Test: BombProp.blast()
+     * Description: Mob and elite enemies vanish for 10 and 50 points, elite-plus
+     * enemies only lose HP and the boss is unaffected, both without points
+     */
+    @Test
+    @DisplayName("Test blast() - Per-type responses and scores")
+    void testBlastResponses() {
+        BombProp bomb = new BombProp(256, 400, 0, 0);
+        MobEnemy mob = new MobEnemy(100, 100, 0, 5, 30);
+        EliteEnemy elite = new EliteEnemy(200, 100, 0, 5, 60);
+        ElitePlusEnemy elitePlus = new ElitePlusEnemy(300, 100, 0, 5, 100);
+        BossEnemy boss = new BossEnemy(256, 100, 5, 0, 500);
+
+        assertEquals(10, bomb.blast(mob));
+        assertTrue(mob.notValid());
+        assertEquals(50, bomb.blast(elite));
+        assertTrue(elite.notValid());
+        assertEquals(0, bomb.blast(elitePlus));
+        assertEquals(70, elitePlus.getHp());
+        assertFalse(elitePlus.notValid());
+        assertEquals(0, bomb.blast(boss));
+        assertEquals(500, boss.getHp());
+        assertEquals(0, bomb.blast(mob), "An enemy that is already gone scores nothing");
+    }
+
+    /**
+     * Test Case ID: BB002
+     * Method Under Test: BombProp.addBlastBox(), BombProp.inBlast()
+     * Description: Querying a spatial index with the blast box and filtering by the
+     * blast circle finds exactly the enemies whose sprite touches the circle, with
+     * every collision engine, and a full-screen bomb reaches enemies above the screen
+     */
+    @Test
+    @DisplayName("Test inBlast() - Spatial query matches a linear scan")
+    void testBlastQuery() {
+        Random random = new Random(11);
+        List<AbstractAircraft> enemies = new ArrayList<>();
+        BoxList targets = new BoxList();
+        for (int i = 0; i < 300; i++) {
+            AbstractAircraft enemy = new MobEnemy(random.nextInt(512), random.nextInt(900) - 100, 0, 5, 30);
+            enemies.add(enemy);
+            targets.add(enemy);
+        }
+        BombProp bomb = new BombProp(250, 500, 0, 5, 150);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < enemies.size(); i++) {
+            AbstractAircraft enemy = enemies.get(i);
+            double dx = Math.max(Math.abs(enemy.getLocationX() - 250) - enemy.getWidth() / 2, 0);
+            double dy = Math.max(Math.abs(enemy.getLocationY() - 500) - enemy.getHeight() / 2, 0);
+            if (Math.hypot(dx, dy) <= 150) {
+                expected.add(i);
+            }
+        }
+        assertFalse(expected.isEmpty());
+
+        for (CollisionEngineType type : CollisionEngineType.values()) {
+            assertEquals(expected, query(bomb, enemies, targets, type), type.name());
+        }
+        BombProp fullScreen = new BombProp(250, 500, 0, 5);
+        assertEquals(enemies.size(), query(fullScreen, enemies, targets, CollisionEngineType.SPATIAL_HASH).size());
+    }
+
+    private static List<Integer> query(BombProp bomb, List<AbstractAircraft> enemies, BoxList targets,
+                                       CollisionEngineType type) {
+        BoxList probes = new BoxList();
+        bomb.addBlastBox(probes);
+        PairBuffer pairs = new PairBuffer();
+        type.create(512, 768, 105).findPairs(probes, targets, pairs);
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            if (bomb.inBlast(enemies.get(pairs.target(i)))) {
+                found.add(pairs.target(i));
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,100 @@
+package edu.hitsz.render;
+
+import edu.hitsz.application.ImageManager;
+import org.junit.jupiter.api.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BackgroundLayer Unit Test Class
+ * Verifying the compatible image conversion and the cached background copy
+ */
+class BackgroundLayerTest {
+
+    /**
+     * Test Case ID: BL001
+     * Method Under Test: ImageManager.toCompatibleImage()
+     * Description: Sprites keep their per-pixel alpha and backgrounds become opaque,
+     * with the same colours as the decoded files
+     */
+    @Test
+    @DisplayName("Test toCompatibleImage() - Same pixels in a compatible format")
+    void testCompatibleImage() throws IOException {
+        BufferedImage sprite = ImageIO.read(new File("src/images/elite.png"));
+        BufferedImage compatibleSprite = ImageManager.toCompatibleImage(sprite, Transparency.TRANSLUCENT);
+        assertEquals(Transparency.TRANSLUCENT, compatibleSprite.getTransparency());
+        assertSamePixels(sprite, compatibleSprite);
+
+        BufferedImage background = ImageIO.read(new File("src/images/bg.jpg"));
+        BufferedImage compatibleBackground = ImageManager.toCompatibleImage(background, Transparency.OPAQUE);
+        assertEquals(Transparency.OPAQUE, compatibleBackground.getTransparency());
+        assertSamePixels(background, compatibleBackground);
+
+        assertEquals(Transparency.OPAQUE, ImageManager.BACKGROUND_IMAGE_HARD.getTransparency());
+        assertEquals(Transparency.TRANSLUCENT, SpriteType.BOSS_ENEMY.getImage().getTransparency());
+    }
+
+    /**
+     * Test Case ID: BL002
+     * Method Under Test: BackgroundLayer.draw()
+     * Description: Drawing through the layer gives the same frame as drawing the
+     * image directly, the copy is made once and reused, and a released copy is
+     * restored from the image on the next draw
+     */
+    @Test
+    @DisplayName("Test draw() - Cached copy matches the image and is restored")
+    void testDraw() {
+        BufferedImage image = ImageManager.BACKGROUND_IMAGE_NORMAL;
+        BackgroundLayer layer = new BackgroundLayer(image);
+        BufferedImage expected = new BufferedImage(image.getWidth(), image.getHeight() * 2, BufferedImage.TYPE_INT_RGB);
+        BufferedImage actual = new BufferedImage(image.getWidth(), image.getHeight() * 2, BufferedImage.TYPE_INT_RGB);
+        Graphics g = expected.getGraphics();
+        g.drawImage(image, 0, -100, null);
+        g.drawImage(image, 0, image.getHeight() - 100, null);
+        g.dispose();
+
+        for (int frame = 0; frame < 3; frame++) {
+            g = actual.getGraphics();
+            layer.draw(g, 0, -100);
+            layer.draw(g, 0, image.getHeight() - 100);
+            g.dispose();
+            assertSamePixels(expected, actual);
+        }
+        assertTrue(layer.getRestoreCount() <= 1, "The copy is written once, not per frame");
+
+        int restored = layer.getRestoreCount();
+        layer.flush();
+        actual = new BufferedImage(image.getWidth(), image.getHeight() * 2, BufferedImage.TYPE_INT_RGB);
+        g = actual.getGraphics();
+        layer.draw(g, 0, -100);
+        layer.draw(g, 0, image.getHeight() - 100);
+        g.dispose();
+        assertSamePixels(expected, actual);
+        assertTrue(layer.getRestoreCount() <= restored + 1);
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int e = expected.getRGB(x, y);
+                int a = actual.getRGB(x, y);
+                int alpha = e >>> 24;
+                assertEquals(alpha, a >>> 24, "Alpha at " + x + "," + y);
+                // Premultiplied storage rounds the colour of translucent pixels
+                int tolerance = alpha == 0 ? 255 : 255 / alpha + 1;
+                for (int shift = 0; shift < 24; shift += 8) {
+                    assertEquals((e >> shift) & 0xFF, (a >> shift) & 0xFF, tolerance,
+                        "Pixel " + x + "," + y + ": " + Integer.toHexString(e) + " vs " + Integer.toHexString(a));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.hitsz.render;
+
+import edu.hitsz.basic.Fixed;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DirtyRectRenderer Unit Test Class
+ * Verifying that repainting only the dirty rectangles gives the same picture as a
+ * full repaint, and that quiet frames repaint only what moved
+ */
+class DirtyRectRendererTest {
+
+    private static final int WIDTH = 128;
+    private static final int HEIGHT = 160;
+    private static final int SCROLL_STEP = 16;
+
+    private static final SpriteType[] TYPES = {
+        SpriteType.HERO_BULLET, SpriteType.ENEMY_BULLET, SpriteType.BLOOD_PROP, SpriteType.MOB_ENEMY
+    };
+
+    /**
+     * Test Case ID: DR001
+     * Method Under Test: DirtyRectRenderer.render(), DirtyRectRenderer.present()
+     * Description: Over frames where sprites move, appear, vanish and overlap and the
+     * background occasionally steps, the screen updated through the dirty rectangles
+     * always equals a full repaint of the same frame
+     */
+    @Test
+    @DisplayName("Test render() - Dirty rectangles reproduce a full repaint")
+    void testMatchesFullRepaint() {
+        BufferedImage backgroundImage = noise(new Random(1));
+        SnapshotRenderer full = new SnapshotRenderer();
+        DirtyRectRenderer dirty = new DirtyRectRenderer(new SnapshotRenderer(), WIDTH, HEIGHT, SCROLL_STEP);
+        BackgroundLayer fullBackground = new BackgroundLayer(backgroundImage);
+        BackgroundLayer dirtyBackground = new BackgroundLayer(backgroundImage);
+        BufferedImage screen = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        BufferedImage expected = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+        Random random = new Random(9);
+        int[] x = new int[12];
+        int[] y = new int[12];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextInt(WIDTH);
+            y[i] = random.nextInt(HEIGHT);
+        }
+        SnapshotExchange exchange = new SnapshotExchange();
+        for (int frame = 0; frame < 60; frame++) {
+            RenderSnapshot snapshot = exchange.beginWrite();
+            snapshot.reset(frame / 10 * SCROLL_STEP % HEIGHT, 0, 0);
+            int count = 4 + frame % 9;
+            for (int i = 0; i < count; i++) {
+                // Half of the sprites stay still, the others wander and may leave the screen
+                if (i % 2 == 1) {
+                    x[i] += random.nextInt(9) - 4;
+                    y[i] += random.nextInt(9) - 4;
+                }
+                snapshot.add(TYPES[i % TYPES.length], i, Fixed.of(x[i]), Fixed.of(y[i]));
+            }
+            exchange.publish();
+            exchange.poll();
+
+            dirty.render(dirtyBackground, exchange.previous(), exchange.current(), 1.0);
+            Graphics2D g = screen.createGraphics();
+            dirty.present(g);
+            g.dispose();
+
+            g = expected.createGraphics();
+            full.paint(g, fullBackground, HEIGHT, exchange.previous(), exchange.current(), 1.0);
+            g.dispose();
+            assertSamePixels(expected, screen, frame);
+        }
+    }
+
+    /**
+     * Test Case ID: DR002
+     * Method Under Test: DirtyRectRenderer.render(), DirtyRectRenderer.markDirty(),
+     * DirtyRectRenderer.invalidate()
+     * Description: The first frame repaints the whole screen, a frame where nothing
+     * changed repaints nothing, one moving bullet repaints only its old and new bounds,
+     * a marked area is repainted, and invalidate() forces a full repaint
+     */
+    @Test
+    @DisplayName("Test render() - Quiet frames repaint only what changed")
+    void testQuietFrames() {
+        DirtyRectRenderer dirty = new DirtyRectRenderer(new SnapshotRenderer(), WIDTH, HEIGHT, SCROLL_STEP);
+        BackgroundLayer background = new BackgroundLayer(noise(new Random(2)));
+        SnapshotExchange exchange = new SnapshotExchange();
+        int bulletWidth = SpriteType.HERO_BULLET.getWidth();
+        int bulletHeight = SpriteType.HERO_BULLET.getHeight();
+
+        render(dirty, background, exchange, 40);
+        assertEquals((long) WIDTH * HEIGHT, dirty.getRepaintedPixels(), "The first frame is a full repaint");
+        render(dirty, background, exchange, 40);
+        assertEquals(0, dirty.getRepaintedPixels(), "Nothing changed");
+        render(dirty, background, exchange, 37);
+        assertEquals((long) bulletWidth * (bulletHeight + 3), dirty.getRepaintedPixels(),
+            "A bullet moving up by 3 px repaints the union of its old and new bounds");
+
+        dirty.markDirty(0, 0, 20, 10);
+        render(dirty, background, exchange, 37);
+        assertEquals(200, dirty.getRepaintedPixels(), "Only the marked area is repainted");
+
+        dirty.invalidate();
+        render(dirty, background, exchange, 37);
+        assertEquals((long) WIDTH * HEIGHT, dirty.getRepaintedPixels(), "invalidate() forces a full repaint");
+    }
+
+    private static void render(DirtyRectRenderer dirty, BackgroundLayer background, SnapshotExchange exchange,
+                               int bulletY) {
+        RenderSnapshot snapshot = exchange.beginWrite();
+        snapshot.reset(0, 0, 0);
+        snapshot.add(SpriteType.BLOOD_PROP, 1, Fixed.of(100), Fixed.of(120));
+        snapshot.add(SpriteType.HERO_BULLET, 2, Fixed.of(30), Fixed.of(bulletY));
+        exchange.publish();
+        exchange.poll();
+        dirty.render(background, exchange.previous(), exchange.current(), 1.0);
+        BufferedImage screen = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = screen.createGraphics();
+        dirty.present(g);
+        g.dispose();
+    }
+
+    private static BufferedImage noise(Random random) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int py = 0; py < HEIGHT; py++) {
+            for (int px = 0; px < WIDTH; px++) {
+                image.setRGB(px, py, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual, int frame) {
+        for (int py = 0; py < HEIGHT; py++) {
+            for (int px = 0; px < WIDTH; px++) {
+                if (expected.getRGB(px, py) != actual.getRGB(px, py)) {
+                    fail("Frame " + frame + " differs at " + px + "," + py);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package edu.hitsz.render;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HudLayer Unit Test Class
+ * Verifying that the glyph-built HUD looks like the text it replaces, is only
+ * rebuilt when its values change, and does not allocate per frame
+ */
+class HudLayerTest {
+
+    private static final Font FONT = new Font("SansSerif", Font.BOLD, 22);
+    private static final Color COLOR = new Color(16711680);
+
+    /**
+     * Test Case ID: HL001
+     * Method Under Test: HudLayer.update(), HudLayer.draw()
+     * Description: For zero, negative, typical and extreme values the HUD drawn from
+     * glyphs is pixel for pixel the same as drawString of the concatenated text
+     */
+    @Test
+    @DisplayName("Test draw() - Glyph HUD matches drawString")
+    void testMatchesDrawString() {
+        HudLayer hud = new HudLayer(FONT, COLOR);
+        int[][] values = {{0, 1000}, {1234567890, -5}, {Integer.MAX_VALUE, Integer.MIN_VALUE}, {90, 70}};
+        for (int[] value : values) {
+            hud.update(value[0], value[1]);
+            BufferedImage actual = new BufferedImage(hud.getWidth(), hud.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = actual.createGraphics();
+            hud.draw(g);
+            g.dispose();
+
+            BufferedImage expected = new BufferedImage(hud.getWidth(), hud.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            g = expected.createGraphics();
+            g.setFont(FONT);
+            g.setColor(COLOR);
+            g.drawString("SCORE:" + value[0], 10, 25);
+            g.drawString("LIFE:" + value[1], 10, 45);
+            g.dispose();
+
+            int ink = 0;
+            for (int y = 0; y < expected.getHeight(); y++) {
+                for (int x = 0; x < expected.getWidth(); x++) {
+                    ink += expected.getRGB(x, y) >>> 24 == 0 ? 0 : 1;
+                    assertEquals(expected.getRGB(x, y), actual.getRGB(x, y),
+                        "Score " + value[0] + ", life " + value[1] + " differs at " + x + "," + y);
+                }
+            }
+            assertTrue(ink > 0, "The reference text should not be empty");
+        }
+    }
+
+    /**
+     * Test Case ID: HL002
+     * Method Under Test: HudLayer.update(), HudLayer.draw()
+     * Description: The HUD image is rebuilt only when the score or the life changes,
+     * and a frame that only draws the cached image allocates nothing
+     */
+    @Test
+    @DisplayName("Test update() - Rebuilt only on change, frames do not allocate")
+    void testRedrawOnlyOnChange() {
+        HudLayer hud = new HudLayer(FONT, COLOR);
+        assertTrue(hud.update(0, 100), "The first update draws the HUD");
+        assertFalse(hud.update(0, 100));
+        assertTrue(hud.update(10, 100));
+        assertTrue(hud.update(10, 90));
+        assertFalse(hud.update(10, 90));
+        assertEquals(3, hud.getRedrawCount());
+
+        BufferedImage screen = new BufferedImage(512, 768, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = screen.createGraphics();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Warm up so class loading and pipeline caches are not counted
+        frames(hud, g, 50_000);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rounds = 10_000;
+        frames(hud, g, rounds);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        g.dispose();
+
+        assertTrue(allocated < rounds,
+            "Drawing an unchanged HUD should not allocate, but " + allocated + " bytes were allocated");
+    }
+
+    private static void frames(HudLayer hud, Graphics2D g, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            hud.update(10, 90);
+            hud.draw(g);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package edu.hitsz.render;
+
+import edu.hitsz.application.ImageManager;
+import edu.hitsz.basic.Fixed;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Frame rendering benchmark
+ * Draws a typical busy frame (both background blits plus enemies, bullets and props)
+ * into a back buffer, with the images exactly as ImageIO returns them, with the
+ * compatible copies made by ImageManager, and with the background drawn through
+ * a BackgroundLayer, and with the sprites drawn as regions of one SpriteAtlas,
+ * and reports the mean frame time of each. A quiet scene (a few enemies and bullets)
+ * is then drawn with full repaints and with the DirtyRectRenderer, and the score
+ * and life text with drawString and with a HudLayer.
+ * <br>
+ * Run from the project root: java edu.hitsz.render.RenderBenchmark
+ * (add -Djava.awt.headless=true to measure the software pipeline only)
+ */
+public class RenderBenchmark {
+
+    private static final int FRAMES = 600;
+    private static final int ROUNDS = 5;
+    private static final int WIDTH = 512;
+    private static final int HEIGHT = 768;
+
+    private static final String[] SPRITES = {
+        "mob.png", "elite.png", "elitePlus.png", "bullet_hero.png", "bullet_enemy.png",
+        "prop_blood.png", "prop_bomb.png", "hero.png"
+    };
+    private static final int[] COUNTS = {8, 3, 1, 80, 40, 2, 1, 1};
+
+    public static void main(String[] args) throws IOException {
+        BufferedImage rawBackground = ImageIO.read(new File("src/images/bg2.jpg"));
+        BufferedImage[] raw = new BufferedImage[SPRITES.length];
+        BufferedImage[] compatible = new BufferedImage[SPRITES.length];
+        for (int i = 0; i < SPRITES.length; i++) {
+            raw[i] = ImageIO.read(new File("src/images/" + SPRITES[i]));
+            compatible[i] = ImageManager.toCompatibleImage(raw[i], Transparency.TRANSLUCENT);
+        }
+        BufferedImage compatibleBackground = ImageManager.toCompatibleImage(rawBackground, Transparency.OPAQUE);
+        BackgroundLayer layer = new BackgroundLayer(compatibleBackground);
+        SpriteAtlas atlas = SpriteAtlas.build(compatible);
+        System.out.println("Atlas " + atlas.getImage().getWidth() + "x" + atlas.getImage().getHeight()
+            + " holds " + atlas.getRegionCount() + " sprites");
+
+        BufferedImage backBuffer = GraphicsEnvironment.isHeadless()
+            ? new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(WIDTH, HEIGHT, Transparency.OPAQUE);
+        System.out.println("Background type " + rawBackground.getType() + " -> " + compatibleBackground.getType()
+            + ", back buffer type " + backBuffer.getType());
+
+        run("ImageIO images", backBuffer, (g, top) -> {
+            g.drawImage(rawBackground, 0, top - HEIGHT, null);
+            g.drawImage(rawBackground, 0, top, null);
+        }, images(raw));
+        run("compatible images", backBuffer, (g, top) -> {
+            g.drawImage(compatibleBackground, 0, top - HEIGHT, null);
+            g.drawImage(compatibleBackground, 0, top, null);
+        }, images(compatible));
+        run("compatible + volatile bg", backBuffer, (g, top) -> {
+            layer.draw(g, 0, top - HEIGHT);
+            layer.draw(g, 0, top);
+        }, images(compatible));
+        run("volatile bg + atlas", backBuffer, (g, top) -> {
+            layer.draw(g, 0, top - HEIGHT);
+            layer.draw(g, 0, top);
+        }, atlas::draw);
+
+        runQuiet("quiet scene, full repaint", backBuffer, layer, null);
+        runQuiet("quiet scene, dirty rects", backBuffer, layer,
+            new DirtyRectRenderer(new SnapshotRenderer(), WIDTH, HEIGHT, 32));
+
+        runHud("HUD drawString", backBuffer, null);
+        runHud("HUD cached glyphs", backBuffer, new HudLayer());
+    }
+
+    /**
+     * Score and life as in a game where the score changes about once a second
+     */
+    private static void runHud(String name, BufferedImage backBuffer, HudLayer hud) {
+        long best = Long.MAX_VALUE;
+        Graphics g = backBuffer.getGraphics();
+        for (int round = 0; round < ROUNDS + 1; round++) {
+            long start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                int score = frame / 60 * 10;
+                if (hud == null) {
+                    g.setColor(new Color(16711680));
+                    g.setFont(new Font("SansSerif", Font.BOLD, 22));
+                    g.drawString("SCORE:" + score, 10, 25);
+                    g.drawString("LIFE:" + 1000, 10, 45);
+                } else {
+                    hud.update(score, 1000);
+                    hud.draw(g);
+                }
+            }
+            long time = System.nanoTime() - start;
+            if (round > 0) {
+                best = Math.min(best, time);
+            }
+        }
+        g.dispose();
+        System.out.printf("%-26s %7.3f ms/frame%n", name, best / 1e6 / FRAMES);
+    }
+
+    /**
+     * Hero, three mobs and a dozen bullets over a background that scrolls one pixel
+     * every other frame, as at 25 simulation ticks and 50 frames per second
+     */
+    private static void runQuiet(String name, BufferedImage backBuffer, BackgroundLayer layer, DirtyRectRenderer dirty) {
+        SnapshotRenderer full = new SnapshotRenderer();
+        SnapshotExchange exchange = new SnapshotExchange();
+        long best = Long.MAX_VALUE;
+        long pixels = 0;
+        Graphics g = backBuffer.getGraphics();
+        for (int round = 0; round < ROUNDS + 1; round++) {
+            pixels = 0;
+            long start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                RenderSnapshot snapshot = exchange.beginWrite();
+                snapshot.reset(frame / 2 % HEIGHT, 0, 0);
+                snapshot.add(SpriteType.HERO, 0, Fixed.of(WIDTH / 2), Fixed.of(HEIGHT - 100));
+                for (int i = 1; i <= 3; i++) {
+                    snapshot.add(SpriteType.MOB_ENEMY, i, Fixed.of(i * 120), Fixed.of((frame + i * 200) % HEIGHT));
+                }
+                for (int i = 4; i < 16; i++) {
+                    snapshot.add(SpriteType.HERO_BULLET, i, Fixed.of(WIDTH / 2), Fixed.of(HEIGHT - (frame * 10 + i * 60) % HEIGHT));
+                }
+                exchange.publish();
+                exchange.poll();
+                if (dirty == null) {
+                    full.paint(g, layer, HEIGHT, exchange.previous(), exchange.current(), 1.0);
+                    pixels += (long) WIDTH * HEIGHT;
+                } else {
+                    dirty.render(layer, exchange.previous(), exchange.current(), 1.0);
+                    dirty.present(g);
+                    pixels += dirty.getRepaintedPixels();
+                }
+            }
+            long time = System.nanoTime() - start;
+            if (round > 0) {
+                best = Math.min(best, time);
+            }
+        }
+        g.dispose();
+        System.out.printf("%-26s %7.3f ms/frame, %5.1f%% of the screen repainted%n", name, best / 1e6 / FRAMES,
+            100.0 * pixels / FRAMES / WIDTH / HEIGHT);
+    }
+
+    private interface Background {
+        void draw(Graphics g, int top);
+    }
+
+    private interface Sprites {
+        void draw(Graphics g, int kind, int centerX, int centerY);
+    }
+
+    private static Sprites images(BufferedImage[] sprites) {
+        return (g, kind, centerX, centerY) -> {
+            BufferedImage image = sprites[kind];
+            g.drawImage(image, centerX - image.getWidth() / 2, centerY - image.getHeight() / 2, null);
+        };
+    }
+
+    private static void run(String name, BufferedImage backBuffer, Background background, Sprites sprites) {
+        Random random = new Random(3);
+        int total = 0;
+        for (int count : COUNTS) {
+            total += count;
+        }
+        int[] kind = new int[total];
+        int[] x = new int[total];
+        int[] y = new int[total];
+        for (int i = 0, k = 0; k < COUNTS.length; k++) {
+            for (int n = 0; n < COUNTS[k]; n++, i++) {
+                kind[i] = k;
+                x[i] = random.nextInt(WIDTH);
+                y[i] = random.nextInt(HEIGHT);
+            }
+        }
+
+        long best = Long.MAX_VALUE;
+        Graphics g = backBuffer.getGraphics();
+        for (int round = 0; round < ROUNDS + 1; round++) {
+            long start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                background.draw(g, frame % HEIGHT);
+                for (int i = 0; i < total; i++) {
+                    sprites.draw(g, kind[i], x[i], (y[i] + frame * 4) % HEIGHT);
+                }
+            }
+            long time = System.nanoTime() - start;
+            // The first round only warms up the JIT and the pipeline caches
+            if (round > 0) {
+                best = Math.min(best, time);
+            }
+        }
+        g.dispose();
+        System.out.printf("%-26s %7.3f ms/frame%n", name, best / 1e6 / FRAMES);
+    }
+}
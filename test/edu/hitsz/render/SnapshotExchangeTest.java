@@ -0,0 +1,99 @@
+package edu.hitsz.render;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SnapshotExchange Unit Test Class
+ * Verifying that the lock-free exchange never hands the renderer a snapshot that is
+ * being written, and that previous/current always hold consecutive publications
+ */
+class SnapshotExchangeTest {
+
+    /**
+     * Test Case ID: SX001
+     * Method Under Test: SnapshotExchange.publish(), SnapshotExchange.poll()
+     * Description: Only the latest snapshot is returned, the previous frame becomes
+     * previous(), and polling without a new publication changes nothing
+     */
+    @Test
+    @DisplayName("Test poll() - Latest snapshot becomes current, old current becomes previous")
+    void testPollOrder() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        assertFalse(exchange.poll(), "Nothing has been published yet");
+
+        for (int frame = 1; frame <= 3; frame++) {
+            RenderSnapshot snapshot = exchange.beginWrite();
+            snapshot.reset(0, frame, 0);
+            exchange.publish();
+        }
+        assertTrue(exchange.poll());
+        assertEquals(3, exchange.current().getScore(), "Intermediate snapshots are skipped");
+        assertFalse(exchange.poll(), "Polling again without a publication returns nothing new");
+
+        RenderSnapshot snapshot = exchange.beginWrite();
+        snapshot.reset(0, 4, 0);
+        exchange.publish();
+        assertTrue(exchange.poll());
+        assertEquals(3, exchange.previous().getScore());
+        assertEquals(4, exchange.current().getScore());
+    }
+
+    /**
+     * Test Case ID: SX002
+     * Method Under Test: SnapshotExchange (concurrent use)
+     * Description: A producer thread publishes snapshots whose every entry carries the
+     * frame number while the test thread renders; every snapshot the renderer holds
+     * must be internally consistent and sequences must never go backwards
+     */
+    @Test
+    @DisplayName("Test concurrent use - Renderer never sees a snapshot being written")
+    void testConcurrentConsistency() throws InterruptedException {
+        SnapshotExchange exchange = new SnapshotExchange();
+        int frames = 200_000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            for (int frame = 1; frame <= frames; frame++) {
+                RenderSnapshot snapshot = exchange.beginWrite();
+                snapshot.reset(frame, frame, frame);
+                // Vary the size so arrays also grow while the renderer is reading
+                for (int i = 0; i < frame % 300; i++) {
+                    snapshot.add(SpriteType.HERO_BULLET, i, frame, frame);
+                }
+                exchange.publish();
+            }
+        });
+        producer.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        producer.start();
+
+        long lastSequence = 0;
+        int polls = 0;
+        while (true) {
+            // Read liveness first so a final publication is still polled after the producer ends
+            boolean producerAlive = producer.isAlive();
+            if (!exchange.poll()) {
+                if (!producerAlive) {
+                    break;
+                }
+                continue;
+            }
+            polls++;
+            RenderSnapshot current = exchange.current();
+            assertTrue(current.getSequence() > lastSequence, "Sequence went backwards");
+            assertTrue(exchange.previous().getSequence() < current.getSequence());
+            lastSequence = current.getSequence();
+            int frame = current.getScore();
+            assertEquals(frame % 300, current.size(), "Snapshot size torn at frame " + frame);
+            for (int i = 0; i < current.size(); i++) {
+                assertEquals(frame, current.getX(i), "Entry torn at frame " + frame);
+            }
+        }
+        producer.join();
+        assertNull(failure.get());
+        assertEquals(frames, exchange.current().getScore(), "The last publication must be seen");
+        assertTrue(polls > 0);
+    }
+}
@@ -0,0 +1,140 @@
+package edu.hitsz.render;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpriteAtlas Unit Test Class
+ * Verifying the rectangle packer, region drawing and the on-disk atlas cache
+ */
+class SpriteAtlasTest {
+
+    /**
+     * Test Case ID: SA001
+     * Method Under Test: RectPacker.pack()
+     * Description: Random rectangles are all placed inside the bin without
+     * overlapping, and the returned height covers every placed rectangle
+     */
+    @Test
+    @DisplayName("Test pack() - Rectangles fit the bin without overlap")
+    void testPackWithoutOverlap() {
+        Random random = new Random(23);
+        int n = 60;
+        int[] widths = new int[n];
+        int[] heights = new int[n];
+        for (int i = 0; i < n; i++) {
+            widths[i] = 1 + random.nextInt(120);
+            heights[i] = 1 + random.nextInt(90);
+        }
+        int[] x = new int[n];
+        int[] y = new int[n];
+        int height = RectPacker.pack(256, widths, heights, x, y);
+
+        for (int i = 0; i < n; i++) {
+            assertTrue(x[i] >= 0 && x[i] + widths[i] <= 256, "Rectangle " + i + " leaves the bin");
+            assertTrue(y[i] >= 0 && y[i] + heights[i] <= height, "Rectangle " + i + " is below the returned height");
+            for (int j = 0; j < i; j++) {
+                boolean overlap = x[i] < x[j] + widths[j] && x[j] < x[i] + widths[i]
+                        && y[i] < y[j] + heights[j] && y[j] < y[i] + heights[i];
+                assertFalse(overlap, "Rectangles " + i + " and " + j + " overlap");
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> RectPacker.pack(16, new int[]{17}, new int[]{1}, new int[1], new int[1]));
+    }
+
+    /**
+     * Test Case ID: SA002
+     * Method Under Test: SpriteAtlas.build(), SpriteAtlas.draw()
+     * Description: Drawing a region centred on a point reproduces the source
+     * image pixel for pixel, and nothing from neighbouring regions
+     */
+    @Test
+    @DisplayName("Test draw() - Regions reproduce their source images")
+    void testRegionsMatchSources() {
+        Random random = new Random(5);
+        BufferedImage[] sprites = new BufferedImage[7];
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = new BufferedImage(5 + random.nextInt(40), 5 + random.nextInt(40), BufferedImage.TYPE_INT_ARGB);
+            for (int py = 0; py < sprites[i].getHeight(); py++) {
+                for (int px = 0; px < sprites[i].getWidth(); px++) {
+                    sprites[i].setRGB(px, py, 0xFF000000 | random.nextInt(0x1000000));
+                }
+            }
+        }
+        SpriteAtlas atlas = SpriteAtlas.build(sprites);
+        assertEquals(sprites.length, atlas.getRegionCount());
+
+        for (int i = 0; i < sprites.length; i++) {
+            BufferedImage source = sprites[i];
+            BufferedImage target = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = target.createGraphics();
+            atlas.draw(g, i, 50, 50);
+            g.dispose();
+            int left = 50 - source.getWidth() / 2;
+            int top = 50 - source.getHeight() / 2;
+            for (int py = 0; py < 100; py++) {
+                for (int px = 0; px < 100; px++) {
+                    boolean inside = px >= left && px < left + source.getWidth()
+                            && py >= top && py < top + source.getHeight();
+                    int expected = inside ? source.getRGB(px - left, py - top) : 0;
+                    assertEquals(expected, target.getRGB(px, py), "Region " + i + " at " + px + "," + py);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test Case ID: SA003
+     * Method Under Test: SpriteAtlas.create()
+     * Description: Every sprite type gets a region of its recorded size, the atlas
+     * is written to the cache file, and a second atlas read from the cache has the
+     * same layout and pixels
+     */
+    @Test
+    @DisplayName("Test create() - Sprite types are packed and cached")
+    void testCreateWithCache(@TempDir Path cacheDir) {
+        File cacheFile = cacheDir.resolve("atlas.png").toFile();
+        SpriteAtlas built = SpriteAtlas.create(cacheFile);
+        assertTrue(cacheFile.isFile(), "The atlas should be cached");
+        for (SpriteType type : SpriteType.values()) {
+            assertEquals(type.getWidth(), built.getRegionWidth(type.getRegion()), type.name());
+            assertEquals(type.getHeight(), built.getRegionHeight(type.getRegion()), type.name());
+        }
+
+        SpriteAtlas cached = SpriteAtlas.create(cacheFile);
+        assertNotSame(built.getImage(), cached.getImage());
+        for (int region = 0; region < built.getRegionCount(); region++) {
+            assertEquals(built.getRegionX(region), cached.getRegionX(region));
+            assertEquals(built.getRegionY(region), cached.getRegionY(region));
+        }
+        BufferedImage expected = built.getImage();
+        BufferedImage actual = cached.getImage();
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int py = 0; py < expected.getHeight(); py++) {
+            for (int px = 0; px < expected.getWidth(); px++) {
+                int a = expected.getRGB(px, py);
+                int b = actual.getRGB(px, py);
+                // The premultiplied round trip rounds the colour of translucent pixels
+                int alpha = a >>> 24;
+                assertEquals(alpha, b >>> 24, "Alpha differs at " + px + "," + py);
+                if (alpha > 0) {
+                    int tolerance = 255 / alpha + 1;
+                    for (int shift = 0; shift < 24; shift += 8) {
+                        int difference = Math.abs(((a >> shift) & 0xFF) - ((b >> shift) & 0xFF));
+                        assertTrue(difference <= tolerance, "Colour differs at " + px + "," + py);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package edu.hitsz.render;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpriteType Unit Test Class
+ * Verifying that the sprite metadata table agrees with the images it stands in for
+ */
+class SpriteTypeTest {
+
+    /**
+     * Test Case ID: SP001
+     * Method Under Test: SpriteType.getWidth(), SpriteType.getHeight(), SpriteType.getMask()
+     * Description: The recorded sizes equal the decoded image sizes, and every
+     * collision mask covers its whole sprite
+     */
+    @Test
+    @DisplayName("Test metadata - Sizes and masks match the decoded images")
+    void testMetadataMatchesImages() {
+        for (SpriteType type : SpriteType.values()) {
+            BufferedImage image = type.getImage();
+            assertNotNull(image, "No image for " + type);
+            assertEquals(image.getWidth(), type.getWidth(), "Width differs for " + type);
+            assertEquals(image.getHeight(), type.getHeight(), "Height differs for " + type);
+            assertEquals(type.getWidth(), type.getMask().getWidth(), "Mask width differs for " + type);
+            assertEquals(type.getHeight(), type.getMask().getHeight(), "Mask height differs for " + type);
+        }
+    }
+}
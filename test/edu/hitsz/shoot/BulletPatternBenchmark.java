@@ -0,0 +1,58 @@
+package edu.hitsz.shoot;
+
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletSink;
+
+/**
+ * Bullet pattern benchmark
+ * Times one large ring volley computed with Math.cos/Math.sin per bullet, as
+ * CircleShootStrategy used to do, against the same volley walked from a compiled
+ * BulletPattern table.
+ * <br>
+ * Run from the project root: java edu.hitsz.shoot.BulletPatternBenchmark
+ */
+public class BulletPatternBenchmark {
+
+    private static final int VOLLEYS = 20_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Sums the emitted values so the JIT cannot drop the work
+     */
+    private static long checksum = 0;
+
+    private static final BulletSink SINK = (x, y, speedX, speedY, power) -> checksum += x + y + speedX + speedY;
+
+    public static void main(String[] args) {
+        for (int count : new int[]{20, 200, 1000}) {
+            System.out.println("bullets per volley " + count);
+            BulletPattern pattern = BulletPattern.builder().spiral(count, 6, 7, 16).build();
+            long trig = Long.MAX_VALUE;
+            long table = Long.MAX_VALUE;
+            for (int round = 0; round <= ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int volley = 0; volley < VOLLEYS; volley++) {
+                    double offset = Math.toRadians((volley % 16) * 7);
+                    for (int i = 0; i < count; i++) {
+                        double angle = 2 * Math.PI * i / count + offset;
+                        SINK.emit(Fixed.of(256), Fixed.of(150), Fixed.of(6 * Math.cos(angle)), Fixed.of(6 * Math.sin(angle)), 20);
+                    }
+                }
+                long trigTime = System.nanoTime() - start;
+                start = System.nanoTime();
+                for (int volley = 0; volley < VOLLEYS; volley++) {
+                    pattern.emit(SINK, Fixed.of(256), Fixed.of(150), 0, 0, 20, volley);
+                }
+                long tableTime = System.nanoTime() - start;
+                // Round 0 only warms up the JIT
+                if (round > 0) {
+                    trig = Math.min(trig, trigTime);
+                    table = Math.min(table, tableTime);
+                }
+            }
+            System.out.printf("  %-14s %8.1f ns/bullet%n", "Math.cos/sin", (double) trig / VOLLEYS / count);
+            System.out.printf("  %-14s %8.1f ns/bullet%n", "BulletPattern", (double) table / VOLLEYS / count);
+        }
+        System.out.println("checksum " + checksum);
+    }
+}
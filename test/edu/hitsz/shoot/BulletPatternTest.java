@@ -0,0 +1,146 @@
+package edu.hitsz.shoot;
+
+import edu.hitsz.aircraft.BossEnemy;
+import edu.hitsz.aircraft.ElitePlusEnemy;
+import edu.hitsz.basic.Fixed;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.bullet.EnemyBullet;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulletPattern Unit Test Class
+ * Verifying that compiled velocity tables reproduce the trigonometric patterns
+ * and that the aimed-direction quantiser picks the nearest direction
+ */
+class BulletPatternTest {
+
+    /**
+     * Test Case ID: BP001
+     * Method Under Test: ScatterShootStrategy.shootInto()
+     * Description: A 3-bullet, 30-degree fan keeps the original scatter volley:
+     * x offsets -10/0/+10 with lateral speeds -3/0/+3, in both directions, and fans
+     * whose outer bullets would reach 90 degrees are rejected
+     */
+    @Test
+    @DisplayName("Test fan() - Scatter volley keeps its original shape")
+    void testScatterMatchesOriginal() {
+        ElitePlusEnemy enemy = new ElitePlusEnemy(300, 100, -3, 10, 120);
+        for (int direction : new int[]{1, -1}) {
+            BulletStore store = new BulletStore(EnemyBullet.class, 4);
+            new ScatterShootStrategy(3, 20, direction, 30).shootInto(enemy, store);
+            Set<String> expected = new HashSet<>();
+            int y = 100 + direction * 2;
+            int speedY = 10 + direction * 5;
+            expected.add("290," + y + ",-3," + speedY);
+            expected.add("300," + y + ",0," + speedY);
+            expected.add("310," + y + ",3," + speedY);
+            assertEquals(expected, describe(store), "Direction " + direction);
+        }
+        // The outer bullets of 7 bullets 30 degrees apart would fly sideways at 90 degrees
+        assertThrows(IllegalArgumentException.class, () -> new ScatterShootStrategy(7, 20, 1, 30));
+        assertThrows(IllegalArgumentException.class, () -> BulletPattern.builder().fan(4, 5, -60, 10));
+        assertDoesNotThrow(() -> BulletPattern.builder().fan(7, 5, 29, 10));
+    }
+
+    /**
+     * Test Case ID: BP002
+     * Method Under Test: BulletPattern.emit()
+     * Description: Every phase of a rotating ring equals the ring evaluated with
+     * Math.cos/Math.sin at the rotated angles to fixed-point precision, and phases wrap around
+     */
+    @Test
+    @DisplayName("Test emit() - Rotating ring matches trigonometry at every phase")
+    void testRotatingRingMatchesTrig() {
+        int count = 24;
+        double speed = 7.5;
+        int volleys = 5;
+        double degrees = 3;
+        BulletPattern pattern = BulletPattern.builder().spiral(count, speed, degrees, volleys).build();
+        for (int phase = 0; phase < volleys * 2; phase++) {
+            BulletStore store = new BulletStore(EnemyBullet.class, 4);
+            pattern.emit(store, Fixed.of(200), Fixed.of(300), Fixed.of(1), Fixed.of(2), 10, phase);
+            assertEquals(count, store.size());
+            for (int i = 0; i < count; i++) {
+                double angle = 2 * Math.PI * i / count + Math.toRadians((phase % volleys) * degrees);
+                assertEquals(200, store.getLocationX(i));
+                assertEquals(300, store.getLocationY(i));
+                // Rotating the table entry and evaluating at the rotated angle may differ in the last bit
+                assertEquals(Fixed.of(1) + Fixed.of(speed * Math.cos(angle)), store.getFixedSpeedX(i), 1);
+                assertEquals(Fixed.of(2) + Fixed.of(speed * Math.sin(angle)), store.getFixedSpeedY(i), 1);
+            }
+        }
+    }
+
+    /**
+     * Test Case ID: BP003
+     * Method Under Test: BulletPattern.phaseToward()
+     * Description: The trig-free quantiser returns the direction nearest to the
+     * target, as computed with atan2, for random offsets in every quadrant
+     */
+    @Test
+    @DisplayName("Test phaseToward() - Nearest direction without trigonometry")
+    void testPhaseTowardMatchesAtan2() {
+        Random random = new Random(17);
+        for (int directions : new int[]{16, 64}) {
+            BulletPattern pattern = BulletPattern.builder().ring(1, 8).aimed(directions).build();
+            double step = 2 * Math.PI / directions;
+            for (int n = 0; n < 20_000; n++) {
+                int dx = random.nextInt(2001) - 1000;
+                int dy = random.nextInt(2001) - 1000;
+                if (dx == 0 && dy == 0) {
+                    continue;
+                }
+                // Forward is +y; phases rotate from +y towards -x
+                double angle = Math.atan2(-dx, dy);
+                int expected = Math.floorMod((int) Math.round(angle / step), directions);
+                assertEquals(expected, pattern.phaseToward(dx, dy), "Offset (" + dx + ", " + dy + ")");
+            }
+            assertEquals(0, pattern.phaseToward(0, 0));
+        }
+    }
+
+    /**
+     * Test Case ID: BP004
+     * Method Under Test: PatternShootStrategy.shootInto()
+     * Description: Consecutive boss volleys alternate between two interleaved rings,
+     * and aimed volleys head towards the target
+     */
+    @Test
+    @DisplayName("Test shootInto() - Boss volleys rotate, aimed volleys follow the target")
+    void testPatternStrategy() {
+        BossEnemy boss = new BossEnemy(256, 150, 5, 0, 500);
+        List<Set<String>> volleys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            BulletStore store = new BulletStore(EnemyBullet.class, 4);
+            boss.shootInto(store);
+            assertEquals(20, store.size());
+            volleys.add(describe(store));
+        }
+        assertNotEquals(volleys.get(0), volleys.get(1), "Second volley should be rotated");
+        assertEquals(volleys.get(0), volleys.get(2), "Pattern repeats every two volleys");
+
+        BossEnemy target = new BossEnemy(456, 150, 0, 0, 500);
+        BulletPattern aimed = BulletPattern.builder().fan(1, 10, 0, 0).aimed(32).build();
+        BulletStore store = new BulletStore(EnemyBullet.class, 4);
+        new PatternShootStrategy(aimed, 10, target).shootInto(boss, store);
+        assertEquals(0, store.getSpeedY(0));
+        assertEquals(10, store.getSpeedX(0), "Bullet should fly towards the target on the right");
+    }
+
+    private static Set<String> describe(BulletStore store) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < store.size(); i++) {
+            result.add(store.getLocationX(i) + "," + store.getLocationY(i) + ","
+                + store.getSpeedX(i) + "," + store.getSpeedY(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package edu.hitsz.shoot;
+
+import edu.hitsz.aircraft.AbstractAircraft;
+import edu.hitsz.aircraft.BossEnemy;
+import edu.hitsz.aircraft.EliteEnemy;
+import edu.hitsz.aircraft.ElitePlusEnemy;
+import edu.hitsz.aircraft.HeroAircraft;
+import edu.hitsz.aircraft.MobEnemy;
+import edu.hitsz.bullet.BaseBullet;
+import edu.hitsz.bullet.BulletStore;
+import edu.hitsz.bullet.EnemyBullet;
+import edu.hitsz.bullet.HeroBullet;
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShootStrategy Unit Test Class
+ * Verifying the sink-based shootInto() against the list-based shoot(), and that
+ * shooting into a pre-sized bullet store allocates nothing
+ */
+class ShootStrategyTest {
+
+    private HeroAircraft heroAircraft;
+    private AbstractAircraft[] enemies;
+
+    @BeforeEach
+    void setUp() {
+        HeroAircraft.resetInstance();
+        heroAircraft = HeroAircraft.getInstance(256, 700, 0, 0, 1000);
+        enemies = createEnemies();
+    }
+
+    private static AbstractAircraft[] createEnemies() {
+        return new AbstractAircraft[]{
+            new MobEnemy(100, 100, 0, 5, 30),
+            new EliteEnemy(200, 100, 2, 5, 60),
+            new ElitePlusEnemy(300, 100, -3, 10, 120),
+            new BossEnemy(256, 150, 5, 0, 500)
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeroAircraft.resetInstance();
+    }
+
+    /**
+     * Test Case ID: ST001
+     * Method Under Test: ShootStrategy.shootInto(), ShootStrategy.shoot()
+     * Description: Every strategy writes the same bullets into a store as shoot()
+     * returns as objects, and shoot() still picks the bullet class by shooter.
+     * Enemy strategies may advance between volleys (the boss pattern rotates), so
+     * each side shoots the first volley of an identical, freshly created enemy
+     */
+    @Test
+    @DisplayName("Test shootInto() - Same bullets as shoot()")
+    void testShootIntoMatchesShoot() {
+        ShootStrategy[] heroStrategies = {
+            new StraightShootStrategy(1, 30, -1),
+            new ScatterShootStrategy(3, 30, -1, 30),
+            new CircleShootStrategy(20, 30)
+        };
+        for (ShootStrategy strategy : heroStrategies) {
+            heroAircraft.setShootStrategy(strategy);
+            assertSameBullets(heroAircraft, heroAircraft, HeroBullet.class);
+        }
+        AbstractAircraft[] twins = createEnemies();
+        for (int i = 0; i < enemies.length; i++) {
+            assertSameBullets(enemies[i], twins[i], EnemyBullet.class);
+        }
+    }
+
+    /**
+     * Test Case ID: ST002
+     * Method Under Test: AbstractAircraft.shootInto()
+     * Description: Once the bullet store has enough slots, repeated shooting and
+     * slot release through compact() allocate nothing per shot on the calling thread
+     */
+    @Test
+    @DisplayName("Test shootInto() - No allocation per shot in steady state")
+    void testNoAllocationPerShot() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        BulletStore heroBullets = new BulletStore(HeroBullet.class, 64);
+        BulletStore enemyBullets = new BulletStore(EnemyBullet.class, 64);
+        heroAircraft.setShootStrategy(new CircleShootStrategy(20, 30));
+
+        // Warm up so class loading and JIT compilation are not measured
+        shootAndRelease(heroBullets, enemyBullets, 20_000);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rounds = 10_000;
+        shootAndRelease(heroBullets, enemyBullets, rounds);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Any per-shot object would cost at least 16 bytes per round; the counter
+        // itself may report a small constant overhead (a few hundred bytes)
+        assertTrue(allocated < rounds,
+            "Steady-state shooting should not allocate, but " + allocated + " bytes were allocated");
+    }
+
+    private void shootAndRelease(BulletStore heroBullets, BulletStore enemyBullets, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            heroAircraft.shootInto(heroBullets);
+            for (AbstractAircraft enemy : enemies) {
+                enemy.shootInto(enemyBullets);
+            }
+            heroBullets.vanishAll();
+            enemyBullets.vanishAll();
+            heroBullets.compact();
+            enemyBullets.compact();
+        }
+    }
+
+    private static void assertSameBullets(AbstractAircraft aircraft, AbstractAircraft twin,
+                                          Class<? extends BaseBullet> bulletClass) {
+        List<BaseBullet> expected = aircraft.shoot();
+        BulletStore store = new BulletStore(bulletClass, 4);
+        twin.shootInto(store);
+        assertEquals(expected.size(), store.size(), "Bullet count differs for " + aircraft.getClass().getSimpleName());
+        int i = 0;
+        for (BaseBullet bullet : expected) {
+            assertEquals(bulletClass, bullet.getClass());
+            assertEquals(bullet.getLocationX(), store.getLocationX(i));
+            assertEquals(bullet.getLocationY(), store.getLocationY(i));
+            assertEquals(bullet.getSpeedX(), store.getSpeedX(i));
+            assertEquals(bullet.getSpeedY(), store.getSpeedY(i));
+            assertEquals(bullet.getPower(), store.getPower(i));
+            i++;
+        }
+    }
+}